@@ -0,0 +1,119 @@
+package com.example.demo.Engine;
+
+import com.example.demo.Actor.Enemy.EnemyPlane;
+import com.example.demo.Actor.ProjectileStore;
+import com.example.demo.Actor.ProjectileType;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A world that never spawns enemies and never ends, filled with a chosen number of actors so
+ * that the cost of each phase of a tick can be measured at different actor counts.
+ *
+ * <p>It lives in the package of {@link World} so the benchmarks can call the phases of a tick
+ * one at a time.</p>
+ */
+final class BenchmarkWorld extends World {
+
+	/**
+	 * The height of the playfield, matching the game window.
+	 */
+	static final double SCREEN_HEIGHT = 750;
+
+	/**
+	 * The width of the playfield, matching the game window.
+	 */
+	static final double SCREEN_WIDTH = 1300;
+
+	private static final int PLAYER_INITIAL_HEALTH = 5;
+
+	/**
+	 * Creates an empty world whose actors are placed and fire from the given seed, so every run
+	 * of a benchmark starts from the same positions and rolls the same numbers. The world runs on
+	 * one thread unless a benchmark sets a parallel stage.
+	 *
+	 * @param seed The master seed of the world.
+	 */
+	BenchmarkWorld(long seed) {
+		super(SCREEN_HEIGHT, SCREEN_WIDTH, PLAYER_INITIAL_HEALTH, new GameRandom(seed));
+		setParallelStage(ParallelStage.SERIAL);
+	}
+
+	/**
+	 * Runs long loops of the world on the common pool, or on the calling thread only.
+	 *
+	 * @param parallel true to split long loops over the common pool.
+	 */
+	void useParallelStage(boolean parallel) {
+		setParallelStage(parallel ? new ParallelStage(ForkJoinPool.commonPool()) : ParallelStage.SERIAL);
+	}
+
+	/**
+	 * Does nothing: the benchmarks add their enemies up front.
+	 */
+	@Override
+	protected void spawnEnemyUnits() {
+	}
+
+	/**
+	 * The benchmark world never ends, whatever happens to the player.
+	 *
+	 * @return Always {@link Outcome#PLAYING}.
+	 */
+	@Override
+	protected Outcome checkIfGameOver() {
+		return Outcome.PLAYING;
+	}
+
+	/**
+	 * Adds enemy planes at random positions on the playfield.
+	 *
+	 * @param count The number of enemy planes to add.
+	 */
+	void addEnemies(int count) {
+		for (int i = 0; i < count; i++) {
+			addEnemyUnit(new EnemyPlane(randomX(), randomY(), getRandom().get(GameRandom.Stream.ENEMY_FIRE)));
+		}
+	}
+
+	/**
+	 * Adds user and enemy projectiles at random positions on the playfield.
+	 *
+	 * @param count The number of projectiles to add to each store.
+	 */
+	void addProjectiles(int count) {
+		spawnProjectiles(getUserProjectiles(), ProjectileType.USER, count);
+		spawnProjectiles(getEnemyProjectiles(), ProjectileType.ENEMY, count);
+	}
+
+	/**
+	 * Adds projectiles of one type at random positions on the playfield.
+	 *
+	 * @param store The store to add the projectiles to.
+	 * @param type  The type of the projectiles.
+	 * @param count The number of projectiles to add.
+	 */
+	void spawnProjectiles(ProjectileStore store, ProjectileType type, int count) {
+		for (int i = 0; i < count; i++) {
+			store.spawn(type, randomX(), randomY());
+		}
+	}
+
+	/**
+	 * Returns a random horizontal position on the playfield.
+	 *
+	 * @return The position.
+	 */
+	double randomX() {
+		return getRandom().nextDouble(GameRandom.Stream.SPAWN, SCREEN_WIDTH);
+	}
+
+	/**
+	 * Returns a random vertical position on the playfield where enemies can be.
+	 *
+	 * @return The position.
+	 */
+	double randomY() {
+		return getRandom().nextDouble(GameRandom.Stream.SPAWN, getEnemyMaximumYPosition());
+	}
+}
@@ -0,0 +1,76 @@
+package com.example.demo.Engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the collision passes of a tick with both broadphases.
+ *
+ * <p>The world is filled once per trial. Collisions destroy projectiles and damage planes, but
+ * destroyed projectiles and planes are still tested, so every invocation does the same work.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+
+	@Param({"10", "100", "1000"})
+	private int enemies;
+
+	@Param({"100", "1000", "10000"})
+	private int projectiles;
+
+	@Param({"grid", "bruteforce"})
+	private String broadphase;
+
+	@Param({"false", "true"})
+	private boolean parallel;
+
+	private BenchmarkWorld world;
+
+	/**
+	 * Fills a world with the enemies and projectiles and selects the broadphase and the stage.
+	 */
+	@Setup
+	public void setUp() {
+		world = new BenchmarkWorld(enemies * 31L + projectiles);
+		world.addEnemies(enemies);
+		world.addProjectiles(projectiles);
+		world.setBroadphase("grid".equals(broadphase)
+				? new SpatialGridBroadphase(BenchmarkWorld.SCREEN_WIDTH, BenchmarkWorld.SCREEN_HEIGHT)
+				: new BruteForceBroadphase());
+		world.useParallelStage(parallel);
+	}
+
+	/**
+	 * All three collision passes, as run by one tick.
+	 */
+	@Benchmark
+	public void handleCollisions() {
+		world.handleUserProjectileCollisions();
+		world.handleEnemyProjectileCollisions();
+		world.handlePlaneCollisions();
+	}
+
+	/**
+	 * User projectiles against enemy units, the pass that grows with both parameters.
+	 */
+	@Benchmark
+	public void handleUserProjectileCollisions() {
+		world.handleUserProjectileCollisions();
+	}
+}
@@ -0,0 +1,103 @@
+package com.example.demo.Engine;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.ProjectileStore;
+import com.example.demo.Actor.ProjectileType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the removal of the actors and projectiles destroyed during a tick.
+ *
+ * <p>Removal changes the world, so before every invocation the removed enemies are put back,
+ * the projectile stores are topped up, and a share of both is destroyed again. That setup is not
+ * timed, but JMH adds a little overhead per invocation; compare results of this benchmark with
+ * each other rather than with the other benchmarks.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RemovalBenchmark {
+
+	@Param({"10", "100", "1000"})
+	private int enemies;
+
+	@Param({"100", "1000", "10000"})
+	private int projectiles;
+
+	@Param({"10", "50"})
+	private int destroyedPercent;
+
+	private BenchmarkWorld world;
+	private List<ActiveActorDestructible> doomedEnemies;
+
+	/**
+	 * Fills a world with the enemies and projectiles and picks the enemies that will be destroyed.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		world = new BenchmarkWorld(enemies * 31L + projectiles);
+		world.addEnemies(enemies);
+		world.addProjectiles(projectiles);
+		doomedEnemies = new ArrayList<>();
+		int stride = 100 / destroyedPercent;
+		for (int i = 0; i < enemies; i += stride) {
+			doomedEnemies.add(world.getEnemyUnits().get(i));
+		}
+	}
+
+	/**
+	 * Restores the full actor counts and destroys the share of them that the next invocation removes.
+	 */
+	@Setup(Level.Invocation)
+	public void destroySome() {
+		for (ActiveActorDestructible enemy : doomedEnemies) {
+			if (!world.getEnemyUnits().contains(enemy)) {
+				enemy.respawn(world.randomX(), world.randomY());
+				world.addEnemyUnit(enemy);
+			}
+			enemy.destroy();
+		}
+		destroySome(world.getUserProjectiles(), ProjectileType.USER);
+		destroySome(world.getEnemyProjectiles(), ProjectileType.ENEMY);
+	}
+
+	/**
+	 * Tops a store up to the projectile count and destroys an evenly spread share of it.
+	 *
+	 * @param store The store to refill.
+	 * @param type  The type of the projectiles in the store.
+	 */
+	private void destroySome(ProjectileStore store, ProjectileType type) {
+		world.spawnProjectiles(store, type, projectiles - store.size());
+		int stride = 100 / destroyedPercent;
+		for (int i = 0; i < store.size(); i += stride) {
+			store.destroy(i);
+		}
+	}
+
+	/**
+	 * Removes the destroyed enemies and projectiles, as at the end of a tick.
+	 */
+	@Benchmark
+	public void removeAllDestroyedActors() {
+		world.removeAllDestroyedActors();
+	}
+}
@@ -0,0 +1,72 @@
+package com.example.demo.Engine;
+
+import com.example.demo.Level.LevelRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the spawning of enemy units in the levels that spawn waves of planes. The boss level
+ * only ever adds its single boss and is left out.
+ *
+ * <p>Every spawn goes into a fresh world of the level, so each one schedules a full wave and
+ * releases the enemies that are due on the first tick, as at the start of a wave; enemies
+ * scheduled for later ticks would otherwise stay scheduled, since the benchmark does not tick.
+ * A spawn takes well under a microsecond, far less than creating a world, so the worlds are not
+ * created per call: each iteration first creates a batch of {@value #BATCH_SIZE} worlds, outside
+ * the measurement, and then spawns into every one of them in a single shot, reported per spawn.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@OperationsPerInvocation(SpawnBenchmark.BATCH_SIZE)
+@Warmup(iterations = 20)
+@Measurement(iterations = 20)
+@Fork(1)
+public class SpawnBenchmark {
+
+	/**
+	 * The number of fresh worlds spawned into per iteration.
+	 */
+	static final int BATCH_SIZE = 2000;
+
+	private static final long SEED = 42;
+
+	@Param({"LevelOne", "LevelTwo"})
+	private String level;
+
+	private final World[] worlds = new World[BATCH_SIZE];
+
+	/**
+	 * Creates the batch of worlds of the level, all with the same seed, so every spawn schedules
+	 * the same wave.
+	 */
+	@Setup(Level.Iteration)
+	public void setUp() {
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			worlds[i] = LevelRegistry.createWorld(level, new GameRandom(SEED));
+		}
+	}
+
+	/**
+	 * Spawns enemies into every empty world of the batch.
+	 */
+	@Benchmark
+	public void spawnEnemyUnits() {
+		for (World world : worlds) {
+			world.spawnEnemyUnits();
+		}
+	}
+}
@@ -0,0 +1,72 @@
+package com.example.demo.Engine;
+
+import com.example.demo.Level.LevelRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures full ticks of each level while the player holds fire and weaves up and down.
+ *
+ * <p>Once a level is won or lost it is started again, so the few ticks that create a new world
+ * are part of the measurement, as they would be for a player who keeps restarting.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TickBenchmark {
+
+	private static final long SEED = 42;
+	private static final int TICKS_PER_SWEEP = 40;
+	private static final int MOVE_UP = PlayerAction.FIRE.mask() | PlayerAction.MOVE_UP.mask();
+	private static final int MOVE_DOWN = PlayerAction.FIRE.mask() | PlayerAction.MOVE_DOWN.mask();
+
+	@Param({"LevelOne", "LevelTwo", "LevelThree"})
+	private String level;
+
+	private World world;
+
+	/**
+	 * Starts the level.
+	 */
+	@Setup(Level.Trial)
+	public void setUp() {
+		world = createWorld();
+	}
+
+	/**
+	 * Runs one tick, starting the level again once it is over.
+	 */
+	@Benchmark
+	public void tick() {
+		if (world.getOutcome() != World.Outcome.PLAYING) {
+			world = createWorld();
+		}
+		long sweep = world.getTickCount() / TICKS_PER_SWEEP;
+		world.setActions(sweep % 2 == 0 ? MOVE_UP : MOVE_DOWN);
+		world.tick();
+	}
+
+	/**
+	 * Creates the world of the level with a fixed seed, so every run plays the same game.
+	 *
+	 * @return The new world.
+	 */
+	private World createWorld() {
+		return LevelRegistry.createWorld(level, new GameRandom(SEED));
+	}
+}
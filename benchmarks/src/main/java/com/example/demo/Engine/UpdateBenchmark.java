@@ -0,0 +1,70 @@
+package com.example.demo.Engine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the phases of a tick that move actors and let enemies fire.
+ *
+ * <p>Actors drift off the playfield during a trial, but nothing culls them here and the cost of
+ * moving an actor does not depend on where it is.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UpdateBenchmark {
+
+	@Param({"10", "100", "1000"})
+	private int enemies;
+
+	@Param({"100", "1000", "10000"})
+	private int projectiles;
+
+	@Param({"false", "true"})
+	private boolean parallel;
+
+	private BenchmarkWorld world;
+
+	/**
+	 * Fills a world with the enemies and projectiles.
+	 */
+	@Setup
+	public void setUp() {
+		world = new BenchmarkWorld(enemies * 31L + projectiles);
+		world.addEnemies(enemies);
+		world.addProjectiles(projectiles);
+		world.useParallelStage(parallel);
+	}
+
+	/**
+	 * Moves every plane and projectile by one step.
+	 */
+	@Benchmark
+	public void updateActors() {
+		world.updateActors();
+	}
+
+	/**
+	 * Lets every enemy fire. The new projectiles are dropped again, together with the ones the
+	 * world started with, so the store does not grow from one invocation to the next.
+	 */
+	@Benchmark
+	public void generateEnemyFire() {
+		world.generateEnemyFire();
+		world.getEnemyProjectiles().clear();
+	}
+}
@@ -1,21 +1,31 @@
 package com.example.demo.Actor;
 
-import javafx.scene.image.*;
-import java.util.Objects;
-
 /**
  * Represents an active actor in the game, such as a character or an enemy,
- * which can be displayed on the screen and moved horizontally or vertically.
- * This class extends {@link ImageView} to display images and provides basic movement functionality.
+ * which has a position, a sprite-sized hitbox, and can be moved horizontally or vertically.
+ *
+ * <p>The actor is plain game state and does not depend on JavaFX, so the game rules can run
+ * without a display. How an actor is drawn is decided by the view that mirrors it; the actor
+ * only names its sprite image and the height it is shown at. Its position is split, like a
+ * JavaFX node, into a fixed layout position and a translation that changes as it moves.</p>
  */
-public abstract class ActiveActor extends ImageView {
+public abstract class ActiveActor {
 
-	private static final String IMAGE_LOCATION = "/com/example/demo/images/";
+	private final String imageName;
+	private final int imageHeight;
+	private final double imageWidth;
+	private double layoutX;
+	private double layoutY;
+	private double translateX;
+	private double translateY;
+	private double previousTranslateX;
+	private double previousTranslateY;
+	private boolean visible;
 
 	/**
 	 * Constructor to initialize an active actor with the specified image, position, and size.
-	 * The image is loaded from the specified resource path, and the actor is positioned
-	 * at the given coordinates with the specified height.
+	 * The width of the actor follows from the aspect ratio of its image, and the actor is
+	 * positioned at the given coordinates with the specified height.
 	 *
 	 * @param imageName    The name of the image file for the actor.
 	 * @param imageHeight  The height of the actor image.
@@ -23,12 +33,12 @@ public abstract class ActiveActor extends ImageView {
 	 * @param initialYPos  The initial Y position of the actor.
 	 */
 	public ActiveActor(String imageName, int imageHeight, double initialXPos, double initialYPos) {
-		// Load the image and set the actor's initial position and size
-		this.setImage(new Image(Objects.requireNonNull(getClass().getResource(IMAGE_LOCATION + imageName)).toExternalForm()));
-		this.setLayoutX(initialXPos);
-		this.setLayoutY(initialYPos);
-		this.setFitHeight(imageHeight);
-		this.setPreserveRatio(true);
+		this.imageName = imageName;
+		this.imageHeight = imageHeight;
+		this.imageWidth = SpriteMetrics.scaledWidth(imageName, imageHeight);
+		this.layoutX = initialXPos;
+		this.layoutY = initialYPos;
+		this.visible = true;
 	}
 
 	/**
@@ -37,13 +47,30 @@ public abstract class ActiveActor extends ImageView {
 	 */
 	public abstract void updatePosition();
 
+	/**
+	 * Puts the actor back into the state it had when it was created, at a new layout position.
+	 * This lets a pooled actor be reused instead of constructing a new one.
+	 *
+	 * @param initialXPos The new initial X position of the actor.
+	 * @param initialYPos The new initial Y position of the actor.
+	 */
+	protected void resetPosition(double initialXPos, double initialYPos) {
+		layoutX = initialXPos;
+		layoutY = initialYPos;
+		translateX = 0;
+		translateY = 0;
+		previousTranslateX = 0;
+		previousTranslateY = 0;
+		visible = true;
+	}
+
 	/**
 	 * Moves the actor horizontally by the specified amount.
 	 *
 	 * @param horizontalMove The distance to move the actor along the X axis.
 	 */
 	protected void moveHorizontally(double horizontalMove) {
-		this.setTranslateX(getTranslateX() + horizontalMove);
+		translateX += horizontalMove;
 	}
 
 	/**
@@ -52,7 +79,182 @@ public abstract class ActiveActor extends ImageView {
 	 * @param verticalMove The distance to move the actor along the Y axis.
 	 */
 	protected void moveVertically(double verticalMove) {
-		this.setTranslateY(getTranslateY() + verticalMove);
+		translateY += verticalMove;
+	}
+
+	/**
+	 * Marks the start of a simulation step by remembering the current translation, so the actor
+	 * can be drawn between where the step started and where it ended.
+	 */
+	public void beginStep() {
+		previousTranslateX = translateX;
+		previousTranslateY = translateY;
+	}
+
+	/**
+	 * Returns the X translation between the start and the end of the last simulation step.
+	 *
+	 * @param alpha The fraction of the way from the previous to the current translation, in [0, 1].
+	 * @return The interpolated X translation.
+	 */
+	public double getInterpolatedTranslateX(double alpha) {
+		return previousTranslateX + (translateX - previousTranslateX) * alpha;
+	}
+
+	/**
+	 * Returns the Y translation between the start and the end of the last simulation step.
+	 *
+	 * @param alpha The fraction of the way from the previous to the current translation, in [0, 1].
+	 * @return The interpolated Y translation.
+	 */
+	public double getInterpolatedTranslateY(double alpha) {
+		return previousTranslateY + (translateY - previousTranslateY) * alpha;
+	}
+
+	/**
+	 * Checks whether the hitbox of this actor overlaps the hitbox of another actor.
+	 * Touching edges count as an overlap.
+	 *
+	 * @param other The other actor.
+	 * @return true if the two hitboxes intersect, false otherwise.
+	 */
+	public boolean intersects(ActiveActor other) {
+		return other.getMaxX() >= getX() && other.getMaxY() >= getY()
+				&& other.getX() <= getMaxX() && other.getY() <= getMaxY();
+	}
+
+	/**
+	 * Returns the current X position of the left edge of the actor.
+	 *
+	 * @return The X position of the actor.
+	 */
+	public double getX() {
+		return layoutX + translateX;
+	}
+
+	/**
+	 * Returns the current Y position of the top edge of the actor.
+	 *
+	 * @return The Y position of the actor.
+	 */
+	public double getY() {
+		return layoutY + translateY;
+	}
+
+	/**
+	 * Returns the X position of the right edge of the actor.
+	 *
+	 * @return The right edge of the actor.
+	 */
+	public double getMaxX() {
+		return getX() + imageWidth;
+	}
+
+	/**
+	 * Returns the Y position of the bottom edge of the actor.
+	 *
+	 * @return The bottom edge of the actor.
+	 */
+	public double getMaxY() {
+		return getY() + imageHeight;
+	}
+
+	/**
+	 * Returns the width of the actor, which is the width of its image at the displayed height.
+	 *
+	 * @return The width of the actor.
+	 */
+	public double getWidth() {
+		return imageWidth;
 	}
 
+	/**
+	 * Returns the height of the actor.
+	 *
+	 * @return The height of the actor.
+	 */
+	public double getHeight() {
+		return imageHeight;
+	}
+
+	/**
+	 * Returns the name of the image file used to draw the actor.
+	 *
+	 * @return The image file name.
+	 */
+	public String getImageName() {
+		return imageName;
+	}
+
+	/**
+	 * Returns the layout X position, which is where the actor was placed.
+	 *
+	 * @return The layout X position.
+	 */
+	public double getLayoutX() {
+		return layoutX;
+	}
+
+	/**
+	 * Returns the layout Y position, which is where the actor was placed.
+	 *
+	 * @return The layout Y position.
+	 */
+	public double getLayoutY() {
+		return layoutY;
+	}
+
+	/**
+	 * Returns how far the actor has moved horizontally from its layout position.
+	 *
+	 * @return The X translation.
+	 */
+	public double getTranslateX() {
+		return translateX;
+	}
+
+	/**
+	 * Returns how far the actor has moved vertically from its layout position.
+	 *
+	 * @return The Y translation.
+	 */
+	public double getTranslateY() {
+		return translateY;
+	}
+
+	/**
+	 * Sets how far the actor has moved horizontally from its layout position.
+	 *
+	 * @param translateX The X translation.
+	 */
+	public void setTranslateX(double translateX) {
+		this.translateX = translateX;
+	}
+
+	/**
+	 * Sets how far the actor has moved vertically from its layout position.
+	 *
+	 * @param translateY The Y translation.
+	 */
+	public void setTranslateY(double translateY) {
+		this.translateY = translateY;
+	}
+
+	/**
+	 * Checks whether the actor should currently be drawn.
+	 *
+	 * @return true if the actor is visible, false otherwise.
+	 */
+	public boolean isVisible() {
+		return visible;
+	}
+
+	/**
+	 * Sets whether the actor should currently be drawn.
+	 *
+	 * @param visible true to draw the actor, false to hide it.
+	 */
+	public void setVisible(boolean visible) {
+		this.visible = visible;
+	}
 }
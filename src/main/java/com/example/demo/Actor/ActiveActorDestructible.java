@@ -1,5 +1,7 @@
 package com.example.demo.Actor;
 
+import java.util.function.Consumer;
+
 /**
  * Abstract class representing a destructible active actor in the game.
  * Extends {@link ActiveActor} and implements {@link Destructible} to provide destruction behavior.
@@ -8,6 +10,7 @@ package com.example.demo.Actor;
 public abstract class ActiveActorDestructible extends ActiveActor implements Destructible {
 
 	private boolean isDestroyed;
+	private Consumer<? super ActiveActorDestructible> onDestroyed;
 
 	/**
 	 * Constructor to initialize a destructible active actor with the specified image, position, and size.
@@ -20,6 +23,7 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	public ActiveActorDestructible(String imageName, int imageHeight, double initialXPos, double initialYPos) {
 		super(imageName, imageHeight, initialXPos, initialYPos);
 		isDestroyed = false;
+		onDestroyed = actor -> { };
 	}
 
 	/**
@@ -42,6 +46,18 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	@Override
 	public abstract void takeDamage();
 
+	/**
+	 * Brings a destroyed actor back to life at a new position, in the same state as a newly
+	 * constructed actor. Used to reuse actors from a pool.
+	 *
+	 * @param initialXPos The new initial X position of the actor.
+	 * @param initialYPos The new initial Y position of the actor.
+	 */
+	public void respawn(double initialXPos, double initialYPos) {
+		resetPosition(initialXPos, initialYPos);
+		isDestroyed = false;
+	}
+
 	/**
 	 * Destroys the actor, marking it as destroyed and disabling its further actions.
 	 */
@@ -51,10 +67,34 @@ public abstract class ActiveActorDestructible extends ActiveActor implements Des
 	}
 
 	/**
-	 * Marks the actor as destroyed.
+	 * Marks the actor as destroyed and tells the destruction callback, once per life of the actor.
 	 */
 	protected void setDestroyed() {
-		this.isDestroyed = true;
+		if (!isDestroyed) {
+			this.isDestroyed = true;
+			onDestroyed.accept(this);
+		}
+	}
+
+	/**
+	 * Sets the callback that is told when the actor is destroyed, so that whoever holds the actor
+	 * can remove it without searching for destroyed actors.
+	 *
+	 * @param onDestroyed The callback, or null for none.
+	 */
+	public void setOnDestroyed(Consumer<? super ActiveActorDestructible> onDestroyed) {
+		this.onDestroyed = onDestroyed == null ? actor -> { } : onDestroyed;
+	}
+
+	/**
+	 * Returns the key of the pool the actor returns to once it is destroyed. Actors of one class
+	 * share a pool by default; actors that come in several types, such as enemies described by a
+	 * level, return their type so that every type has a pool of its own.
+	 *
+	 * @return The pool key of the actor.
+	 */
+	public Object getPoolKey() {
+		return getClass();
 	}
 
 	/**
@@ -1,12 +1,13 @@
 package com.example.demo.Actor.Enemy;
 
-import com.example.demo.Actor.ActiveActorDestructible;
 import com.example.demo.Actor.FighterPlane;
-import com.example.demo.Image.ShieldImage;
+import com.example.demo.Actor.ProjectileStore;
+import com.example.demo.Actor.ProjectileType;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a Boss enemy in the game, extending the FighterPlane class.
@@ -14,53 +15,77 @@ import java.util.List;
  */
 public class Boss extends FighterPlane {
 
+	/**
+	 * The X position the Boss appears at.
+	 */
+	public static final double INITIAL_X_POSITION = 1000.0;
+
+	/**
+	 * The Y position the Boss appears at.
+	 */
+	public static final double INITIAL_Y_POSITION = 400;
+
 	private static final String IMAGE_NAME = "boss.png";
-	private static final double INITIAL_X_POSITION = 1000.0;
-	private static final double INITIAL_Y_POSITION = 400;
+	private static final double PROJECTILE_X_POSITION = 950.0;
 	private static final double PROJECTILE_Y_POSITION_OFFSET = 75.0;
-	private static final double BOSS_FIRE_RATE = .05;
-	private static final double BOSS_SHIELD_PROBABILITY = .01;
 	private static final int IMAGE_HEIGHT = 300;
-	private static final int VERTICAL_VELOCITY = 8;
-	private static final int HEALTH = 100;
 	private static final int MOVE_FREQUENCY_PER_CYCLE = 5;
-	private static final int ZERO = 0;
+	private static final double ZERO = 0;
 	private static final int MAX_FRAMES_WITH_SAME_MOVE = 10;
 	private static final int Y_POSITION_UPPER_BOUND = -75;
 	private static final int Y_POSITION_LOWER_BOUND = 475;
 	private static final int MAX_FRAMES_WITH_SHIELD = 200;
-	private final List<Integer> movePattern;
+	private final EnemyType type;
+	private final EnemyType.Phase firstPhase;
+	private final List<Double> movePattern;
+	private final RandomGenerator fireRandom;
+	private final RandomGenerator aiRandom;
 	private boolean isShielded;
 	private int consecutiveMovesInSameDirection;
 	private int indexOfCurrentMove;
 	private int framesWithShieldActivated;
-	private final ShieldImage shieldImage; // Declare shieldImage
 
 	/**
-	 * Constructor to initialize the Boss object with the necessary attributes.
-	 * It sets the initial position, health, and move pattern, as well as initializes the shield.
+	 * Constructor to initialize the Boss object with the default stats of its kind.
+	 *
+	 * @param fireRandom The random numbers that decide when the Boss fires.
+	 * @param aiRandom   The random numbers that decide how the Boss moves and when it raises its shield.
 	 */
-	public Boss() {
-		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, HEALTH);
+	public Boss(RandomGenerator fireRandom, RandomGenerator aiRandom) {
+		this(EnemyType.Kind.BOSS.defaultType(), fireRandom, aiRandom);
+	}
+
+	/**
+	 * Constructor to initialize the Boss object with the stats of an enemy type.
+	 * It sets the initial position, health, and move pattern, with the shield initially down.
+	 *
+	 * @param type       The enemy type, which decides the health, speed, fire rate, shield chance and phases of the Boss.
+	 * @param fireRandom The random numbers that decide when the Boss fires.
+	 * @param aiRandom   The random numbers that decide how the Boss moves and when it raises its shield.
+	 */
+	public Boss(EnemyType type, RandomGenerator fireRandom, RandomGenerator aiRandom) {
+		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, type.health());
+		this.type = type;
+		this.firstPhase = new EnemyType.Phase(type.health() + 1, type.fireRate(), type.shieldChance());
+		this.fireRandom = fireRandom;
+		this.aiRandom = aiRandom;
 		movePattern = new ArrayList<>();
 		consecutiveMovesInSameDirection = 0;
 		indexOfCurrentMove = 0;
 		framesWithShieldActivated = 0;
 		isShielded = false;
 		initializeMovePattern();
-		shieldImage = new ShieldImage(INITIAL_X_POSITION, INITIAL_Y_POSITION); // Initialize shieldImage
 	}
 
 	/**
 	 * Updates the position of the Boss based on the move pattern.
-	 * Ensures the Boss stays within the vertical bounds and adjusts its shield position.
+	 * Ensures the Boss stays within the vertical bounds.
 	 */
 	@Override
 	public void updatePosition() {
 		double initialTranslateY = getTranslateY();
 		moveVertically(getNextMove());
 		double currentPosition = getLayoutY() + getTranslateY();
-		shieldImage.setLayoutY(currentPosition);
 		if (currentPosition < Y_POSITION_UPPER_BOUND || currentPosition > Y_POSITION_LOWER_BOUND) {
 			setTranslateY(initialTranslateY);
 		}
@@ -78,11 +103,13 @@ public class Boss extends FighterPlane {
 	/**
 	 * Fires a projectile from the Boss if the fire rate condition is met.
 	 *
-	 * @return A new BossProjectile if the Boss fires, otherwise null.
+	 * @param projectiles The store a {@link ProjectileType#BOSS} fireball is added to if the Boss fires.
 	 */
 	@Override
-	public ActiveActorDestructible fireProjectile() {
-		return bossFiresInCurrentFrame() ? new BossProjectile(getProjectileInitialPosition()) : null;
+	public void fireProjectile(ProjectileStore projectiles) {
+		if (bossFiresInCurrentFrame()) {
+			projectiles.spawn(ProjectileType.BOSS, PROJECTILE_X_POSITION, getProjectileInitialPosition());
+		}
 	}
 
 	/**
@@ -101,11 +128,11 @@ public class Boss extends FighterPlane {
 	 */
 	private void initializeMovePattern() {
 		for (int i = 0; i < MOVE_FREQUENCY_PER_CYCLE; i++) {
-			movePattern.add(VERTICAL_VELOCITY);
-			movePattern.add(-VERTICAL_VELOCITY);
+			movePattern.add(type.speed());
+			movePattern.add(-type.speed());
 			movePattern.add(ZERO);
 		}
-		Collections.shuffle(movePattern);
+		Collections.shuffle(movePattern, aiRandom);
 	}
 
 	/**
@@ -128,11 +155,11 @@ public class Boss extends FighterPlane {
 	 *
 	 * @return The next vertical movement of the Boss.
 	 */
-	private int getNextMove() {
-		int currentMove = movePattern.get(indexOfCurrentMove);
+	private double getNextMove() {
+		double currentMove = movePattern.get(indexOfCurrentMove);
 		consecutiveMovesInSameDirection++;
 		if (consecutiveMovesInSameDirection == MAX_FRAMES_WITH_SAME_MOVE) {
-			Collections.shuffle(movePattern);
+			Collections.shuffle(movePattern, aiRandom);
 			consecutiveMovesInSameDirection = 0;
 			indexOfCurrentMove++;
 		}
@@ -148,7 +175,7 @@ public class Boss extends FighterPlane {
 	 * @return True if the Boss fires a projectile, false otherwise.
 	 */
 	private boolean bossFiresInCurrentFrame() {
-		return Math.random() < BOSS_FIRE_RATE;
+		return fireRandom.nextDouble() < scaleFireRate(getPhase().fireRate());
 	}
 
 	/**
@@ -166,32 +193,57 @@ public class Boss extends FighterPlane {
 	 * @return True if the shield should be activated, false otherwise.
 	 */
 	private boolean shieldShouldBeActivated() {
-		return Math.random() < BOSS_SHIELD_PROBABILITY;
+		return aiRandom.nextDouble() < getPhase().shieldChance();
 	}
 
 	/**
-	 * Activates the Boss's shield and makes it visible.
+	 * Returns the phase the Boss is in: the last phase of its type whose health threshold it has
+	 * dropped below.
+	 *
+	 * @return The current phase, or the first phase with the stats of its type while it has not
+	 * dropped below any threshold.
+	 */
+	private EnemyType.Phase getPhase() {
+		EnemyType.Phase current = firstPhase;
+		for (EnemyType.Phase phase : type.phases()) {
+			if (getHealth() < phase.belowHealth()) {
+				current = phase;
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Activates the Boss's shield.
 	 */
 	private void activateShield() {
 		isShielded = true;
-		shieldImage.showShield();
 	}
 
 	/**
-	 * Deactivates the Boss's shield and hides it.
+	 * Deactivates the Boss's shield.
 	 */
 	private void deactivateShield() {
 		isShielded = false;
 		framesWithShieldActivated = 0;
-		shieldImage.hideShield();
 	}
 
 	/**
-	 * Gets the ShieldImage associated with the Boss.
+	 * Returns the enemy type of the Boss.
+	 *
+	 * @return The enemy type.
+	 */
+	@Override
+	public Object getPoolKey() {
+		return type;
+	}
+
+	/**
+	 * Checks if the Boss's shield is currently up. The view shows the shield while this is true.
 	 *
-	 * @return The ShieldImage object.
+	 * @return true if the Boss is shielded, false otherwise.
 	 */
-	public ShieldImage getShieldImage() {
-		return shieldImage;
+	public boolean isShielded() {
+		return isShielded;
 	}
 }
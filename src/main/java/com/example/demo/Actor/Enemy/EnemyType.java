@@ -0,0 +1,109 @@
+package com.example.demo.Actor.Enemy;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * An enemy as a level describes it: which kind of plane it is and how strong, fast and
+ * aggressive that plane is in the level. Levels can define several types of the same kind, e.g.
+ * a slow plane and a fast one; every type has a pool of its own.
+ *
+ * <p>Planes fly from right to left at their speed, along a straight line or, with a path
+ * amplitude, along a wave that swings up and down by that many pixels every
+ * {@code pathPeriod} ticks. The boss moves up and down at its speed instead, and can change its
+ * fire rate and shield chance in phases as it loses health.</p>
+ *
+ * @param name          The name the level uses for the type.
+ * @param kind          The kind of plane, which decides its sprite and projectile.
+ * @param health        The number of hits the plane takes.
+ * @param speed         The distance the plane moves per tick, in pixels.
+ * @param fireRate      The chance per tick that the plane fires.
+ * @param shieldChance  The chance per tick that the boss raises its shield; 0 for other planes.
+ * @param pathAmplitude How far a plane swings up and down, in pixels; 0 for a straight line.
+ * @param pathPeriod    The number of ticks of one swing up and down.
+ * @param phases        The phases of the boss, with the one for the least health last.
+ */
+public record EnemyType(String name, Kind kind, int health, double speed, double fireRate, double shieldChance,
+						double pathAmplitude, int pathPeriod, List<Phase> phases) {
+
+	/**
+	 * The kinds of enemy planes, with the stats they have when a level does not change them.
+	 */
+	public enum Kind {
+		/** A regular {@link EnemyPlane}. */
+		PLANE(4, 6, .02, 0),
+		/** An {@link ElitePlane}: tougher, and firing faster projectiles more often. */
+		ELITE(8, 6, .03, 0),
+		/** The {@link Boss}, which moves up and down and raises a shield. */
+		BOSS(100, 8, .05, .01);
+
+		private final int health;
+		private final double speed;
+		private final double fireRate;
+		private final double shieldChance;
+
+		/**
+		 * Creates a kind with its default stats.
+		 *
+		 * @param health       The default number of hits.
+		 * @param speed        The default distance per tick.
+		 * @param fireRate     The default chance per tick to fire.
+		 * @param shieldChance The default chance per tick to raise a shield.
+		 */
+		Kind(int health, double speed, double fireRate, double shieldChance) {
+			this.health = health;
+			this.speed = speed;
+			this.fireRate = fireRate;
+			this.shieldChance = shieldChance;
+		}
+
+		/**
+		 * Returns the type with the default stats of this kind, named after the kind.
+		 *
+		 * @return The default type.
+		 */
+		public EnemyType defaultType() {
+			return new EnemyType(name().toLowerCase(Locale.ROOT), this, health, speed, fireRate, shieldChance, 0, 1, List.of());
+		}
+	}
+
+	/**
+	 * A phase of the boss, which starts once its health drops below a threshold.
+	 *
+	 * @param belowHealth  The phase applies while the boss has less health than this.
+	 * @param fireRate     The chance per tick that the boss fires during the phase.
+	 * @param shieldChance The chance per tick that the boss raises its shield during the phase.
+	 */
+	public record Phase(int belowHealth, double fireRate, double shieldChance) {
+	}
+
+	/**
+	 * Checks the stats of the type.
+	 *
+	 * @param name          The name the level uses for the type.
+	 * @param kind          The kind of plane.
+	 * @param health        The number of hits the plane takes.
+	 * @param speed         The distance the plane moves per tick.
+	 * @param fireRate      The chance per tick that the plane fires.
+	 * @param shieldChance  The chance per tick that the boss raises its shield.
+	 * @param pathAmplitude How far a plane swings up and down.
+	 * @param pathPeriod    The number of ticks of one swing.
+	 * @param phases        The phases of the boss, with the one for the least health last.
+	 */
+	public EnemyType {
+		if (health < 1 || speed < 0 || pathAmplitude < 0 || pathPeriod < 1) {
+			throw new IllegalArgumentException("Invalid stats for enemy type " + name);
+		}
+		phases = List.copyOf(phases);
+	}
+
+	/**
+	 * Returns the vertical offset of a plane on its path a number of ticks after it appeared.
+	 *
+	 * @param ticks The number of ticks since the plane appeared.
+	 * @return The offset from the height it appeared at, in pixels.
+	 */
+	public double pathOffset(long ticks) {
+		return pathAmplitude == 0 ? 0 : pathAmplitude * Math.sin(2 * Math.PI * ticks / pathPeriod);
+	}
+}
@@ -0,0 +1,101 @@
+package com.example.demo.Actor.Enemy;
+
+import com.example.demo.Actor.FighterPlane;
+import com.example.demo.Actor.ProjectileStore;
+import com.example.demo.Actor.ProjectileType;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * An enemy plane whose stats and path come from its {@link EnemyType}: it flies left at the speed
+ * of its type, up and down along the type's wave if it has one, and fires at the type's fire rate.
+ * Subclasses only choose the sprite and the projectile.
+ */
+public abstract class PathedEnemyPlane extends FighterPlane {
+
+	private static final double PROJECTILE_X_POSITION_OFFSET = -100.0;
+	private static final double PROJECTILE_Y_POSITION_OFFSET = 50.0;
+	private final EnemyType type;
+	private final ProjectileType projectileType;
+	private final RandomGenerator fireRandom;
+	private long ticksAlive;
+
+	/**
+	 * Constructor to initialize the plane with the stats of an enemy type, at the specified initial X and
+	 * Y positions.
+	 *
+	 * @param imageName      The name of the plane's sprite.
+	 * @param imageHeight    The height the sprite is drawn at.
+	 * @param projectileType The projectile the plane fires.
+	 * @param type           The enemy type, which decides the health, speed, fire rate and path of the plane.
+	 * @param initialXPos    The initial X position of the plane.
+	 * @param initialYPos    The initial Y position of the plane.
+	 * @param fireRandom     The random numbers that decide when the plane fires.
+	 */
+	protected PathedEnemyPlane(String imageName, int imageHeight, ProjectileType projectileType, EnemyType type,
+							   double initialXPos, double initialYPos, RandomGenerator fireRandom) {
+		super(imageName, imageHeight, initialXPos, initialYPos, type.health());
+		this.type = type;
+		this.projectileType = projectileType;
+		this.fireRandom = fireRandom;
+	}
+
+	/**
+	 * Brings the plane back to life at a new position, at the start of its path.
+	 *
+	 * @param initialXPos The new initial X position of the plane.
+	 * @param initialYPos The new initial Y position of the plane.
+	 */
+	@Override
+	public void respawn(double initialXPos, double initialYPos) {
+		super.respawn(initialXPos, initialYPos);
+		ticksAlive = 0;
+	}
+
+	/**
+	 * Returns the enemy type of the plane, whose pool it returns to once destroyed.
+	 *
+	 * @return The enemy type.
+	 */
+	@Override
+	public Object getPoolKey() {
+		return type;
+	}
+
+	/**
+	 * Updates the position of the plane by moving it horizontally at the speed of its type and,
+	 * if its type follows a wave, up or down along the wave.
+	 */
+	@Override
+	public void updatePosition() {
+		moveHorizontally(-type.speed());
+		if (type.pathAmplitude() > 0) {
+			moveVertically(type.pathOffset(ticksAlive + 1) - type.pathOffset(ticksAlive));
+		}
+		ticksAlive++;
+	}
+
+	/**
+	 * Fires a projectile from the plane if the fire rate condition is met.
+	 * The projectile's position is calculated based on the plane's current position.
+	 *
+	 * @param projectiles The store the plane's projectile is added to if the plane fires.
+	 */
+	@Override
+	public void fireProjectile(ProjectileStore projectiles) {
+		if (fireRandom.nextDouble() < scaleFireRate(type.fireRate())) {
+			double projectileXPosition = getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET);
+			double projectileYPosition = getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET);
+			projectiles.spawn(projectileType, projectileXPosition, projectileYPosition);
+		}
+	}
+
+	/**
+	 * Updates the plane by calling the method to update its position.
+	 * This method is invoked each frame to move the plane.
+	 */
+	@Override
+	public void updateActor() {
+		updatePosition();
+	}
+}
@@ -6,7 +6,9 @@ package com.example.demo.Actor;
  */
 public abstract class FighterPlane extends ActiveActorDestructible {
 
+	private final int initialHealth;
 	private int health;
+	private double fireRateMultiplier = 1;
 
 	/**
 	 * Constructor to initialize a FighterPlane with specified parameters.
@@ -18,14 +20,26 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 	 */
 	public FighterPlane(String imageName, int imageHeight, double initialXPos, double initialYPos, int health) {
 		super(imageName, imageHeight, initialXPos, initialYPos);
+		this.initialHealth = health;
 		this.health = health;
 	}
 
+	/**
+	 * Brings the plane back to life at a new position with its initial health.
+	 * @param initialXPos The new initial X position of the fighter plane.
+	 * @param initialYPos The new initial Y position of the fighter plane.
+	 */
+	@Override
+	public void respawn(double initialXPos, double initialYPos) {
+		super.respawn(initialXPos, initialYPos);
+		health = initialHealth;
+	}
+
 	/**
 	 * Abstract method for firing a projectile. Implementations define how the plane fires.
-	 * @return A new ActiveActorDestructible projectile, or null if no projectile is fired.
+	 * @param projectiles The store the projectile is added to, if the plane fires.
 	 */
-	public abstract ActiveActorDestructible fireProjectile();
+	public abstract void fireProjectile(ProjectileStore projectiles);
 
 	/**
 	 * Reduces health by 1 and checks if the plane's health has reached zero.
@@ -39,6 +53,23 @@ public abstract class FighterPlane extends ActiveActorDestructible {
 		}
 	}
 
+	/**
+	 * Sets the factor the fire rate of the plane is multiplied by, e.g. to stress-test a level.
+	 * @param fireRateMultiplier The factor; 1 fires at the designed rate.
+	 */
+	public void setFireRateMultiplier(double fireRateMultiplier) {
+		this.fireRateMultiplier = fireRateMultiplier;
+	}
+
+	/**
+	 * Applies the fire rate multiplier to a fire rate.
+	 * @param fireRate The chance per tick that the plane fires, as designed.
+	 * @return The chance per tick that the plane fires.
+	 */
+	protected double scaleFireRate(double fireRate) {
+		return fireRate * fireRateMultiplier;
+	}
+
 	/**
 	 * Calculates the X position for a projectile based on the plane's current position and an offset.
 	 * @param xPositionOffset The X position offset for the projectile.
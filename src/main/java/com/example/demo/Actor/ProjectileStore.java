@@ -0,0 +1,293 @@
+package com.example.demo.Actor;
+
+import java.util.Arrays;
+
+/**
+ * Holds a group of projectiles (for example, everything fired by the enemies) as parallel arrays
+ * of primitives instead of one object per projectile.
+ *
+ * <p>Projectile {@code i} is described by the {@code i}-th entry of every array: its position,
+ * its position at the start of the last step, its velocity, its {@link ProjectileType} and
+ * whether it is still alive. All projectiles are moved in one loop over the arrays, and
+ * projectiles that were destroyed are removed in one pass that keeps the survivors in firing
+ * order. The arrays grow by doubling and are never shrunk, so once a level has reached its
+ * peak number of projectiles, firing and destroying projectiles allocates nothing.</p>
+ *
+ * <p>Indices are only stable until the next call to {@link #removeDestroyed()}.</p>
+ */
+public class ProjectileStore {
+
+	private static final int DEFAULT_CAPACITY = 64;
+	private static final ProjectileType[] TYPES = ProjectileType.values();
+	private static final double[] WIDTHS = new double[TYPES.length];
+	private static final double[] HEIGHTS = new double[TYPES.length];
+
+	static {
+		for (ProjectileType type : TYPES) {
+			WIDTHS[type.ordinal()] = type.getWidth();
+			HEIGHTS[type.ordinal()] = type.getHeight();
+		}
+	}
+
+	private double[] x;
+	private double[] y;
+	private double[] previousX;
+	private double[] previousY;
+	private double[] velocityX;
+	private double[] velocityY;
+	private byte[] type;
+	private boolean[] alive;
+	private int size;
+
+	/**
+	 * Creates an empty store with room for a default number of projectiles.
+	 */
+	public ProjectileStore() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty store with room for the given number of projectiles before it has to grow.
+	 *
+	 * @param initialCapacity The initial capacity; must be positive.
+	 */
+	public ProjectileStore(int initialCapacity) {
+		if (initialCapacity < 1) {
+			throw new IllegalArgumentException("Capacity must be positive: " + initialCapacity);
+		}
+		x = new double[initialCapacity];
+		y = new double[initialCapacity];
+		previousX = new double[initialCapacity];
+		previousY = new double[initialCapacity];
+		velocityX = new double[initialCapacity];
+		velocityY = new double[initialCapacity];
+		type = new byte[initialCapacity];
+		alive = new boolean[initialCapacity];
+	}
+
+	/**
+	 * Adds a projectile of the given type that flies at the type's horizontal velocity.
+	 *
+	 * @param projectileType The type of the projectile.
+	 * @param initialXPos    The initial X position of the projectile.
+	 * @param initialYPos    The initial Y position of the projectile.
+	 * @return The index of the new projectile.
+	 */
+	public int spawn(ProjectileType projectileType, double initialXPos, double initialYPos) {
+		return spawn(projectileType, initialXPos, initialYPos, projectileType.getHorizontalVelocity(), 0);
+	}
+
+	/**
+	 * Adds a projectile of the given type that flies at the given velocity.
+	 *
+	 * @param projectileType The type of the projectile.
+	 * @param initialXPos    The initial X position of the projectile.
+	 * @param initialYPos    The initial Y position of the projectile.
+	 * @param horizontalMove The distance the projectile moves along the X axis every step.
+	 * @param verticalMove   The distance the projectile moves along the Y axis every step.
+	 * @return The index of the new projectile.
+	 */
+	public int spawn(ProjectileType projectileType, double initialXPos, double initialYPos, double horizontalMove, double verticalMove) {
+		if (size == x.length) {
+			grow();
+		}
+		int i = size++;
+		x[i] = initialXPos;
+		y[i] = initialYPos;
+		previousX[i] = initialXPos;
+		previousY[i] = initialYPos;
+		velocityX[i] = horizontalMove;
+		velocityY[i] = verticalMove;
+		type[i] = (byte) projectileType.ordinal();
+		alive[i] = true;
+		return i;
+	}
+
+	/**
+	 * Moves every projectile by its velocity, remembering where each one started the step
+	 * so it can be drawn between the two positions.
+	 */
+	public void update() {
+		update(0, size);
+	}
+
+	/**
+	 * Moves the projectiles in a range of indices by their velocity, like {@link #update()}.
+	 * Disjoint ranges touch disjoint array slots, so they can be moved on different threads.
+	 *
+	 * @param from The index of the first projectile to move.
+	 * @param to   The index after the last projectile to move.
+	 */
+	public void update(int from, int to) {
+		for (int i = from; i < to; i++) {
+			previousX[i] = x[i];
+			previousY[i] = y[i];
+			x[i] += velocityX[i];
+			y[i] += velocityY[i];
+		}
+	}
+
+	/**
+	 * Marks a projectile as destroyed. It stays in the store, and keeps colliding, until the next
+	 * call to {@link #removeDestroyed()}, just like an actor stays in the world until the end of the tick.
+	 *
+	 * @param i The index of the projectile.
+	 */
+	public void destroy(int i) {
+		alive[i] = false;
+	}
+
+	/**
+	 * Removes all destroyed projectiles, moving the remaining ones down so they stay in firing order.
+	 *
+	 * @return The number of projectiles that were removed.
+	 */
+	public int removeDestroyed() {
+		int kept = 0;
+		for (int i = 0; i < size; i++) {
+			if (!alive[i]) {
+				continue;
+			}
+			if (kept != i) {
+				x[kept] = x[i];
+				y[kept] = y[i];
+				previousX[kept] = previousX[i];
+				previousY[kept] = previousY[i];
+				velocityX[kept] = velocityX[i];
+				velocityY[kept] = velocityY[i];
+				type[kept] = type[i];
+				alive[kept] = true;
+			}
+			kept++;
+		}
+		int removed = size - kept;
+		size = kept;
+		return removed;
+	}
+
+	/**
+	 * Removes every projectile from the store, keeping its capacity.
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * Checks whether the hitbox of a projectile overlaps the hitbox of an actor.
+	 * Touching edges count as an overlap, as in {@link ActiveActor#intersects(ActiveActor)}.
+	 *
+	 * @param i     The index of the projectile.
+	 * @param actor The actor.
+	 * @return true if the two hitboxes intersect, false otherwise.
+	 */
+	public boolean intersects(int i, ActiveActor actor) {
+		return actor.getMaxX() >= x[i] && actor.getMaxY() >= y[i]
+				&& actor.getX() <= getMaxX(i) && actor.getY() <= getMaxY(i);
+	}
+
+	/**
+	 * Returns the number of projectiles in the store, including destroyed ones not yet removed.
+	 *
+	 * @return The number of projectiles.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Checks whether a projectile has not been destroyed.
+	 *
+	 * @param i The index of the projectile.
+	 * @return true if the projectile is alive, false otherwise.
+	 */
+	public boolean isAlive(int i) {
+		return alive[i];
+	}
+
+	/**
+	 * Returns the type of a projectile.
+	 *
+	 * @param i The index of the projectile.
+	 * @return The projectile type.
+	 */
+	public ProjectileType getType(int i) {
+		return TYPES[type[i]];
+	}
+
+	/**
+	 * Returns the X position of the left edge of a projectile.
+	 *
+	 * @param i The index of the projectile.
+	 * @return The X position.
+	 */
+	public double getX(int i) {
+		return x[i];
+	}
+
+	/**
+	 * Returns the Y position of the top edge of a projectile.
+	 *
+	 * @param i The index of the projectile.
+	 * @return The Y position.
+	 */
+	public double getY(int i) {
+		return y[i];
+	}
+
+	/**
+	 * Returns the X position of the right edge of a projectile.
+	 *
+	 * @param i The index of the projectile.
+	 * @return The right edge.
+	 */
+	public double getMaxX(int i) {
+		return x[i] + WIDTHS[type[i]];
+	}
+
+	/**
+	 * Returns the Y position of the bottom edge of a projectile.
+	 *
+	 * @param i The index of the projectile.
+	 * @return The bottom edge.
+	 */
+	public double getMaxY(int i) {
+		return y[i] + HEIGHTS[type[i]];
+	}
+
+	/**
+	 * Returns the X position of a projectile between the start and the end of the last step.
+	 *
+	 * @param i     The index of the projectile.
+	 * @param alpha The fraction of the way from the previous to the current position, in [0, 1].
+	 * @return The interpolated X position.
+	 */
+	public double getInterpolatedX(int i, double alpha) {
+		return previousX[i] + (x[i] - previousX[i]) * alpha;
+	}
+
+	/**
+	 * Returns the Y position of a projectile between the start and the end of the last step.
+	 *
+	 * @param i     The index of the projectile.
+	 * @param alpha The fraction of the way from the previous to the current position, in [0, 1].
+	 * @return The interpolated Y position.
+	 */
+	public double getInterpolatedY(int i, double alpha) {
+		return previousY[i] + (y[i] - previousY[i]) * alpha;
+	}
+
+	/**
+	 * Doubles the capacity of every array.
+	 */
+	private void grow() {
+		int capacity = x.length * 2;
+		x = Arrays.copyOf(x, capacity);
+		y = Arrays.copyOf(y, capacity);
+		previousX = Arrays.copyOf(previousX, capacity);
+		previousY = Arrays.copyOf(previousY, capacity);
+		velocityX = Arrays.copyOf(velocityX, capacity);
+		velocityY = Arrays.copyOf(velocityY, capacity);
+		type = Arrays.copyOf(type, capacity);
+		alive = Arrays.copyOf(alive, capacity);
+	}
+}
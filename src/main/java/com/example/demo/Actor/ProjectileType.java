@@ -0,0 +1,73 @@
+package com.example.demo.Actor;
+
+/**
+ * The kinds of projectile fired in the game, with the sprite and speed of each.
+ * Projectiles are not actors of their own; they live as rows in a {@link ProjectileStore}
+ * and only remember their type.
+ */
+public enum ProjectileType {
+
+	/** A projectile fired by the UserPlane, flying to the right. */
+	USER("userfire.png", 65, 15),
+	/** A projectile fired by an EnemyPlane. */
+	ENEMY("enemyFire.png", 30, -10),
+	/** A projectile fired by an ElitePlane. */
+	ELITE("elitefire.png", 35, -15),
+	/** A fireball fired by the Boss. */
+	BOSS("fireball.png", 75, -17);
+
+	private final String imageName;
+	private final int imageHeight;
+	private final double imageWidth;
+	private final double horizontalVelocity;
+
+	/**
+	 * Constructs a projectile type with its sprite and horizontal speed.
+	 *
+	 * @param imageName          The name of the image file for the projectile.
+	 * @param imageHeight        The height of the projectile image.
+	 * @param horizontalVelocity The distance the projectile moves along the X axis every step.
+	 */
+	ProjectileType(String imageName, int imageHeight, double horizontalVelocity) {
+		this.imageName = imageName;
+		this.imageHeight = imageHeight;
+		this.imageWidth = SpriteMetrics.scaledWidth(imageName, imageHeight);
+		this.horizontalVelocity = horizontalVelocity;
+	}
+
+	/**
+	 * Returns the name of the image file used to draw projectiles of this type.
+	 *
+	 * @return The image file name.
+	 */
+	public String getImageName() {
+		return imageName;
+	}
+
+	/**
+	 * Returns the height of projectiles of this type.
+	 *
+	 * @return The height of the projectile.
+	 */
+	public int getHeight() {
+		return imageHeight;
+	}
+
+	/**
+	 * Returns the width of projectiles of this type, which is the width of the image at the displayed height.
+	 *
+	 * @return The width of the projectile.
+	 */
+	public double getWidth() {
+		return imageWidth;
+	}
+
+	/**
+	 * Returns the distance projectiles of this type move along the X axis every step.
+	 *
+	 * @return The horizontal velocity.
+	 */
+	public double getHorizontalVelocity() {
+		return horizontalVelocity;
+	}
+}
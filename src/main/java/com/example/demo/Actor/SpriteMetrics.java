@@ -0,0 +1,68 @@
+package com.example.demo.Actor;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Provides the pixel dimensions of the sprite images without decoding them.
+ *
+ * <p>Actors need the aspect ratio of their sprite to know their width, but must not depend on
+ * the JavaFX toolkit so the game rules can run without a display. The dimensions are therefore
+ * read straight from the header of each PNG file, once per image, and cached.</p>
+ */
+public final class SpriteMetrics {
+
+	/**
+	 * The resource folder that holds the sprite images.
+	 */
+	public static final String IMAGE_LOCATION = "/com/example/demo/images/";
+
+	private static final long PNG_SIGNATURE = 0x89504E470D0A1A0AL;
+	private static final int IHDR_CHUNK_TYPE = 0x49484452;
+	private static final Map<String, int[]> DIMENSIONS = new ConcurrentHashMap<>();
+
+	private SpriteMetrics() {
+	}
+
+	/**
+	 * Returns the width a sprite has when it is scaled to the given height with its aspect ratio preserved.
+	 *
+	 * @param imageName   The file name of the sprite in the image folder.
+	 * @param imageHeight The height the sprite is displayed at.
+	 * @return The displayed width of the sprite.
+	 */
+	public static double scaledWidth(String imageName, double imageHeight) {
+		int[] dimensions = DIMENSIONS.computeIfAbsent(imageName, SpriteMetrics::readDimensions);
+		return dimensions[0] * imageHeight / dimensions[1];
+	}
+
+	/**
+	 * Reads the width and height of a PNG image from its IHDR chunk.
+	 *
+	 * @param imageName The file name of the sprite in the image folder.
+	 * @return An array holding the width and the height in pixels.
+	 */
+	private static int[] readDimensions(String imageName) {
+		String path = IMAGE_LOCATION + imageName;
+		try (InputStream stream = SpriteMetrics.class.getResourceAsStream(path)) {
+			if (stream == null) {
+				throw new IllegalArgumentException("Sprite not found: " + path);
+			}
+			DataInputStream data = new DataInputStream(stream);
+			if (data.readLong() != PNG_SIGNATURE) {
+				throw new IllegalArgumentException("Sprite is not a PNG image: " + path);
+			}
+			data.readInt(); // chunk length
+			if (data.readInt() != IHDR_CHUNK_TYPE) {
+				throw new IllegalArgumentException("PNG image has no IHDR chunk: " + path);
+			}
+			return new int[] {data.readInt(), data.readInt()};
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not read sprite: " + path, e);
+		}
+	}
+}
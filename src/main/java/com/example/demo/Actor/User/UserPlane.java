@@ -1,10 +1,8 @@
 package com.example.demo.Actor.User;
 
-import com.example.demo.Actor.ActiveActorDestructible;
 import com.example.demo.Actor.FighterPlane;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.util.Duration;
+import com.example.demo.Actor.ProjectileStore;
+import com.example.demo.Actor.ProjectileType;
 
 /**
  * Represents the user-controlled plane in the game.
@@ -24,14 +22,14 @@ public class UserPlane extends FighterPlane {
 	private static final int VELOCITY = 12;
 	private static final int PROJECTILE_X_POSITION_OFFSET = 120;
 	private static final int PROJECTILE_Y_POSITION_OFFSET = -20;
-	private static final int BLINK_INTERVAL = 250;
-	private static final int BLINK_DURATION = 2000;
+	private static final int BLINK_INTERVAL_TICKS = 5;
 	private static final int TOTAL_BLINKS = 4;
+	private static final int INVINCIBILITY_TICKS = BLINK_INTERVAL_TICKS * 2 * TOTAL_BLINKS;
 
 	private int verticalVelocityMultiplier;
 	private int horizontalVelocityMultiplier;
 	private int numberOfKills;
-	private boolean isInvincible;
+	private int invincibilityTicksRemaining;
 
 	/**
 	 * Constructor to initialize the UserPlane with a given health.
@@ -43,17 +41,7 @@ public class UserPlane extends FighterPlane {
 		super(IMAGE_NAME, IMAGE_HEIGHT, INITIAL_X_POSITION, INITIAL_Y_POSITION, initialHealth);
 		verticalVelocityMultiplier = 0;
 		horizontalVelocityMultiplier = 0;
-		isInvincible = false;
-		initializeFiringTimeline();
-	}
-
-	/**
-	 * Initializes the firing timeline, which fires projectiles periodically.
-	 * The projectile is fired every 200 milliseconds.
-	 */
-	private void initializeFiringTimeline() {
-		Timeline firingTimeline = new Timeline(new KeyFrame(Duration.millis(200), _ -> fireProjectile()));
-		firingTimeline.setCycleCount(Timeline.INDEFINITE);
+		invincibilityTicksRemaining = 0;
 	}
 
 	/**
@@ -85,22 +73,23 @@ public class UserPlane extends FighterPlane {
 	}
 
 	/**
-	 * Updates the UserPlane actor by calling the method to update its position.
+	 * Updates the UserPlane actor by updating its position and its invincibility state.
 	 * This method is invoked every frame to move the plane.
 	 */
 	@Override
 	public void updateActor() {
 		updatePosition();
+		updateInvincibility();
 	}
 
 	/**
 	 * Fires a projectile from the UserPlane, offsetting its position based on predefined offsets.
 	 *
-	 * @return A new UserProjectile object if fired.
+	 * @param projectiles The store the new {@link ProjectileType#USER} projectile is added to.
 	 */
 	@Override
-	public ActiveActorDestructible fireProjectile() {
-		return new UserProjectile(getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET), getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
+	public void fireProjectile(ProjectileStore projectiles) {
+		projectiles.spawn(ProjectileType.USER, getProjectileXPosition(PROJECTILE_X_POSITION_OFFSET), getProjectileYPosition(PROJECTILE_Y_POSITION_OFFSET));
 	}
 
 	/**
@@ -176,60 +165,43 @@ public class UserPlane extends FighterPlane {
 	 */
 	@Override
 	public void takeDamage() {
-		if (!isInvincible) {
+		if (!isInvincible()) {
 			super.takeDamage();
 			if (getHealth() > 0) {
 				startBlinking();
-				setActorCollisionEnabled(false, BLINK_DURATION);
 			}
 		}
 	}
 
 	/**
-	 * Starts the blinking effect for the UserPlane, making it invincible for a short time.
-	 * The plane will blink several times, and its collision detection is temporarily disabled.
-	 */
-	private void startBlinking() {
-		isInvincible = true;
-		Timeline blinkTimeline = new Timeline();
-		for (int i = 0; i < TOTAL_BLINKS * 2; i++) {
-			blinkTimeline.getKeyFrames().add(new KeyFrame(Duration.millis(i * BLINK_INTERVAL), _ -> setVisible(!isVisible())));
-		}
-		blinkTimeline.setOnFinished(_ -> {
-			setVisible(true);
-			isInvincible = false;
-		});
-		blinkTimeline.play();
-	}
-
-	/**
-	 * Enables or disables the collision detection for the UserPlane for a specified duration.
+	 * Checks if the plane is currently invincible after taking damage.
 	 *
-	 * @param enabled true to enable collision, false to disable.
-	 * @param durationMs The duration in milliseconds to disable collision if disabled.
+	 * @return true if the plane cannot take damage right now, false otherwise.
 	 */
-	public void setActorCollisionEnabled(boolean enabled, int durationMs) {
-		getCollisionComponent().SetActorCollisionEnable();
-		if (!enabled) {
-			new Timeline(new KeyFrame(Duration.millis(durationMs), _ -> getCollisionComponent().SetActorCollisionEnable())).play();
-		}
+	public boolean isInvincible() {
+		return invincibilityTicksRemaining > 0;
 	}
 
 	/**
-	 * Returns the collision component for the UserPlane.
-	 *
-	 * @return The collision component of the plane.
+	 * Starts the blinking effect for the UserPlane, making it invincible for a short time.
+	 * The plane blinks {@link #TOTAL_BLINKS} times, toggling its visibility every
+	 * {@link #BLINK_INTERVAL_TICKS} ticks, and cannot take damage until the blinking ends.
 	 */
-	private CollisionComponent getCollisionComponent() {
-		return new CollisionComponent();
+	private void startBlinking() {
+		invincibilityTicksRemaining = INVINCIBILITY_TICKS;
+		setVisible(false);
 	}
 
 	/**
-	 * A simple internal class to manage collision enabling and disabling.
+	 * Counts down the invincibility period and toggles the visibility of the plane to make it blink.
+	 * The plane is visible again once the period is over.
 	 */
-	private static class CollisionComponent {
-		void SetActorCollisionEnable() {
-			// Implement collision enabling/disabling logic
+	private void updateInvincibility() {
+		if (invincibilityTicksRemaining == 0) {
+			return;
 		}
+		invincibilityTicksRemaining--;
+		int elapsedTicks = INVINCIBILITY_TICKS - invincibilityTicksRemaining;
+		setVisible(invincibilityTicksRemaining == 0 || (elapsedTicks / BLINK_INTERVAL_TICKS) % 2 == 1);
 	}
 }
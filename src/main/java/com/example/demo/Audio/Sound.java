@@ -0,0 +1,79 @@
+package com.example.demo.Audio;
+
+/**
+ * The sound effects of the game. Each effect is a short clip in the audio resources, played at its
+ * own volume, and may only be heard a limited number of times at once, so a burst of shots never
+ * takes all the voices of the {@link SoundEngine}.
+ */
+public enum Sound {
+	/** The player fires a projectile. */
+	PLAYER_SHOT("player-shot.wav", 0.4, 120, 2),
+	/** An enemy fires a projectile. */
+	ENEMY_SHOT("enemy-shot.wav", 0.25, 120, 2),
+	/** An enemy is hit but not destroyed. */
+	HIT("hit.wav", 0.5, 150, 2),
+	/** The player is hit. */
+	PLAYER_HIT("player-hit.wav", 0.8, 400, 1),
+	/** An enemy is destroyed. */
+	EXPLOSION("explosion.wav", 0.7, 600, 3),
+	/** The boss raises its shield. */
+	SHIELD("shield.wav", 0.8, 800, 1);
+
+	private static final String AUDIO_PATH = "/com/example/demo/audio/";
+
+	private final String resourcePath;
+	private final double volume;
+	private final long durationNanos;
+	private final int maxVoices;
+
+	/**
+	 * Creates a sound effect.
+	 *
+	 * @param fileName       The file name of the clip in the audio resources.
+	 * @param volume         The volume of the clip, from 0 to 1.
+	 * @param durationMillis How long a voice is taken when the clip is played, in milliseconds.
+	 * @param maxVoices      The number of times the clip may be heard at once.
+	 */
+	Sound(String fileName, double volume, long durationMillis, int maxVoices) {
+		this.resourcePath = AUDIO_PATH + fileName;
+		this.volume = volume;
+		this.durationNanos = durationMillis * 1_000_000;
+		this.maxVoices = maxVoices;
+	}
+
+	/**
+	 * Returns the resource path of the clip.
+	 *
+	 * @return The resource path.
+	 */
+	public String getResourcePath() {
+		return resourcePath;
+	}
+
+	/**
+	 * Returns the volume the clip is played at.
+	 *
+	 * @return The volume, from 0 to 1.
+	 */
+	public double getVolume() {
+		return volume;
+	}
+
+	/**
+	 * Returns how long a voice is taken when the clip is played.
+	 *
+	 * @return The duration in nanoseconds.
+	 */
+	public long getDurationNanos() {
+		return durationNanos;
+	}
+
+	/**
+	 * Returns the number of times the clip may be heard at once.
+	 *
+	 * @return The voice limit of the clip.
+	 */
+	public int getMaxVoices() {
+		return maxVoices;
+	}
+}
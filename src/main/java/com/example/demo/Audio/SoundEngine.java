@@ -0,0 +1,199 @@
+package com.example.demo.Audio;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Engine.GameEventBus;
+import com.example.demo.Engine.GameEventType;
+import com.example.demo.Engine.World;
+import javafx.scene.media.AudioClip;
+
+import java.net.URL;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Plays the {@link Sound sound effects} of the game.
+ *
+ * <p>The clips are decoded into memory once, on a background thread, when a level starts, so
+ * playing one never touches the disk. A clip that is not loaded yet is simply not heard; so is a
+ * sound whose clip is left out of the resources, e.g. to build the game without audio, which is
+ * not an error. A clip that is there but cannot be played is reported once. Playing a clip only
+ * hands it to the audio thread of JavaFX and returns, so the game loop never waits for it.</p>
+ *
+ * <p>At most {@value #MAX_VOICES} clips are heard at once, and every sound has a limit of its own.
+ * A voice is taken for the duration of its sound; a sound that finds no free voice, or has used up
+ * its own voices, is dropped. The voices are fixed arrays, so playing a sound allocates nothing,
+ * however fast the player fires.</p>
+ *
+ * <p>Levels do not play sounds themselves: a {@link WorldSounds} follows the events of a world and
+ * plays the sound of every shot, hit, kill and raised shield, panned to where it happened. Sound
+ * can be switched off with {@code -Dskybattle.sound=false}, e.g. on a machine without audio.</p>
+ *
+ * <p>Sounds are played on the JavaFX thread; only the loading runs elsewhere.</p>
+ */
+public final class SoundEngine {
+
+	/**
+	 * The system property that switches the sound effects off when set to {@code false}.
+	 */
+	public static final String PROPERTY = "skybattle.sound";
+
+	private static final int MAX_VOICES = 8;
+	private static final Sound[] SOUNDS = Sound.values();
+	private static final ExecutorService LOADER = Executors.newSingleThreadExecutor(
+			Thread.ofPlatform().name("sound-loader").daemon().factory());
+
+	private static SoundEngine instance;
+
+	private final boolean enabled;
+	private final AtomicReferenceArray<AudioClip> clips = new AtomicReferenceArray<>(SOUNDS.length);
+	private final long[] voiceEnds = new long[MAX_VOICES];
+	private final Sound[] voiceSounds = new Sound[MAX_VOICES];
+	private boolean preloaded;
+
+	/**
+	 * Creates the engine, with sound switched on or off.
+	 *
+	 * @param enabled Whether sounds are loaded and played.
+	 */
+	private SoundEngine(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Returns the sound engine of the game.
+	 *
+	 * @return The sound engine.
+	 */
+	public static synchronized SoundEngine getInstance() {
+		if (instance == null) {
+			instance = new SoundEngine(!"false".equalsIgnoreCase(System.getProperty(PROPERTY)));
+		}
+		return instance;
+	}
+
+	/**
+	 * Starts loading every clip in the background, the first time it is called.
+	 */
+	public synchronized void preload() {
+		if (!enabled || preloaded) {
+			return;
+		}
+		preloaded = true;
+		LOADER.execute(() -> {
+			for (Sound sound : SOUNDS) {
+				clips.set(sound.ordinal(), load(sound));
+			}
+		});
+	}
+
+	/**
+	 * Loads the clip of a sound.
+	 *
+	 * @param sound The sound.
+	 * @return The clip, or null if it is left out or cannot be played.
+	 */
+	private static AudioClip load(Sound sound) {
+		URL url = SoundEngine.class.getResource(sound.getResourcePath());
+		if (url == null) {
+			return null;
+		}
+		try {
+			return new AudioClip(url.toExternalForm());
+		} catch (RuntimeException | LinkageError e) {
+			System.err.println("Could not load sound " + sound.getResourcePath() + ": " + e);
+			return null;
+		}
+	}
+
+	/**
+	 * Plays a sound if it is loaded and a voice is free for it.
+	 *
+	 * @param sound   The sound.
+	 * @param balance Where the sound is heard, from -1 (left) to 1 (right).
+	 * @return true if the sound is played, false if it is dropped.
+	 */
+	public boolean play(Sound sound, double balance) {
+		AudioClip clip = clips.get(sound.ordinal());
+		if (clip == null) {
+			return false;
+		}
+		long now = System.nanoTime();
+		int free = -1;
+		int playing = 0;
+		for (int i = 0; i < MAX_VOICES; i++) {
+			if (voiceEnds[i] - now <= 0) {
+				free = i;
+			} else if (voiceSounds[i] == sound) {
+				playing++;
+			}
+		}
+		if (free < 0 || playing >= sound.getMaxVoices()) {
+			return false;
+		}
+		voiceEnds[free] = now + sound.getDurationNanos();
+		voiceSounds[free] = sound;
+		clip.play(sound.getVolume(), balance, 1.0, 0.0, 0);
+		return true;
+	}
+
+	/**
+	 * Follows the events of a world and plays their sounds.
+	 *
+	 * @param world The world.
+	 * @return The sounds of the world, to be {@link WorldSounds#drain() drained} after every tick.
+	 */
+	public WorldSounds listen(World world) {
+		return new WorldSounds(world);
+	}
+
+	/**
+	 * The sounds of one world: turns the events the world published since the last drain into
+	 * sounds, panned by where on the playfield the actor was.
+	 */
+	public final class WorldSounds implements GameEventBus.Consumer {
+
+		private final World world;
+		private final GameEventBus.Cursor events;
+
+		/**
+		 * Starts following the events of a world from now on.
+		 *
+		 * @param world The world.
+		 */
+		private WorldSounds(World world) {
+			this.world = world;
+			this.events = world.getEvents().subscribe();
+		}
+
+		/**
+		 * Plays the sounds of the events published since the last drain.
+		 */
+		public void drain() {
+			events.drain(this);
+		}
+
+		/**
+		 * Plays the sound of one event, if it has one.
+		 *
+		 * @param type  The kind of event.
+		 * @param actor The actor the event happened to.
+		 * @param tick  The tick the event happened in.
+		 */
+		@Override
+		public void onEvent(GameEventType type, ActiveActorDestructible actor, long tick) {
+			boolean user = actor == world.getUser();
+			Sound sound = switch (type) {
+				case FIRE -> user ? Sound.PLAYER_SHOT : Sound.ENEMY_SHOT;
+				case DAMAGE -> user ? Sound.PLAYER_HIT : Sound.HIT;
+				case KILL -> Sound.EXPLOSION;
+				case SHIELD -> Sound.SHIELD;
+				case SPAWN, PENETRATION -> null;
+			};
+			if (sound != null) {
+				double centre = actor.getX() + actor.getWidth() / 2;
+				play(sound, Math.clamp(centre / world.getScreenWidth() * 2 - 1, -1.0, 1.0));
+			}
+		}
+	}
+}
@@ -0,0 +1,138 @@
+package com.example.demo.Engine;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * A list of actors that adds and removes actors in constant time.
+ *
+ * <p>The registry remembers the index of every actor it holds. Removing an actor moves the last
+ * actor into the freed slot instead of shifting everything after it, so removal never scans the
+ * list. The price is that removal changes the order of the remaining actors; every other
+ * operation keeps it. An actor can be held at most once.</p>
+ */
+public class ActorRegistry extends AbstractList<ActiveActorDestructible> implements RandomAccess {
+
+	private static final int DEFAULT_CAPACITY = 16;
+
+	private final Map<ActiveActorDestructible, Integer> indices;
+	private ActiveActorDestructible[] actors;
+	private int size;
+
+	/**
+	 * Creates an empty registry.
+	 */
+	public ActorRegistry() {
+		this.indices = new IdentityHashMap<>();
+		this.actors = new ActiveActorDestructible[DEFAULT_CAPACITY];
+	}
+
+	/**
+	 * Adds an actor to the end of the registry.
+	 *
+	 * @param actor The actor to add.
+	 * @return true if the actor was added, false if the registry already held it.
+	 */
+	@Override
+	public boolean add(ActiveActorDestructible actor) {
+		if (indices.containsKey(actor)) {
+			return false;
+		}
+		if (size == actors.length) {
+			actors = Arrays.copyOf(actors, size * 2);
+		}
+		actors[size] = actor;
+		indices.put(actor, size);
+		size++;
+		modCount++;
+		return true;
+	}
+
+	/**
+	 * Removes an actor in constant time by moving the last actor into its slot.
+	 *
+	 * @param actor The actor to remove.
+	 * @return true if the actor was removed, false if the registry did not hold it.
+	 */
+	@Override
+	public boolean remove(Object actor) {
+		Integer index = indices.get(actor);
+		if (index == null) {
+			return false;
+		}
+		remove((int) index);
+		return true;
+	}
+
+	/**
+	 * Removes the actor at the given index in constant time by moving the last actor into its slot.
+	 *
+	 * @param index The index of the actor to remove.
+	 * @return The removed actor.
+	 */
+	@Override
+	public ActiveActorDestructible remove(int index) {
+		ActiveActorDestructible removed = get(index);
+		indices.remove(removed);
+		int last = --size;
+		if (index != last) {
+			ActiveActorDestructible moved = actors[last];
+			actors[index] = moved;
+			indices.put(moved, index);
+		}
+		actors[last] = null;
+		modCount++;
+		return removed;
+	}
+
+	/**
+	 * Checks whether the registry holds the given actor, in constant time.
+	 *
+	 * @param actor The actor to look for.
+	 * @return true if the actor is in the registry, false otherwise.
+	 */
+	@Override
+	public boolean contains(Object actor) {
+		return indices.containsKey(actor);
+	}
+
+	/**
+	 * Returns the actor at the given index.
+	 *
+	 * @param index The index of the actor.
+	 * @return The actor.
+	 */
+	@Override
+	public ActiveActorDestructible get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+		}
+		return actors[index];
+	}
+
+	/**
+	 * Returns the number of actors in the registry.
+	 *
+	 * @return The number of actors.
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Removes every actor from the registry, keeping its capacity.
+	 */
+	@Override
+	public void clear() {
+		Arrays.fill(actors, 0, size, null);
+		indices.clear();
+		size = 0;
+		modCount++;
+	}
+}
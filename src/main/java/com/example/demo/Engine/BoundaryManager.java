@@ -0,0 +1,187 @@
+package com.example.demo.Engine;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.ProjectileStore;
+import com.example.demo.Actor.ProjectileType;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Retires projectiles and enemies that have left the playfield, so that shots that miss do not
+ * stay in the world forever and slow down every later update, collision pass and frame.
+ *
+ * <p>An actor is retired once its whole hitbox lies more than a margin outside the playfield.
+ * The margin can be set per projectile type and per actor class; everything else uses the
+ * default margin. Retired actors are destroyed and removed with the other destroyed actors at
+ * the end of the tick. The manager counts how many actors it retired in the last tick and in
+ * total.</p>
+ */
+public class BoundaryManager {
+
+	/**
+	 * The margin used for every actor type without a margin of its own.
+	 */
+	public static final double DEFAULT_MARGIN = 100;
+
+	private final double worldWidth;
+	private final double worldHeight;
+	private final double[] projectileMargins;
+	private final Map<Class<?>, Double> actorMargins;
+	private double defaultMargin;
+	private int culledLastTick;
+	private long totalCulled;
+
+	/**
+	 * Creates a boundary manager for a playfield of the given size.
+	 *
+	 * @param worldWidth  The width of the playfield.
+	 * @param worldHeight The height of the playfield.
+	 */
+	public BoundaryManager(double worldWidth, double worldHeight) {
+		this.worldWidth = worldWidth;
+		this.worldHeight = worldHeight;
+		this.projectileMargins = new double[ProjectileType.values().length];
+		this.actorMargins = new HashMap<>();
+		this.defaultMargin = DEFAULT_MARGIN;
+		Arrays.fill(projectileMargins, Double.NaN);
+	}
+
+	/**
+	 * Retires the given actors and the projectiles of the given stores that are out of bounds.
+	 * Called once per tick; the result becomes the count for the last tick.
+	 *
+	 * @param actors      The actors to check (e.g., enemy units).
+	 * @param projectiles The projectile stores to check.
+	 * @return The number of actors and projectiles retired.
+	 */
+	public int cull(List<ActiveActorDestructible> actors, ProjectileStore... projectiles) {
+		int culled = 0;
+		for (ActiveActorDestructible actor : actors) {
+			if (!actor.isDestroyed() && isOutside(actor.getX(), actor.getY(), actor.getMaxX(), actor.getMaxY(), getMargin(actor.getClass()))) {
+				actor.destroy();
+				culled++;
+			}
+		}
+		for (ProjectileStore store : projectiles) {
+			culled += cull(store);
+		}
+		culledLastTick = culled;
+		totalCulled += culled;
+		return culled;
+	}
+
+	/**
+	 * Destroys every live projectile of the store that is out of bounds.
+	 *
+	 * @param store The projectiles to check.
+	 * @return The number of projectiles retired.
+	 */
+	private int cull(ProjectileStore store) {
+		int culled = 0;
+		for (int i = 0; i < store.size(); i++) {
+			if (store.isAlive(i) && isOutside(store.getX(i), store.getY(i), store.getMaxX(i), store.getMaxY(i), getMargin(store.getType(i)))) {
+				store.destroy(i);
+				culled++;
+			}
+		}
+		return culled;
+	}
+
+	/**
+	 * Checks whether a hitbox lies entirely more than the margin outside the playfield.
+	 *
+	 * @param minX   The left edge.
+	 * @param minY   The top edge.
+	 * @param maxX   The right edge.
+	 * @param maxY   The bottom edge.
+	 * @param margin The distance outside the playfield that is still in bounds.
+	 * @return true if the hitbox is out of bounds, false otherwise.
+	 */
+	private boolean isOutside(double minX, double minY, double maxX, double maxY, double margin) {
+		return maxX < -margin || maxY < -margin || minX > worldWidth + margin || minY > worldHeight + margin;
+	}
+
+	/**
+	 * Sets the margin for projectiles of the given type.
+	 *
+	 * @param type   The projectile type.
+	 * @param margin The distance outside the playfield before a projectile is retired; must not be negative.
+	 */
+	public void setMargin(ProjectileType type, double margin) {
+		projectileMargins[type.ordinal()] = requireValidMargin(margin);
+	}
+
+	/**
+	 * Sets the margin for actors of the given class (subclasses have to be set separately).
+	 *
+	 * @param type   The exact class of the actors.
+	 * @param margin The distance outside the playfield before an actor is retired; must not be negative.
+	 */
+	public void setMargin(Class<? extends ActiveActorDestructible> type, double margin) {
+		actorMargins.put(type, requireValidMargin(margin));
+	}
+
+	/**
+	 * Sets the margin for every actor type that has no margin of its own.
+	 *
+	 * @param margin The distance outside the playfield before an actor is retired; must not be negative.
+	 */
+	public void setDefaultMargin(double margin) {
+		defaultMargin = requireValidMargin(margin);
+	}
+
+	/**
+	 * Returns the margin for projectiles of the given type.
+	 *
+	 * @param type The projectile type.
+	 * @return The margin.
+	 */
+	public double getMargin(ProjectileType type) {
+		double margin = projectileMargins[type.ordinal()];
+		return Double.isNaN(margin) ? defaultMargin : margin;
+	}
+
+	/**
+	 * Returns the margin for actors of the given class.
+	 *
+	 * @param type The class of the actors.
+	 * @return The margin.
+	 */
+	public double getMargin(Class<?> type) {
+		return actorMargins.getOrDefault(type, defaultMargin);
+	}
+
+	/**
+	 * Returns how many actors and projectiles were retired in the last tick.
+	 *
+	 * @return The number retired in the last tick.
+	 */
+	public int getCulledLastTick() {
+		return culledLastTick;
+	}
+
+	/**
+	 * Returns how many actors and projectiles have been retired since the world was created.
+	 *
+	 * @return The total number retired.
+	 */
+	public long getTotalCulled() {
+		return totalCulled;
+	}
+
+	/**
+	 * Checks that a margin is a non-negative number.
+	 *
+	 * @param margin The margin to check.
+	 * @return The margin.
+	 */
+	private static double requireValidMargin(double margin) {
+		if (!(margin >= 0)) {
+			throw new IllegalArgumentException("Margin must not be negative: " + margin);
+		}
+		return margin;
+	}
+}
@@ -0,0 +1,68 @@
+package com.example.demo.Engine;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.ProjectileStore;
+
+import java.util.List;
+
+/**
+ * Finds the pairs of actors from two groups whose hitboxes intersect, and the pairs of
+ * projectiles and actors whose hitboxes intersect.
+ *
+ * <p>Implementations differ only in how they avoid testing pairs that cannot touch; every
+ * implementation must report exactly the same pairs, in the same order, as
+ * {@link BruteForceBroadphase}: grouped by the actor from {@code actors2} (or {@code actors})
+ * in list order, and within each group by the actor from {@code actors1} in list order (or by
+ * the projectile in store order).</p>
+ */
+public interface Broadphase {
+
+	/**
+	 * Reports every intersecting pair made of one actor from each list.
+	 *
+	 * @param actors1 The first list of actors (e.g., user projectiles).
+	 * @param actors2 The second list of actors (e.g., enemy units).
+	 * @param handler The handler called once for every intersecting pair.
+	 */
+	void findCollisions(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2, CollisionHandler handler);
+
+	/**
+	 * Reports every intersecting pair made of one projectile from the store and one actor from the list.
+	 * Projectiles that were destroyed earlier in the same tick are still reported.
+	 *
+	 * @param projectiles The projectiles (e.g., those fired by the user).
+	 * @param actors      The actors (e.g., enemy units).
+	 * @param handler     The handler called once for every intersecting pair.
+	 */
+	void findCollisions(ProjectileStore projectiles, List<ActiveActorDestructible> actors, ProjectileCollisionHandler handler);
+
+	/**
+	 * Callback for a pair of intersecting actors.
+	 */
+	@FunctionalInterface
+	interface CollisionHandler {
+
+		/**
+		 * Called when two actors intersect.
+		 *
+		 * @param actor      The actor from the second list.
+		 * @param otherActor The actor from the first list.
+		 */
+		void onCollision(ActiveActorDestructible actor, ActiveActorDestructible otherActor);
+	}
+
+	/**
+	 * Callback for an actor and a projectile that intersect.
+	 */
+	@FunctionalInterface
+	interface ProjectileCollisionHandler {
+
+		/**
+		 * Called when an actor and a projectile intersect.
+		 *
+		 * @param actor      The actor.
+		 * @param projectile The index of the projectile in its store.
+		 */
+		void onCollision(ActiveActorDestructible actor, int projectile);
+	}
+}
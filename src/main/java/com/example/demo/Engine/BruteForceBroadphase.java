@@ -0,0 +1,49 @@
+package com.example.demo.Engine;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.ProjectileStore;
+
+import java.util.List;
+
+/**
+ * Tests every pair of actors from the two lists against each other.
+ * This is the reference implementation the other broadphases are compared against.
+ */
+public class BruteForceBroadphase implements Broadphase {
+
+	/**
+	 * Checks all pairs with a nested loop, calling the handler for every pair whose hitboxes intersect.
+	 *
+	 * @param actors1 The first list of actors (e.g., user projectiles).
+	 * @param actors2 The second list of actors (e.g., enemy units).
+	 * @param handler The handler called once for every intersecting pair.
+	 */
+	@Override
+	public void findCollisions(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2, CollisionHandler handler) {
+		for (ActiveActorDestructible actor : actors2) {
+			for (ActiveActorDestructible otherActor : actors1) {
+				if (actor.intersects(otherActor)) {
+					handler.onCollision(actor, otherActor);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Checks every projectile against every actor, calling the handler for every pair whose hitboxes intersect.
+	 *
+	 * @param projectiles The projectiles (e.g., those fired by the user).
+	 * @param actors      The actors (e.g., enemy units).
+	 * @param handler     The handler called once for every intersecting pair.
+	 */
+	@Override
+	public void findCollisions(ProjectileStore projectiles, List<ActiveActorDestructible> actors, ProjectileCollisionHandler handler) {
+		for (ActiveActorDestructible actor : actors) {
+			for (int i = 0; i < projectiles.size(); i++) {
+				if (projectiles.intersects(i, actor)) {
+					handler.onCollision(actor, i);
+				}
+			}
+		}
+	}
+}
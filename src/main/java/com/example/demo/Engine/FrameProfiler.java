@@ -0,0 +1,221 @@
+package com.example.demo.Engine;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Times every {@link FrameStage} of the game loop in nanoseconds and keeps the recent timings of
+ * each stage in a {@link RollingHistogram}.
+ *
+ * <p>Stages are timed as laps: {@link #start()} reads the clock, and every {@link #lap} records the
+ * time since the previous reading against a stage and returns the new reading, so a sequence of
+ * stages costs one clock read per stage. The profiler {@link #NONE} records nothing and does not
+ * read the clock at all.</p>
+ *
+ * <p>Every sample can also be streamed to a CSV file with the columns
+ * {@code level,tick,stage,nanos}, one row per sample, for analysis outside the game. The file is
+ * chosen with the {@code skybattle.profile.csv} system property, for example
+ * {@code -Dskybattle.profile.csv=profile.csv}; rows are appended, so several levels can be
+ * profiled into the same file.</p>
+ */
+public class FrameProfiler {
+
+	/**
+	 * The name of the system property that names the CSV file samples are streamed to.
+	 */
+	public static final String CSV_PROPERTY = "skybattle.profile.csv";
+
+	/**
+	 * A profiler that records nothing, for worlds that are not being profiled.
+	 */
+	public static final FrameProfiler NONE = new FrameProfiler(1, false);
+
+	private static final int DEFAULT_WINDOW = 256;
+	private static final int FLUSH_INTERVAL_TICKS = 20;
+	private static final String CSV_HEADER = "level,tick,stage,nanos";
+
+	private final boolean enabled;
+	private final RollingHistogram[] histograms;
+	private BufferedWriter csv;
+	private String csvLabel;
+	private long tick;
+
+	/**
+	 * Creates a profiler that keeps the timings of the last 256 samples of each stage.
+	 */
+	public FrameProfiler() {
+		this(DEFAULT_WINDOW, true);
+	}
+
+	/**
+	 * Creates a profiler that keeps the timings of the given number of samples of each stage.
+	 *
+	 * @param window The number of samples kept per stage.
+	 */
+	public FrameProfiler(int window) {
+		this(window, true);
+	}
+
+	private FrameProfiler(int window, boolean enabled) {
+		this.enabled = enabled;
+		this.histograms = new RollingHistogram[FrameStage.values().length];
+		for (int i = 0; i < histograms.length; i++) {
+			histograms[i] = new RollingHistogram(window);
+		}
+	}
+
+	/**
+	 * Starts streaming samples to the CSV file named by the {@code skybattle.profile.csv} system
+	 * property, if it is set. A file that cannot be opened is reported and profiling carries on
+	 * without it.
+	 *
+	 * @param label The value of the {@code level} column, e.g. the name of the level.
+	 */
+	public void streamToConfiguredCsv(String label) {
+		String path = System.getProperty(CSV_PROPERTY);
+		if (path == null || path.isBlank()) {
+			return;
+		}
+		try {
+			streamTo(Path.of(path), label);
+		} catch (IOException e) {
+			System.err.println("Cannot write profile to '" + path + "': " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Starts streaming samples to a CSV file, appending to it and writing the header first if the
+	 * file is new or empty. Any file samples were streamed to before is closed.
+	 *
+	 * @param path  The CSV file.
+	 * @param label The value of the {@code level} column, e.g. the name of the level.
+	 * @throws IOException If the file cannot be opened.
+	 */
+	public void streamTo(Path path, String label) throws IOException {
+		close();
+		boolean empty = !Files.exists(path) || Files.size(path) == 0;
+		csv = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+		csvLabel = label;
+		if (empty) {
+			csv.write(CSV_HEADER);
+			csv.newLine();
+		}
+	}
+
+	/**
+	 * Sets the tick that the following samples belong to. The CSV file is flushed once a second
+	 * of ticks, so little is lost if the game is closed without ending the level.
+	 *
+	 * @param tick The number of the tick.
+	 */
+	public void beginTick(long tick) {
+		this.tick = tick;
+		if (csv != null && tick % FLUSH_INTERVAL_TICKS == 0) {
+			try {
+				csv.flush();
+			} catch (IOException e) {
+				stopStreaming(e);
+			}
+		}
+	}
+
+	/**
+	 * Reads the clock to start timing a sequence of stages.
+	 *
+	 * @return The current time in nanoseconds, or 0 if this profiler records nothing.
+	 */
+	public long start() {
+		return enabled ? System.nanoTime() : 0;
+	}
+
+	/**
+	 * Records the time since {@code since} against a stage.
+	 *
+	 * @param stage The stage that has just finished.
+	 * @param since The time the stage started, as returned by {@link #start()} or the previous lap.
+	 * @return The current time in nanoseconds, the start of the next stage.
+	 */
+	public long lap(FrameStage stage, long since) {
+		if (!enabled) {
+			return 0;
+		}
+		long now = System.nanoTime();
+		record(stage, now - since);
+		return now;
+	}
+
+	/**
+	 * Records one sample for a stage.
+	 *
+	 * @param stage The stage.
+	 * @param nanos The time the stage took, in nanoseconds.
+	 */
+	public void record(FrameStage stage, long nanos) {
+		if (!enabled) {
+			return;
+		}
+		histograms[stage.ordinal()].record(nanos);
+		if (csv != null) {
+			try {
+				csv.write(csvLabel + ',' + tick + ',' + stage.getLabel() + ',' + nanos);
+				csv.newLine();
+			} catch (IOException e) {
+				stopStreaming(e);
+			}
+		}
+	}
+
+	/**
+	 * Returns the recent timings of a stage.
+	 *
+	 * @param stage The stage.
+	 * @return The histogram of the stage, in nanoseconds.
+	 */
+	public RollingHistogram getHistogram(FrameStage stage) {
+		return histograms[stage.ordinal()];
+	}
+
+	/**
+	 * Checks whether this profiler records samples.
+	 *
+	 * @return false for {@link #NONE}, true otherwise.
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Flushes and closes the CSV file, if samples are being streamed. Recording into the
+	 * histograms carries on.
+	 */
+	public void close() {
+		if (csv == null) {
+			return;
+		}
+		try {
+			csv.close();
+		} catch (IOException e) {
+			System.err.println("Cannot finish profile: " + e.getMessage());
+		}
+		csv = null;
+	}
+
+	/**
+	 * Stops streaming after a write failed, so a full disk does not fail every later frame.
+	 *
+	 * @param e The error that stopped the stream.
+	 */
+	private void stopStreaming(IOException e) {
+		System.err.println("Stopped writing profile: " + e.getMessage());
+		try {
+			csv.close();
+		} catch (IOException ignored) {
+			// The stream is being abandoned anyway.
+		}
+		csv = null;
+	}
+}
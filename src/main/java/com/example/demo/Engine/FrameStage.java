@@ -0,0 +1,56 @@
+package com.example.demo.Engine;
+
+import java.util.Locale;
+
+/**
+ * The stages of a frame timed by the {@link FrameProfiler}: the phases of a {@link World} tick in
+ * the order they run, the work the view does after a tick, the whole update step, and rendering.
+ */
+public enum FrameStage {
+
+	/** Actors remember where they start the step, for interpolation. */
+	BEGIN_STEPS,
+	/** The level adds new enemies. */
+	SPAWN_ENEMY_UNITS,
+	/** Planes and projectiles move. */
+	UPDATE_ACTORS,
+	/** Enemies fire. */
+	GENERATE_ENEMY_FIRE,
+	/** The held player actions move the user plane and fire. */
+	HANDLE_INPUT,
+	/** Enemies that got past the player are destroyed and hurt the player. */
+	HANDLE_ENEMY_PENETRATION,
+	/** Actors that left the playfield are retired. */
+	CULL_OUT_OF_BOUNDS,
+	/** User projectiles are tested against enemy units. */
+	USER_PROJECTILE_COLLISIONS,
+	/** Enemy projectiles are tested against friendly units. */
+	ENEMY_PROJECTILE_COLLISIONS,
+	/** Friendly and enemy planes are tested against each other. */
+	PLANE_COLLISIONS,
+	/** Destroyed actors and projectiles are removed. */
+	REMOVE_DESTROYED_ACTORS,
+	/** The level decides whether it has been won or lost. */
+	CHECK_IF_GAME_OVER,
+	/** The view adds and removes the nodes of actors that entered or left the world. */
+	APPLY_VIEW_CHANGES,
+	/** The HUD follows the state of the world. */
+	UPDATE_LEVEL_VIEW,
+	/** The sound effects of the tick are handed to the audio thread. */
+	PLAY_SOUNDS,
+	/** One whole simulation step: the world tick and the view work that follows it. */
+	TICK,
+	/** One frame drawn by the renderer. */
+	RENDER;
+
+	private final String label = name().toLowerCase(Locale.ROOT);
+
+	/**
+	 * Returns the name of the stage in lower case, as shown in the overlay and the CSV file.
+	 *
+	 * @return The label of the stage.
+	 */
+	public String getLabel() {
+		return label;
+	}
+}
@@ -0,0 +1,163 @@
+package com.example.demo.Engine;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+
+/**
+ * A stream of the {@link GameEventType events} of one world, kept in a ring buffer that is
+ * allocated once, up front.
+ *
+ * <p>The world publishes while it ticks; consumers such as the HUD, audio or telemetry each hold
+ * a {@link Cursor} of their own and drain it once per tick, so each consumer sees every event
+ * in the order it happened and only does work when something actually changed. Publishing never
+ * blocks and never allocates: a consumer that falls more than a buffer's length behind loses its
+ * oldest events, which its cursor counts as dropped. A consumer that keeps state, such as the
+ * hearts on the HUD, watches that count and resyncs from the world when it goes up.</p>
+ *
+ * <p>The bus belongs to the thread that ticks the world. Actors named by events may be reused
+ * for new enemies once they have been removed, so consumers should drain every tick rather than
+ * hold on to events.</p>
+ */
+public final class GameEventBus {
+
+	private static final GameEventType[] TYPES = GameEventType.values();
+	private static final int DEFAULT_CAPACITY = 4096;
+
+	private final int mask;
+	private final byte[] types;
+	private final ActiveActorDestructible[] actors;
+	private final long[] ticks;
+	private long published;
+
+	/**
+	 * Creates a bus that holds the last 4096 events.
+	 */
+	public GameEventBus() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a bus that holds at least the given number of most recent events.
+	 *
+	 * @param capacity The number of events, rounded up to a power of two.
+	 */
+	public GameEventBus(int capacity) {
+		if (capacity < 1 || capacity > 1 << 30) {
+			throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+		}
+		int size = Math.max(1, Integer.highestOneBit(capacity - 1) << 1);
+		this.mask = size - 1;
+		this.types = new byte[size];
+		this.actors = new ActiveActorDestructible[size];
+		this.ticks = new long[size];
+	}
+
+	/**
+	 * Adds an event to the stream, overwriting the oldest one if the buffer is full.
+	 *
+	 * @param type  The kind of event.
+	 * @param actor The actor the event happened to.
+	 * @param tick  The tick the event happened in.
+	 */
+	public void publish(GameEventType type, ActiveActorDestructible actor, long tick) {
+		int slot = (int) (published & mask);
+		types[slot] = (byte) type.ordinal();
+		actors[slot] = actor;
+		ticks[slot] = tick;
+		published++;
+	}
+
+	/**
+	 * Returns the number of events published so far.
+	 *
+	 * @return The number of events.
+	 */
+	public long getPublishedCount() {
+		return published;
+	}
+
+	/**
+	 * Returns the number of events the buffer holds.
+	 *
+	 * @return The capacity of the buffer.
+	 */
+	public int getCapacity() {
+		return mask + 1;
+	}
+
+	/**
+	 * Creates a cursor that will see the events published from now on.
+	 *
+	 * @return A new cursor.
+	 */
+	public Cursor subscribe() {
+		return new Cursor();
+	}
+
+	/**
+	 * Called for each event drained from a {@link Cursor}.
+	 */
+	@FunctionalInterface
+	public interface Consumer {
+
+		/**
+		 * Handles one event.
+		 *
+		 * @param type  The kind of event.
+		 * @param actor The actor the event happened to.
+		 * @param tick  The tick the event happened in.
+		 */
+		void onEvent(GameEventType type, ActiveActorDestructible actor, long tick);
+	}
+
+	/**
+	 * The position of one consumer in the stream.
+	 */
+	public final class Cursor {
+
+		private long next;
+		private long dropped;
+
+		/**
+		 * Creates a cursor positioned after the last published event.
+		 */
+		private Cursor() {
+			next = published;
+		}
+
+		/**
+		 * Passes every event published since the last drain to the consumer, oldest first.
+		 *
+		 * @param consumer The consumer.
+		 * @return The number of events passed on.
+		 */
+		public int drain(Consumer consumer) {
+			long oldest = published - types.length;
+			if (next < oldest) {
+				dropped += oldest - next;
+				next = oldest;
+			}
+			int count = (int) (published - next);
+			for (; next < published; next++) {
+				int slot = (int) (next & mask);
+				consumer.onEvent(TYPES[types[slot]], actors[slot], ticks[slot]);
+			}
+			return count;
+		}
+
+		/**
+		 * Skips every event published so far, e.g. when a consumer that was switched off starts again.
+		 */
+		public void skipToEnd() {
+			next = published;
+		}
+
+		/**
+		 * Returns the number of events this cursor lost because it fell too far behind.
+		 *
+		 * @return The number of dropped events.
+		 */
+		public long getDroppedCount() {
+			return dropped;
+		}
+	}
+}
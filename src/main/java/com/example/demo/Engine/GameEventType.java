@@ -0,0 +1,20 @@
+package com.example.demo.Engine;
+
+/**
+ * The kinds of things that happen in a {@link World} and are published on its {@link GameEventBus}.
+ * Each event names the actor it happened to.
+ */
+public enum GameEventType {
+	/** An actor was hit by a projectile or a plane; the actor is the one that was hit. */
+	DAMAGE,
+	/** An enemy was destroyed by the player; the actor is the enemy. */
+	KILL,
+	/** An enemy entered the world; the actor is the enemy. */
+	SPAWN,
+	/** A plane fired a projectile; the actor is the plane. */
+	FIRE,
+	/** An enemy got past the player's defences; the actor is the enemy. */
+	PENETRATION,
+	/** An enemy raised its shield; the actor is the enemy. */
+	SHIELD
+}
@@ -0,0 +1,137 @@
+package com.example.demo.Engine;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * Drives the game with a fixed simulation timestep and a variable render rate.
+ *
+ * <p>The loop is an {@link AnimationTimer}, so it is pulsed once per screen refresh. Elapsed
+ * time is added to an accumulator, and the simulation step is run once for every whole step
+ * that fits into it. When the FX thread stalls, the missed steps are caught up on the next
+ * pulses instead of being dropped, but never more than {@code maxStepsPerPulse} at a time, so a
+ * stall cannot snowball into an ever longer frame; the steps that are left wait in the
+ * accumulator for the following pulses. Only a stall of more than a second, such as the window
+ * being dragged or the process being suspended, is partly dropped: the accumulator never holds
+ * more than a second of steps, so a machine too slow to keep up falls behind by at most that much
+ * instead of piling up ever more work.</p>
+ *
+ * <p>After the steps for a pulse have run, the renderer is called with the fraction of a step
+ * that is still left in the accumulator. It uses this value to interpolate actors between their
+ * previous and current simulated positions, giving smooth motion at the display refresh rate
+ * while the simulation itself keeps running at its fixed rate.</p>
+ */
+public class GameLoop extends AnimationTimer {
+
+	private static final long NANOS_PER_MILLISECOND = 1_000_000L;
+	private static final long MAX_BACKLOG_NANOS = 1_000 * NANOS_PER_MILLISECOND;
+
+	private final Runnable simulationStep;
+	private final DoubleConsumer renderer;
+	private long stepNanos;
+	private int maxStepsPerPulse;
+	private long lastPulse;
+	private long accumulator;
+	private boolean running;
+
+	/**
+	 * Creates a game loop that calls the simulation step at a fixed rate and the renderer once per pulse.
+	 *
+	 * @param stepMillis       The length of one simulation step in milliseconds.
+	 * @param maxStepsPerPulse The maximum number of steps run in a single pulse.
+	 * @param simulationStep   The action that advances the simulation by one step.
+	 * @param renderer         The action that draws the current state, given the interpolation factor in [0, 1].
+	 */
+	public GameLoop(double stepMillis, int maxStepsPerPulse, Runnable simulationStep, DoubleConsumer renderer) {
+		this.simulationStep = simulationStep;
+		this.renderer = renderer;
+		setStepMillis(stepMillis);
+		setMaxStepsPerPulse(maxStepsPerPulse);
+	}
+
+	/**
+	 * Starts (or resumes) the loop. Time spent while the loop was stopped is not caught up.
+	 */
+	@Override
+	public void start() {
+		lastPulse = -1;
+		accumulator = 0;
+		running = true;
+		super.start();
+	}
+
+	/**
+	 * Stops the loop. Any step that is still pending in the current pulse is not run.
+	 */
+	@Override
+	public void stop() {
+		running = false;
+		super.stop();
+	}
+
+	/**
+	 * Called by JavaFX once per pulse. Runs the pending simulation steps and renders the result.
+	 *
+	 * @param now The timestamp of the current pulse in nanoseconds.
+	 */
+	@Override
+	public void handle(long now) {
+		if (lastPulse < 0) {
+			lastPulse = now;
+			return;
+		}
+		accumulator = Math.min(accumulator + now - lastPulse, Math.max(MAX_BACKLOG_NANOS, stepNanos));
+		lastPulse = now;
+
+		for (int steps = 0; running && accumulator >= stepNanos && steps < maxStepsPerPulse; steps++) {
+			simulationStep.run();
+			accumulator -= stepNanos;
+		}
+		// While steps are still owed the latest state is shown as it is, without interpolation.
+		renderer.accept(running ? Math.min(1.0, (double) accumulator / stepNanos) : 1.0);
+	}
+
+	/**
+	 * Sets the length of one simulation step.
+	 *
+	 * @param stepMillis The step length in milliseconds; must be positive.
+	 */
+	public final void setStepMillis(double stepMillis) {
+		if (stepMillis <= 0) {
+			throw new IllegalArgumentException("Step length must be positive: " + stepMillis);
+		}
+		this.stepNanos = Math.round(stepMillis * NANOS_PER_MILLISECOND);
+	}
+
+	/**
+	 * Returns the length of one simulation step.
+	 *
+	 * @return The step length in milliseconds.
+	 */
+	public double getStepMillis() {
+		return (double) stepNanos / NANOS_PER_MILLISECOND;
+	}
+
+	/**
+	 * Sets how many simulation steps may be run in one pulse to catch up after a stall. Steps
+	 * beyond this number are not dropped but run on the following pulses.
+	 *
+	 * @param maxStepsPerPulse The maximum number of steps per pulse; must be at least 1.
+	 */
+	public final void setMaxStepsPerPulse(int maxStepsPerPulse) {
+		if (maxStepsPerPulse < 1) {
+			throw new IllegalArgumentException("At least one step per pulse is required: " + maxStepsPerPulse);
+		}
+		this.maxStepsPerPulse = maxStepsPerPulse;
+	}
+
+	/**
+	 * Returns whether the loop is currently running.
+	 *
+	 * @return true if the loop has been started and not stopped, false otherwise.
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+}
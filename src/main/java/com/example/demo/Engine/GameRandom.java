@@ -0,0 +1,114 @@
+package com.example.demo.Engine;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * The random numbers of one world, derived from a single master seed.
+ *
+ * <p>Each subsystem draws from its own {@link Stream}, split from the master seed in a fixed order,
+ * so two worlds built from the same seed and given the same player actions play out identically,
+ * and a change in how often one subsystem rolls does not shift the rolls of the others. The
+ * streams are {@link SplittableRandom}s: fast, unsynchronized, and owned by the world's thread,
+ * unlike the shared generator behind {@code Math.random()}.</p>
+ *
+ * <p>Worlds normally take their seed from the {@code skybattle.seed} system property (for example
+ * {@code -Dskybattle.seed=42}) and pick a fresh seed when it is not set; the seed in use is
+ * available from {@link #getSeed()} so a run can be repeated.</p>
+ */
+public final class GameRandom {
+
+	/**
+	 * The name of the system property that fixes the master seed.
+	 */
+	public static final String SEED_PROPERTY = "skybattle.seed";
+
+	/**
+	 * The subsystems that draw random numbers, each from a stream of its own.
+	 */
+	public enum Stream {
+		/** Whether, where and which enemies appear. */
+		SPAWN,
+		/** Whether enemy planes and the boss fire. */
+		ENEMY_FIRE,
+		/** How the boss moves and when it raises its shield. */
+		BOSS_AI
+	}
+
+	private final long seed;
+	private final SplittableRandom[] streams;
+
+	/**
+	 * Creates the streams for the given master seed.
+	 *
+	 * @param seed The master seed.
+	 */
+	public GameRandom(long seed) {
+		this.seed = seed;
+		SplittableRandom master = new SplittableRandom(seed);
+		this.streams = new SplittableRandom[Stream.values().length];
+		for (int i = 0; i < streams.length; i++) {
+			streams[i] = master.split();
+		}
+	}
+
+	/**
+	 * Creates the streams for the seed given by the {@code skybattle.seed} system property, or
+	 * for a fresh seed if the property is not set or is not a number.
+	 *
+	 * @return The random numbers for a new world.
+	 */
+	public static GameRandom fromConfiguredSeed() {
+		String value = System.getProperty(SEED_PROPERTY);
+		if (value != null) {
+			try {
+				return new GameRandom(Long.parseLong(value.trim()));
+			} catch (NumberFormatException e) {
+				System.err.println("Seed '" + value + "' is not a number, using a fresh seed");
+			}
+		}
+		return new GameRandom(ThreadLocalRandom.current().nextLong());
+	}
+
+	/**
+	 * Returns the master seed the streams were derived from.
+	 *
+	 * @return The master seed.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Returns the stream of a subsystem, for actors that roll their own numbers.
+	 *
+	 * @param stream The subsystem.
+	 * @return The generator of the subsystem.
+	 */
+	public RandomGenerator get(Stream stream) {
+		return streams[stream.ordinal()];
+	}
+
+	/**
+	 * Rolls for an event that happens with the given probability.
+	 *
+	 * @param stream      The subsystem rolling.
+	 * @param probability The probability of the event, in [0, 1].
+	 * @return true if the event happens, false otherwise.
+	 */
+	public boolean chance(Stream stream, double probability) {
+		return streams[stream.ordinal()].nextDouble() < probability;
+	}
+
+	/**
+	 * Returns a number between 0 (inclusive) and the bound (exclusive).
+	 *
+	 * @param stream The subsystem rolling.
+	 * @param bound  The upper bound; must be positive.
+	 * @return The number.
+	 */
+	public double nextDouble(Stream stream, double bound) {
+		return streams[stream.ordinal()].nextDouble(bound);
+	}
+}
@@ -0,0 +1,211 @@
+package com.example.demo.Engine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * The player input of one play session: the level, the seed of its random numbers and the
+ * {@link PlayerAction} mask held during every tick. Together these describe the session
+ * completely, so feeding the masks back into a world created with the same seed plays the same
+ * game again.
+ *
+ * <p>Players hold keys for many ticks at a time, so the masks are stored as runs: each run is a
+ * mask and the number of ticks it was held for, i.e. only the ticks where the input changes are
+ * kept. On disk a file starts with the magic number {@code SBIR}, a format version, the level
+ * name, the seed and the number of runs, followed by the runs, each written as one mask byte
+ * and the run length as a variable-length integer of seven bits per byte. The number of ticks is
+ * not stored; it is the sum of the run lengths. A minute of play typically takes a few hundred
+ * bytes.</p>
+ */
+public final class InputLog {
+
+	private static final int MAGIC = 0x53424952;
+	private static final int VERSION = 1;
+	private static final int VARINT_PAYLOAD_BITS = 7;
+	private static final int VARINT_PAYLOAD_MASK = 0x7F;
+	private static final int VARINT_CONTINUE_BIT = 0x80;
+	private static final int MAX_MASK = 0xFF;
+	private static final int MIN_RUN_BYTES = 2;
+
+	private final String level;
+	private final long seed;
+	private final long tickCount;
+	private final int[] masks;
+	private final int[] runLengths;
+
+	/**
+	 * Creates a log from its runs.
+	 *
+	 * @param level      The name of the level that was played.
+	 * @param seed       The seed of the level's random numbers.
+	 * @param masks      The action mask of every run.
+	 * @param runLengths The number of ticks of every run.
+	 * @param runCount   The number of runs in the arrays.
+	 */
+	InputLog(String level, long seed, int[] masks, int[] runLengths, int runCount) {
+		this.level = level;
+		this.seed = seed;
+		this.masks = Arrays.copyOf(masks, runCount);
+		this.runLengths = Arrays.copyOf(runLengths, runCount);
+		long ticks = 0;
+		for (int i = 0; i < runCount; i++) {
+			ticks += runLengths[i];
+		}
+		this.tickCount = ticks;
+	}
+
+	/**
+	 * Reads a log from a file.
+	 *
+	 * @param path The file.
+	 * @return The log.
+	 * @throws IOException If the file cannot be read, is not an input log or is corrupt.
+	 */
+	public static InputLog read(Path path) throws IOException {
+		// Every run takes at least a mask byte and a length byte, so the size of the file bounds the runs.
+		long maxRunCount = Files.size(path) / MIN_RUN_BYTES;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+			if (in.readInt() != MAGIC) {
+				throw new IOException("Not an input log: " + path);
+			}
+			int version = in.readUnsignedByte();
+			if (version != VERSION) {
+				throw new IOException("Unsupported input log version " + version + ": " + path);
+			}
+			String level = in.readUTF();
+			long seed = in.readLong();
+			long storedRunCount = readVarLong(in);
+			if (storedRunCount < 0 || storedRunCount > maxRunCount) {
+				throw new IOException("Corrupt run count " + storedRunCount + " in input log: " + path);
+			}
+			int runCount = (int) storedRunCount;
+			int[] masks = new int[runCount];
+			int[] runLengths = new int[runCount];
+			for (int i = 0; i < runCount; i++) {
+				masks[i] = in.readUnsignedByte();
+				long runLength = readVarLong(in);
+				if (runLength <= 0 || runLength > Integer.MAX_VALUE) {
+					throw new IOException("Corrupt run length " + runLength + " in input log: " + path);
+				}
+				runLengths[i] = (int) runLength;
+			}
+			return new InputLog(level, seed, masks, runLengths, runCount);
+		}
+	}
+
+	/**
+	 * Writes the log to a file, replacing the file if it exists.
+	 *
+	 * @param path The file.
+	 * @throws IOException If the file cannot be written.
+	 */
+	public void write(Path path) throws IOException {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+			out.writeInt(MAGIC);
+			out.writeByte(VERSION);
+			out.writeUTF(level);
+			out.writeLong(seed);
+			writeVarLong(out, masks.length);
+			for (int i = 0; i < masks.length; i++) {
+				out.writeByte(masks[i] & MAX_MASK);
+				writeVarLong(out, runLengths[i]);
+			}
+		}
+	}
+
+	/**
+	 * Returns the name of the level that was played.
+	 *
+	 * @return The level name.
+	 */
+	public String getLevel() {
+		return level;
+	}
+
+	/**
+	 * Returns the seed of the level's random numbers.
+	 *
+	 * @return The seed.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Returns the number of ticks the session lasted.
+	 *
+	 * @return The number of ticks.
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * Returns the number of runs of unchanged input.
+	 *
+	 * @return The number of runs.
+	 */
+	public int getRunCount() {
+		return masks.length;
+	}
+
+	/**
+	 * Returns the action mask held during a run.
+	 *
+	 * @param run The index of the run.
+	 * @return A bit mask of {@link PlayerAction} values.
+	 */
+	public int getMask(int run) {
+		return masks[run];
+	}
+
+	/**
+	 * Returns the number of ticks a run lasted.
+	 *
+	 * @param run The index of the run.
+	 * @return The number of ticks.
+	 */
+	public int getRunLength(int run) {
+		return runLengths[run];
+	}
+
+	/**
+	 * Writes a non-negative number in as few bytes as it needs, seven bits per byte, lowest bits first.
+	 *
+	 * @param out   The stream.
+	 * @param value The number.
+	 * @throws IOException If the stream cannot be written.
+	 */
+	private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+		while ((value & ~VARINT_PAYLOAD_MASK) != 0) {
+			out.writeByte((int) (value & VARINT_PAYLOAD_MASK) | VARINT_CONTINUE_BIT);
+			value >>>= VARINT_PAYLOAD_BITS;
+		}
+		out.writeByte((int) value);
+	}
+
+	/**
+	 * Reads a number written by {@link #writeVarLong}.
+	 *
+	 * @param in The stream.
+	 * @return The number.
+	 * @throws IOException If the stream cannot be read or the number is malformed.
+	 */
+	private static long readVarLong(DataInputStream in) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < Long.SIZE; shift += VARINT_PAYLOAD_BITS) {
+			int b = in.readUnsignedByte();
+			value |= (long) (b & VARINT_PAYLOAD_MASK) << shift;
+			if ((b & VARINT_CONTINUE_BIT) == 0) {
+				return value;
+			}
+		}
+		throw new IOException("Malformed number in input log");
+	}
+}
@@ -0,0 +1,57 @@
+package com.example.demo.Engine;
+
+import java.util.Arrays;
+
+/**
+ * Records the {@link PlayerAction} mask of every tick of a play session, keeping only the ticks
+ * where the input changes, and turns the recording into an {@link InputLog}.
+ */
+public class InputRecorder {
+
+	private static final int INITIAL_CAPACITY = 64;
+
+	private final String level;
+	private final long seed;
+	private int[] masks = new int[INITIAL_CAPACITY];
+	private int[] runLengths = new int[INITIAL_CAPACITY];
+	private int runCount;
+
+	/**
+	 * Creates a recorder for a session of the given level.
+	 *
+	 * @param level The name of the level being played.
+	 * @param seed  The seed of the level's random numbers.
+	 */
+	public InputRecorder(String level, long seed) {
+		this.level = level;
+		this.seed = seed;
+	}
+
+	/**
+	 * Records the actions held during the next tick.
+	 *
+	 * @param actions A bit mask of {@link PlayerAction} values.
+	 */
+	public void record(int actions) {
+		if (runCount > 0 && masks[runCount - 1] == actions && runLengths[runCount - 1] < Integer.MAX_VALUE) {
+			runLengths[runCount - 1]++;
+			return;
+		}
+		if (runCount == masks.length) {
+			masks = Arrays.copyOf(masks, runCount * 2);
+			runLengths = Arrays.copyOf(runLengths, runCount * 2);
+		}
+		masks[runCount] = actions;
+		runLengths[runCount] = 1;
+		runCount++;
+	}
+
+	/**
+	 * Returns the input recorded so far.
+	 *
+	 * @return A log of the recorded ticks.
+	 */
+	public InputLog toLog() {
+		return new InputLog(level, seed, masks, runLengths, runCount);
+	}
+}
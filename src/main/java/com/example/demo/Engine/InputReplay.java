@@ -0,0 +1,79 @@
+package com.example.demo.Engine;
+
+/**
+ * Plays back the input of an {@link InputLog}, one tick at a time.
+ *
+ * <p>For the replay to reproduce the session, the world it feeds must have been created for the
+ * same level with the seed stored in the log, and must be fed from its first tick on.</p>
+ */
+public class InputReplay {
+
+	private final InputLog log;
+	private int run;
+	private int ticksLeftInRun;
+
+	/**
+	 * Creates a replay that starts at the first tick of the log.
+	 *
+	 * @param log The recorded input.
+	 */
+	public InputReplay(InputLog log) {
+		this.log = log;
+		this.ticksLeftInRun = log.getRunCount() > 0 ? log.getRunLength(0) : 0;
+	}
+
+	/**
+	 * Checks whether the log holds input for another tick.
+	 *
+	 * @return true if there is input left, false once the whole log has been played.
+	 */
+	public boolean hasNext() {
+		return run < log.getRunCount();
+	}
+
+	/**
+	 * Returns the actions held during the next tick.
+	 *
+	 * @return A bit mask of {@link PlayerAction} values.
+	 * @throws IllegalStateException If the whole log has already been played.
+	 */
+	public int next() {
+		if (!hasNext()) {
+			throw new IllegalStateException("The input log has been played to the end");
+		}
+		int actions = log.getMask(run);
+		if (--ticksLeftInRun == 0) {
+			run++;
+			if (run < log.getRunCount()) {
+				ticksLeftInRun = log.getRunLength(run);
+			}
+		}
+		return actions;
+	}
+
+	/**
+	 * Feeds the rest of the log into a world as fast as it can tick, without drawing anything,
+	 * until the log ends or the level is over.
+	 *
+	 * @param world The world to drive.
+	 * @return The number of ticks run.
+	 */
+	public long runToEnd(World world) {
+		long ticks = 0;
+		while (hasNext() && world.getOutcome() == World.Outcome.PLAYING) {
+			world.setActions(next());
+			world.tick();
+			ticks++;
+		}
+		return ticks;
+	}
+
+	/**
+	 * Returns the log being played.
+	 *
+	 * @return The recorded input.
+	 */
+	public InputLog getLog() {
+		return log;
+	}
+}
@@ -0,0 +1,187 @@
+package com.example.demo.Engine;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * Splits a loop over many independent items into chunks that run on a {@link ForkJoinPool}, once
+ * there are enough items to pay for the hand-off.
+ *
+ * <p>The chunks are contiguous index ranges numbered in order, and their boundaries depend only on
+ * the number of items, never on timing. Work that has to be applied in a fixed order (such as
+ * damage from collisions) is gathered per chunk and applied afterwards, chunk by chunk, which gives
+ * exactly the order of a serial loop. Loops that are too short to split run on the calling thread,
+ * as does everything when the stage is {@link #SERIAL}.</p>
+ *
+ * <p>Worlds use the stage given by the {@code skybattle.parallel} system property: the common
+ * pool by default, or {@link #SERIAL} for {@code -Dskybattle.parallel=false}. The number of
+ * threads is that of the common pool, set with
+ * {@code -Djava.util.concurrent.ForkJoinPool.common.parallelism}.</p>
+ */
+public final class ParallelStage {
+
+	/**
+	 * The name of the system property that turns parallel stages off when set to {@code false}.
+	 */
+	public static final String PARALLEL_PROPERTY = "skybattle.parallel";
+
+	/**
+	 * A stage that runs every loop on the calling thread.
+	 */
+	public static final ParallelStage SERIAL = new ParallelStage(null);
+
+	private static final int CHUNKS_PER_THREAD = 4;
+
+	private final ForkJoinPool pool;
+
+	/**
+	 * Creates a stage that runs the chunks of long loops on the given pool.
+	 *
+	 * @param pool The pool, or null to run every loop on the calling thread.
+	 */
+	public ParallelStage(ForkJoinPool pool) {
+		this.pool = pool != null && pool.getParallelism() > 1 ? pool : null;
+	}
+
+	/**
+	 * Returns the stage chosen by the {@code skybattle.parallel} system property.
+	 *
+	 * @return {@link #SERIAL} if the property is {@code false}, otherwise a stage on the common pool.
+	 */
+	public static ParallelStage fromConfiguredProperty() {
+		String value = System.getProperty(PARALLEL_PROPERTY);
+		if (value != null && !value.equalsIgnoreCase("true") && !value.equalsIgnoreCase("false")) {
+			System.err.println("Ignoring " + PARALLEL_PROPERTY + "=" + value + ": expected true or false");
+		}
+		return "false".equalsIgnoreCase(value) ? SERIAL : new ParallelStage(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Checks whether this stage can run chunks on more than one thread.
+	 *
+	 * @return true if loops may be split, false if everything runs on the calling thread.
+	 */
+	public boolean isParallel() {
+		return pool != null;
+	}
+
+	/**
+	 * Returns the number of chunks a loop over the given number of items is split into.
+	 *
+	 * @param size             The number of items.
+	 * @param minimumChunkSize The smallest number of items worth handing to another thread.
+	 * @return The number of chunks; 1 if the loop runs on the calling thread.
+	 */
+	public int chunkCount(int size, int minimumChunkSize) {
+		if (pool == null) {
+			return 1;
+		}
+		return Math.clamp(size / Math.max(1, minimumChunkSize), 1, pool.getParallelism() * CHUNKS_PER_THREAD);
+	}
+
+	/**
+	 * Runs an action on every chunk of a loop and returns when all chunks are done.
+	 *
+	 * @param size             The number of items.
+	 * @param minimumChunkSize The smallest number of items worth handing to another thread.
+	 * @param action           The action, called once per chunk; it must only touch the items in its chunk.
+	 */
+	public void forEachChunk(int size, int minimumChunkSize, ChunkAction action) {
+		int chunks = chunkCount(size, minimumChunkSize);
+		if (chunks == 1) {
+			action.run(0, 0, size);
+		} else {
+			pool.invoke(new ChunkTask(action, size, chunks, 0, chunks));
+		}
+	}
+
+	/**
+	 * Runs an action on every item of a list, in chunks.
+	 *
+	 * @param items            The items; the list must not change while the action runs.
+	 * @param minimumChunkSize The smallest number of items worth handing to another thread.
+	 * @param action           The action; it must only touch the item it is given.
+	 * @param <T>              The type of the items.
+	 */
+	public <T> void forEach(List<T> items, int minimumChunkSize, Consumer<? super T> action) {
+		forEachChunk(items.size(), minimumChunkSize, (chunk, from, to) -> {
+			for (int i = from; i < to; i++) {
+				action.accept(items.get(i));
+			}
+		});
+	}
+
+	/**
+	 * The work done on one chunk of a loop.
+	 */
+	@FunctionalInterface
+	public interface ChunkAction {
+
+		/**
+		 * Processes the items of one chunk.
+		 *
+		 * @param chunk The number of the chunk; chunks are numbered in the order of their items.
+		 * @param from  The index of the first item in the chunk.
+		 * @param to    The index after the last item in the chunk.
+		 */
+		void run(int chunk, int from, int to);
+	}
+
+	/**
+	 * Runs a range of chunks, splitting it in half until one chunk is left.
+	 */
+	private static final class ChunkTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		// Tasks are never serialized; RecursiveAction is Serializable only through ForkJoinTask.
+		private final transient ChunkAction action;
+		private final int size;
+		private final int chunks;
+		private final int firstChunk;
+		private final int endChunk;
+
+		/**
+		 * Creates a task for the chunks in {@code [firstChunk, endChunk)}.
+		 *
+		 * @param action     The action to run on each chunk.
+		 * @param size       The number of items in the whole loop.
+		 * @param chunks     The number of chunks in the whole loop.
+		 * @param firstChunk The first chunk of this task.
+		 * @param endChunk   The chunk after the last chunk of this task.
+		 */
+		private ChunkTask(ChunkAction action, int size, int chunks, int firstChunk, int endChunk) {
+			this.action = action;
+			this.size = size;
+			this.chunks = chunks;
+			this.firstChunk = firstChunk;
+			this.endChunk = endChunk;
+		}
+
+		/**
+		 * Runs a single chunk, or forks the two halves of the range.
+		 */
+		@Override
+		protected void compute() {
+			if (endChunk - firstChunk == 1) {
+				action.run(firstChunk, start(firstChunk), start(endChunk));
+				return;
+			}
+			int middle = (firstChunk + endChunk) >>> 1;
+			invokeAll(new ChunkTask(action, size, chunks, firstChunk, middle),
+					new ChunkTask(action, size, chunks, middle, endChunk));
+		}
+
+		/**
+		 * Returns the index of the first item of a chunk.
+		 *
+		 * @param chunk The chunk.
+		 * @return The index of its first item, or the loop size for the chunk after the last one.
+		 */
+		private int start(int chunk) {
+			return (int) ((long) size * chunk / chunks);
+		}
+	}
+}
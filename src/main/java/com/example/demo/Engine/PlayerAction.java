@@ -0,0 +1,32 @@
+package com.example.demo.Engine;
+
+/**
+ * The actions the player can hold down during a tick.
+ * A set of actions is passed around as a bit mask, with one bit per action.
+ */
+public enum PlayerAction {
+	MOVE_UP,
+	MOVE_DOWN,
+	MOVE_LEFT,
+	MOVE_RIGHT,
+	FIRE;
+
+	/**
+	 * Returns the bit that represents this action in an action mask.
+	 *
+	 * @return The bit mask of this action.
+	 */
+	public int mask() {
+		return 1 << ordinal();
+	}
+
+	/**
+	 * Checks whether this action is held in the given action mask.
+	 *
+	 * @param actions A bit mask of actions.
+	 * @return true if this action's bit is set, false otherwise.
+	 */
+	public boolean isIn(int actions) {
+		return (actions & mask()) != 0;
+	}
+}
@@ -0,0 +1,154 @@
+package com.example.demo.Engine;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * A pool of reusable objects of one type.
+ *
+ * <p>{@link #acquire()} hands out a free object if there is one (a hit) and only creates a new
+ * one when the pool is empty (a miss); {@link #release(Object)} gives an object back for later
+ * reuse. The pool does not reset objects itself: whoever acquires an object puts it back into a
+ * fresh state before using it. Pre-warming a pool with the number of objects a level needs at
+ * its peak means the level never misses once it is running.</p>
+ *
+ * @param <T> The type of the pooled objects.
+ */
+public class Pool<T> {
+
+	private final String name;
+	private final Supplier<T> factory;
+	private final ArrayDeque<T> free;
+	private int inUse;
+	private int highWaterMark;
+	private long hits;
+	private long misses;
+
+	/**
+	 * Creates an empty pool.
+	 *
+	 * @param name    A name for the pool, used when reporting its counters.
+	 * @param factory Creates a new object when the pool is empty.
+	 */
+	public Pool(String name, Supplier<T> factory) {
+		this.name = name;
+		this.factory = factory;
+		this.free = new ArrayDeque<>();
+	}
+
+	/**
+	 * Creates objects until the pool holds at least the given number of free objects.
+	 * Objects created here are not counted as misses.
+	 *
+	 * @param count The number of free objects the pool should hold.
+	 */
+	public void prewarm(int count) {
+		while (free.size() < count) {
+			free.push(factory.get());
+		}
+	}
+
+	/**
+	 * Returns a free object without taking it out of the pool, creating one if none is free, e.g.
+	 * to find out what the pooled objects look like. Not counted as a hit or a miss.
+	 *
+	 * @return An object that is not in use and stays in the pool.
+	 */
+	public T peek() {
+		prewarm(1);
+		return free.peek();
+	}
+
+	/**
+	 * Takes a free object from the pool, or creates one if none is free.
+	 *
+	 * @return An object that is not in use.
+	 */
+	public T acquire() {
+		T object = free.poll();
+		if (object == null) {
+			misses++;
+			object = factory.get();
+		} else {
+			hits++;
+		}
+		inUse++;
+		highWaterMark = Math.max(highWaterMark, inUse);
+		return object;
+	}
+
+	/**
+	 * Returns an object to the pool. The object must not be used again until it is acquired again.
+	 *
+	 * @param object An object previously acquired from this pool.
+	 */
+	public void release(T object) {
+		free.push(object);
+		inUse--;
+	}
+
+	/**
+	 * Returns the name of the pool.
+	 *
+	 * @return The name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns how many acquired objects have not been released yet.
+	 *
+	 * @return The number of objects in use.
+	 */
+	public int getInUse() {
+		return inUse;
+	}
+
+	/**
+	 * Returns how many objects are waiting in the pool to be reused.
+	 *
+	 * @return The number of free objects.
+	 */
+	public int getFree() {
+		return free.size();
+	}
+
+	/**
+	 * Returns the largest number of objects that were in use at the same time.
+	 *
+	 * @return The high-water mark.
+	 */
+	public int getHighWaterMark() {
+		return highWaterMark;
+	}
+
+	/**
+	 * Returns how many times {@link #acquire()} reused a free object.
+	 *
+	 * @return The number of hits.
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * Returns how many times {@link #acquire()} had to create a new object.
+	 *
+	 * @return The number of misses.
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * Returns the name and counters of the pool, for logging.
+	 *
+	 * @return A summary of the pool.
+	 */
+	@Override
+	public String toString() {
+		return name + "[inUse=" + inUse + ", free=" + free.size() + ", highWaterMark=" + highWaterMark
+				+ ", hits=" + hits + ", misses=" + misses + "]";
+	}
+}
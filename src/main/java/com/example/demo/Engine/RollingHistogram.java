@@ -0,0 +1,104 @@
+package com.example.demo.Engine;
+
+import java.util.Arrays;
+
+/**
+ * Keeps the most recent samples of a measurement, so percentiles always describe the last few
+ * seconds of play rather than the whole session.
+ *
+ * <p>Samples go into a ring buffer of fixed size; once it is full each new sample replaces the
+ * oldest. Percentiles are computed on demand from a sorted copy, which is cheap enough for the
+ * few times per second an overlay asks for them and keeps recording itself to a single store.</p>
+ */
+public class RollingHistogram {
+
+	private final long[] samples;
+	private final long[] sorted;
+	private int next;
+	private int count;
+	private boolean sortedIsCurrent;
+
+	/**
+	 * Creates a histogram over the given number of most recent samples.
+	 *
+	 * @param window The number of samples kept; must be positive.
+	 */
+	public RollingHistogram(int window) {
+		if (window < 1) {
+			throw new IllegalArgumentException("Window must be positive: " + window);
+		}
+		this.samples = new long[window];
+		this.sorted = new long[window];
+	}
+
+	/**
+	 * Adds a sample, replacing the oldest one once the window is full.
+	 *
+	 * @param value The sample.
+	 */
+	public void record(long value) {
+		samples[next] = value;
+		next = (next + 1) % samples.length;
+		count = Math.min(count + 1, samples.length);
+		sortedIsCurrent = false;
+	}
+
+	/**
+	 * Returns the sample below which the given share of the samples in the window lie,
+	 * using the nearest-rank method.
+	 *
+	 * @param percentile The percentile, in [0, 100].
+	 * @return The sample at that percentile, or 0 if there are no samples.
+	 */
+	public long getPercentile(double percentile) {
+		if (count == 0) {
+			return 0;
+		}
+		sort();
+		int rank = (int) Math.ceil(percentile / 100 * count);
+		return sorted[Math.clamp(rank - 1, 0, count - 1)];
+	}
+
+	/**
+	 * Returns the largest sample in the window.
+	 *
+	 * @return The largest sample, or 0 if there are no samples.
+	 */
+	public long getMax() {
+		if (count == 0) {
+			return 0;
+		}
+		sort();
+		return sorted[count - 1];
+	}
+
+	/**
+	 * Returns the number of samples in the window.
+	 *
+	 * @return The number of samples, at most the window size.
+	 */
+	public int getCount() {
+		return count;
+	}
+
+	/**
+	 * Removes all samples.
+	 */
+	public void clear() {
+		next = 0;
+		count = 0;
+		sortedIsCurrent = false;
+	}
+
+	/**
+	 * Copies the samples in the window into {@code sorted} in ascending order, unless that has
+	 * already been done since the last sample was recorded.
+	 */
+	private void sort() {
+		if (!sortedIsCurrent) {
+			System.arraycopy(samples, 0, sorted, 0, count);
+			Arrays.sort(sorted, 0, count);
+			sortedIsCurrent = true;
+		}
+	}
+}
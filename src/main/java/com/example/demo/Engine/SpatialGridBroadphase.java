@@ -0,0 +1,408 @@
+package com.example.demo.Engine;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.ProjectileStore;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A broadphase that sorts the first list of actors (or the projectiles) into a uniform grid
+ * covering the playfield, rebuilt on every call, and only tests each actor of the second list
+ * against the entries that share a grid cell with it. Sorting the many projectiles and querying
+ * with the few actors keeps a call close to linear in the number of projectiles.
+ *
+ * <p>The cell size follows the sprites being sorted: it is the largest width or height found
+ * among them (but never below {@code minimumCellSize}), so a sorted sprite covers at most
+ * two cells in each direction. Sprites outside the playfield are clamped into the border cells,
+ * which keeps every intersecting pair in a shared cell. Hitboxes are read once per sprite and
+ * call, and all scratch arrays are reused between calls.</p>
+ *
+ * <p>With a parallel {@link ParallelStage}, long lists of querying actors are split into chunks
+ * that look up their candidates and run the intersection tests on the stage's pool. Each chunk
+ * keeps its own scratch arrays and collects its hits, and the hits are handed to the handler
+ * afterwards on the calling thread, chunk by chunk, so the pairs arrive in the same order as in
+ * a serial call.</p>
+ */
+public class SpatialGridBroadphase implements Broadphase {
+
+	private static final double DEFAULT_MINIMUM_CELL_SIZE = 32;
+	private static final int MINIMUM_ACTORS_PER_CHUNK = 32;
+
+	private final double worldWidth;
+	private final double worldHeight;
+	private final double minimumCellSize;
+
+	private double[] minX = new double[0];
+	private double[] minY = new double[0];
+	private double[] maxX = new double[0];
+	private double[] maxY = new double[0];
+	private Query[] queries = {new Query()};
+	private int[] cellStart = new int[0];
+	private int[] cellCursor = new int[0];
+	private int[] cellEntries = new int[0];
+
+	private double cellSize;
+	private int columns;
+	private int rows;
+	private int sortedCount;
+	private ParallelStage parallelStage = ParallelStage.SERIAL;
+
+	/**
+	 * Creates a grid broadphase for a playfield of the given size.
+	 *
+	 * @param worldWidth  The width of the playfield.
+	 * @param worldHeight The height of the playfield.
+	 */
+	public SpatialGridBroadphase(double worldWidth, double worldHeight) {
+		this(worldWidth, worldHeight, DEFAULT_MINIMUM_CELL_SIZE);
+	}
+
+	/**
+	 * Creates a grid broadphase for a playfield of the given size.
+	 *
+	 * @param worldWidth      The width of the playfield.
+	 * @param worldHeight     The height of the playfield.
+	 * @param minimumCellSize The smallest cell size the grid may use.
+	 */
+	public SpatialGridBroadphase(double worldWidth, double worldHeight, double minimumCellSize) {
+		this.worldWidth = worldWidth;
+		this.worldHeight = worldHeight;
+		this.minimumCellSize = minimumCellSize;
+	}
+
+	/**
+	 * Sets the stage that runs the lookups and intersection tests of long actor lists.
+	 * Grids run serially by default.
+	 *
+	 * @param parallelStage The stage to use from the next call on.
+	 */
+	public void setParallelStage(ParallelStage parallelStage) {
+		this.parallelStage = parallelStage;
+	}
+
+	/**
+	 * Sorts {@code actors1} into the grid, then tests each actor of {@code actors2} against the
+	 * actors in the cells it overlaps. Pairs are reported in the same order as a brute-force scan.
+	 *
+	 * @param actors1 The first list of actors (e.g., user projectiles).
+	 * @param actors2 The second list of actors (e.g., enemy units).
+	 * @param handler The handler called once for every intersecting pair.
+	 */
+	@Override
+	public void findCollisions(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2, CollisionHandler handler) {
+		int count = actors1.size();
+		if (count == 0 || actors2.isEmpty()) {
+			return;
+		}
+		ensureCapacity(count);
+		double largestExtent = minimumCellSize;
+		for (int i = 0; i < count; i++) {
+			ActiveActorDestructible actor = actors1.get(i);
+			cacheHitbox(i, actor.getX(), actor.getY(), actor.getMaxX(), actor.getMaxY());
+			largestExtent = Math.max(largestExtent, Math.max(actor.getWidth(), actor.getHeight()));
+		}
+		buildGrid(count, largestExtent);
+		query(actors2, (j, i) -> handler.onCollision(actors2.get(j), actors1.get(i)));
+	}
+
+	/**
+	 * Sorts the projectiles into the grid, then tests each actor against the projectiles in the
+	 * cells it overlaps. Pairs are reported in the same order as a brute-force scan.
+	 *
+	 * @param projectiles The projectiles (e.g., those fired by the user).
+	 * @param actors      The actors (e.g., enemy units).
+	 * @param handler     The handler called once for every intersecting pair.
+	 */
+	@Override
+	public void findCollisions(ProjectileStore projectiles, List<ActiveActorDestructible> actors, ProjectileCollisionHandler handler) {
+		int count = projectiles.size();
+		if (count == 0 || actors.isEmpty()) {
+			return;
+		}
+		ensureCapacity(count);
+		double largestExtent = minimumCellSize;
+		for (int i = 0; i < count; i++) {
+			cacheHitbox(i, projectiles.getX(i), projectiles.getY(i), projectiles.getMaxX(i), projectiles.getMaxY(i));
+			largestExtent = Math.max(largestExtent, Math.max(maxX[i] - minX[i], maxY[i] - minY[i]));
+		}
+		buildGrid(count, largestExtent);
+		query(actors, (j, i) -> handler.onCollision(actors.get(j), i));
+	}
+
+	/**
+	 * Tests each actor against the entries in the cells it overlaps and reports the intersecting
+	 * pairs, in actor order and then in entry order. Long lists are split into chunks on the
+	 * parallel stage; their hits are reported once all chunks are done.
+	 *
+	 * @param actors  The actors to look up.
+	 * @param handler The handler called once for every intersecting pair.
+	 */
+	private void query(List<ActiveActorDestructible> actors, PairHandler handler) {
+		int chunks = parallelStage.chunkCount(actors.size(), MINIMUM_ACTORS_PER_CHUNK);
+		if (chunks == 1) {
+			Query query = queries[0];
+			query.reset(sortedCount);
+			for (int j = 0; j < actors.size(); j++) {
+				ActiveActorDestructible actor = actors.get(j);
+				int candidateCount = collectCandidates(query, actor, j + 1);
+				for (int k = 0; k < candidateCount; k++) {
+					int i = query.candidates[k];
+					if (overlaps(i, actor)) {
+						handler.onPair(j, i);
+					}
+				}
+			}
+			return;
+		}
+
+		ensureQueries(chunks);
+		parallelStage.forEachChunk(actors.size(), MINIMUM_ACTORS_PER_CHUNK, (chunk, from, to) -> {
+			Query query = queries[chunk];
+			query.reset(sortedCount);
+			for (int j = from; j < to; j++) {
+				ActiveActorDestructible actor = actors.get(j);
+				int candidateCount = collectCandidates(query, actor, j + 1);
+				for (int k = 0; k < candidateCount; k++) {
+					int i = query.candidates[k];
+					if (overlaps(i, actor)) {
+						query.addHit(j, i);
+					}
+				}
+			}
+		});
+		for (int chunk = 0; chunk < chunks; chunk++) {
+			Query query = queries[chunk];
+			for (int h = 0; h < query.hitCount; h++) {
+				handler.onPair(query.hitActors[h], query.hitEntries[h]);
+			}
+		}
+	}
+
+	/**
+	 * Gathers the sorted entries that share a cell with the given actor, each entry once and in
+	 * ascending order, into the query's {@code candidates}.
+	 *
+	 * @param query     The scratch arrays of the thread doing the lookup.
+	 * @param actor     The actor to look up.
+	 * @param visitMark A value unique to this actor within the current call, used to skip duplicates.
+	 * @return The number of candidates found.
+	 */
+	private int collectCandidates(Query query, ActiveActorDestructible actor, int visitMark) {
+		int[] visitedBy = query.visitedBy;
+		int[] candidates = query.candidates;
+		int firstColumn = column(actor.getX());
+		int lastColumn = column(actor.getMaxX());
+		int firstRow = row(actor.getY());
+		int lastRow = row(actor.getMaxY());
+		int candidateCount = 0;
+
+		for (int r = firstRow; r <= lastRow; r++) {
+			for (int c = firstColumn; c <= lastColumn; c++) {
+				int cell = r * columns + c;
+				for (int e = cellStart[cell]; e < cellStart[cell + 1]; e++) {
+					int i = cellEntries[e];
+					if (visitedBy[i] != visitMark) {
+						visitedBy[i] = visitMark;
+						candidates[candidateCount++] = i;
+					}
+				}
+			}
+		}
+		Arrays.sort(candidates, 0, candidateCount);
+		return candidateCount;
+	}
+
+	/**
+	 * Checks whether a cached hitbox overlaps the hitbox of an actor. Touching edges count as an overlap.
+	 *
+	 * @param i     The index of the cached hitbox.
+	 * @param actor The actor.
+	 * @return true if the two hitboxes intersect, false otherwise.
+	 */
+	private boolean overlaps(int i, ActiveActorDestructible actor) {
+		return maxX[i] >= actor.getX() && maxY[i] >= actor.getY() && minX[i] <= actor.getMaxX() && minY[i] <= actor.getMaxY();
+	}
+
+	/**
+	 * Stores the hitbox of the {@code i}-th entry to be sorted into the grid.
+	 *
+	 * @param i      The index of the entry.
+	 * @param left   The left edge.
+	 * @param top    The top edge.
+	 * @param right  The right edge.
+	 * @param bottom The bottom edge.
+	 */
+	private void cacheHitbox(int i, double left, double top, double right, double bottom) {
+		minX[i] = left;
+		minY[i] = top;
+		maxX[i] = right;
+		maxY[i] = bottom;
+	}
+
+	/**
+	 * Sorts the cached hitboxes into grid cells using a counting sort.
+	 *
+	 * @param count         The number of cached hitboxes.
+	 * @param largestExtent The largest width or height among the cached hitboxes.
+	 */
+	private void buildGrid(int count, double largestExtent) {
+		resizeGrid(largestExtent);
+		sortedCount = count;
+
+		int cellCount = columns * rows;
+		Arrays.fill(cellStart, 0, cellCount + 1, 0);
+		int entryCount = 0;
+		for (int i = 0; i < count; i++) {
+			for (int r = row(minY[i]); r <= row(maxY[i]); r++) {
+				for (int c = column(minX[i]); c <= column(maxX[i]); c++) {
+					cellStart[r * columns + c + 1]++;
+					entryCount++;
+				}
+			}
+		}
+		for (int cell = 0; cell < cellCount; cell++) {
+			cellStart[cell + 1] += cellStart[cell];
+		}
+		if (cellEntries.length < entryCount) {
+			cellEntries = new int[Math.max(entryCount, cellEntries.length * 2)];
+		}
+
+		System.arraycopy(cellStart, 0, cellCursor, 0, cellCount);
+		for (int i = 0; i < count; i++) {
+			for (int r = row(minY[i]); r <= row(maxY[i]); r++) {
+				for (int c = column(minX[i]); c <= column(maxX[i]); c++) {
+					cellEntries[cellCursor[r * columns + c]++] = i;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Chooses the cell size for the current call and makes sure the cell arrays are large enough.
+	 *
+	 * @param largestExtent The largest width or height among the actors being sorted.
+	 */
+	private void resizeGrid(double largestExtent) {
+		cellSize = largestExtent;
+		columns = Math.max(1, (int) Math.ceil(worldWidth / cellSize));
+		rows = Math.max(1, (int) Math.ceil(worldHeight / cellSize));
+		int cellCount = columns * rows;
+		if (cellStart.length < cellCount + 1) {
+			cellStart = new int[cellCount + 1];
+			cellCursor = new int[cellCount];
+		}
+	}
+
+	/**
+	 * Grows the per-entry scratch arrays so they can hold the given number of hitboxes.
+	 *
+	 * @param count The number of hitboxes that will be sorted into the grid.
+	 */
+	private void ensureCapacity(int count) {
+		if (minX.length >= count) {
+			return;
+		}
+		int capacity = Math.max(count, minX.length * 2);
+		minX = new double[capacity];
+		minY = new double[capacity];
+		maxX = new double[capacity];
+		maxY = new double[capacity];
+	}
+
+	/**
+	 * Makes sure there is a set of scratch arrays for every chunk of a parallel query.
+	 *
+	 * @param chunks The number of chunks.
+	 */
+	private void ensureQueries(int chunks) {
+		if (queries.length >= chunks) {
+			return;
+		}
+		int oldLength = queries.length;
+		queries = Arrays.copyOf(queries, chunks);
+		for (int chunk = oldLength; chunk < chunks; chunk++) {
+			queries[chunk] = new Query();
+		}
+	}
+
+	/**
+	 * Returns the grid column for an X coordinate, clamped to the grid.
+	 *
+	 * @param x The X coordinate.
+	 * @return The column index.
+	 */
+	private int column(double x) {
+		return Math.clamp((long) Math.floor(x / cellSize), 0, columns - 1);
+	}
+
+	/**
+	 * Returns the grid row for a Y coordinate, clamped to the grid.
+	 *
+	 * @param y The Y coordinate.
+	 * @return The row index.
+	 */
+	private int row(double y) {
+		return Math.clamp((long) Math.floor(y / cellSize), 0, rows - 1);
+	}
+
+	/**
+	 * Callback for an actor and a sorted entry that intersect.
+	 */
+	@FunctionalInterface
+	private interface PairHandler {
+
+		/**
+		 * Called when an actor and a sorted entry intersect.
+		 *
+		 * @param actor The index of the actor in its list.
+		 * @param entry The index of the entry in its list or store.
+		 */
+		void onPair(int actor, int entry);
+	}
+
+	/**
+	 * The scratch arrays used by one thread to look up actors, and the hits it found.
+	 */
+	private static final class Query {
+
+		private int[] visitedBy = new int[0];
+		private int[] candidates = new int[0];
+		private int[] hitActors = new int[0];
+		private int[] hitEntries = new int[0];
+		private int hitCount;
+
+		/**
+		 * Clears the marks and hits of the last call and sizes the arrays for the sorted entries.
+		 *
+		 * @param count The number of entries sorted into the grid.
+		 */
+		private void reset(int count) {
+			if (visitedBy.length < count) {
+				int capacity = Math.max(count, visitedBy.length * 2);
+				visitedBy = new int[capacity];
+				candidates = new int[capacity];
+			} else {
+				Arrays.fill(visitedBy, 0, count, 0);
+			}
+			hitCount = 0;
+		}
+
+		/**
+		 * Remembers an intersecting pair, to be reported once all chunks are done.
+		 *
+		 * @param actor The index of the actor in its list.
+		 * @param entry The index of the entry in its list or store.
+		 */
+		private void addHit(int actor, int entry) {
+			if (hitCount == hitActors.length) {
+				int capacity = Math.max(16, hitCount * 2);
+				hitActors = Arrays.copyOf(hitActors, capacity);
+				hitEntries = Arrays.copyOf(hitEntries, capacity);
+			}
+			hitActors[hitCount] = actor;
+			hitEntries[hitCount] = entry;
+			hitCount++;
+		}
+	}
+}
@@ -0,0 +1,656 @@
+package com.example.demo.Engine;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.FighterPlane;
+import com.example.demo.Actor.ProjectileStore;
+import com.example.demo.Actor.User.UserPlane;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The game rules of a level, as plain Java state that does not depend on the JavaFX toolkit.
+ *
+ * <p>A world holds the player's plane, the enemy units and all projectiles, and advances them by
+ * one fixed step each time {@link #tick()} is called: it spawns enemies, moves actors, fires
+ * projectiles, applies the player's input, retires actors that have left the playfield through
+ * its {@link BoundaryManager}, resolves collisions, removes destroyed actors and
+ * decides whether the level has been won or lost. Because nothing here touches the scene graph,
+ * a world can be stepped as fast as the CPU allows, for example in tests or on a server without
+ * a display.</p>
+ *
+ * <p>A JavaFX view follows the world through a {@link WorldListener}, which is told whenever an
+ * actor enters or leaves the world, and reads the actors' positions when it draws a frame.
+ * Projectiles are not actors: they are kept in two {@link ProjectileStore}s, one for the user
+ * and one for the enemies, which the view draws in a single pass. Hits, kills, spawns and shots
+ * are published on the world's {@link GameEventBus}.</p>
+ *
+ * <p>Subclasses define the level: which enemies appear and when the level is over. Enemy types
+ * that appear again and again should come from a {@link Pool} made with
+ * {@link #createPool(Class, Supplier, int)}; destroyed actors of a pooled type are released to
+ * their pool when they are removed from the world.</p>
+ */
+public abstract class World {
+
+	/**
+	 * The length of one simulation step in milliseconds. All velocities are per step.
+	 */
+	public static final int MILLISECONDS_PER_TICK = 50;
+
+	private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
+	private static final int PROJECTILE_COOLDOWN_TICKS = 3;
+	private static final int MINIMUM_ENEMIES_PER_CHUNK = 64;
+	private static final int MINIMUM_PROJECTILES_PER_CHUNK = 4096;
+
+	private final double screenHeight;
+	private final double screenWidth;
+	private final double enemyMaximumYPosition;
+	private final UserPlane user;
+
+	private final ActorRegistry friendlyUnits;
+	private final ActorRegistry enemyUnits;
+	private final List<ActiveActorDestructible> destroyedActors;
+	private final Map<Object, Pool<?>> pools;
+	private final ProjectileStore userProjectiles;
+	private final ProjectileStore enemyProjectiles;
+
+	private final BoundaryManager boundaryManager;
+	private final GameRandom random;
+	private final GameEventBus events;
+	private Broadphase broadphase;
+	private ParallelStage parallelStage;
+	private WorldListener listener;
+	private FrameProfiler profiler;
+	private WorldTuning tuning;
+	private int actions;
+	private int ticksSinceLastShot;
+	private long tickCount;
+	private Outcome outcome;
+
+	/**
+	 * The state of the level after a tick.
+	 */
+	public enum Outcome {
+		/** The level is still being played. */
+		PLAYING,
+		/** The player has met the level's goal. */
+		WON,
+		/** The player's plane has been destroyed. */
+		LOST
+	}
+
+	/**
+	 * Creates a world for a playfield of the given size with the player's plane in it.
+	 *
+	 * @param screenHeight        The height of the playfield.
+	 * @param screenWidth         The width of the playfield.
+	 * @param playerInitialHealth The initial health of the player.
+	 * @param random              The random numbers of the world; the same seed and the same
+	 *                            player actions give the same game.
+	 */
+	protected World(double screenHeight, double screenWidth, int playerInitialHealth, GameRandom random) {
+		this.random = random;
+		this.screenHeight = screenHeight;
+		this.screenWidth = screenWidth;
+		this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
+		this.user = new UserPlane(playerInitialHealth);
+		this.friendlyUnits = new ActorRegistry();
+		this.enemyUnits = new ActorRegistry();
+		this.destroyedActors = new ArrayList<>();
+		this.pools = new LinkedHashMap<>();
+		this.userProjectiles = new ProjectileStore();
+		this.enemyProjectiles = new ProjectileStore();
+		this.boundaryManager = new BoundaryManager(screenWidth, screenHeight);
+		this.events = new GameEventBus();
+		this.parallelStage = ParallelStage.fromConfiguredProperty();
+		SpatialGridBroadphase grid = new SpatialGridBroadphase(screenWidth, screenHeight);
+		grid.setParallelStage(parallelStage);
+		this.broadphase = grid;
+		this.listener = WorldListener.NONE;
+		this.profiler = FrameProfiler.NONE;
+		this.tuning = WorldTuning.NORMAL;
+		this.ticksSinceLastShot = PROJECTILE_COOLDOWN_TICKS;
+		this.outcome = Outcome.PLAYING;
+		user.setOnDestroyed(destroyedActors::add);
+		friendlyUnits.add(user);
+	}
+
+	/**
+	 * Spawns enemy units for the level, using {@link #addEnemyUnit(ActiveActorDestructible)}.
+	 */
+	protected abstract void spawnEnemyUnits();
+
+	/**
+	 * Decides whether the level is won, lost, or still being played after the current tick.
+	 *
+	 * @return The outcome of the level so far.
+	 */
+	protected abstract Outcome checkIfGameOver();
+
+	/**
+	 * Advances the world by one simulation step, timing each phase with the world's {@link FrameProfiler}.
+	 * Does nothing once the level has been won or lost.
+	 */
+	public void tick() {
+		if (outcome != Outcome.PLAYING) {
+			return;
+		}
+		long time = profiler.start();
+		beginActorSteps();
+		time = profiler.lap(FrameStage.BEGIN_STEPS, time);
+		spawnEnemyUnits();
+		time = profiler.lap(FrameStage.SPAWN_ENEMY_UNITS, time);
+		updateActors();
+		time = profiler.lap(FrameStage.UPDATE_ACTORS, time);
+		generateEnemyFire();
+		time = profiler.lap(FrameStage.GENERATE_ENEMY_FIRE, time);
+		handleInput();
+		time = profiler.lap(FrameStage.HANDLE_INPUT, time);
+		handleEnemyPenetration();
+		time = profiler.lap(FrameStage.HANDLE_ENEMY_PENETRATION, time);
+		boundaryManager.cull(enemyUnits, userProjectiles, enemyProjectiles);
+		time = profiler.lap(FrameStage.CULL_OUT_OF_BOUNDS, time);
+		handleUserProjectileCollisions();
+		time = profiler.lap(FrameStage.USER_PROJECTILE_COLLISIONS, time);
+		handleEnemyProjectileCollisions();
+		time = profiler.lap(FrameStage.ENEMY_PROJECTILE_COLLISIONS, time);
+		handlePlaneCollisions();
+		time = profiler.lap(FrameStage.PLANE_COLLISIONS, time);
+		removeAllDestroyedActors();
+		time = profiler.lap(FrameStage.REMOVE_DESTROYED_ACTORS, time);
+		outcome = checkIfGameOver();
+		profiler.lap(FrameStage.CHECK_IF_GAME_OVER, time);
+		tickCount++;
+	}
+
+	/**
+	 * Sets the player actions that are held down for the following ticks.
+	 *
+	 * @param actions A bit mask of {@link PlayerAction} values.
+	 */
+	public void setActions(int actions) {
+		this.actions = actions;
+	}
+
+	/**
+	 * Sets the listener that is told when actors enter or leave the world.
+	 * Actors already in the world are reported to the new listener straight away.
+	 *
+	 * @param listener The listener, or null to stop listening.
+	 */
+	public void setListener(WorldListener listener) {
+		this.listener = listener == null ? WorldListener.NONE : listener;
+		friendlyUnits.forEach(this.listener::actorAdded);
+		enemyUnits.forEach(this.listener::actorAdded);
+	}
+
+	/**
+	 * Replaces the broadphase used to find colliding actors, e.g. with a
+	 * {@link BruteForceBroadphase} to compare results against the grid.
+	 *
+	 * @param broadphase The broadphase to use from the next tick on.
+	 */
+	public void setBroadphase(Broadphase broadphase) {
+		this.broadphase = broadphase;
+		if (broadphase instanceof SpatialGridBroadphase grid) {
+			grid.setParallelStage(parallelStage);
+		}
+	}
+
+	/**
+	 * Sets the stage that moves long lists of enemies and projectiles, and runs the collision
+	 * tests of the world's grid broadphase, on several threads. Either way the world plays out
+	 * exactly as it would on one thread.
+	 *
+	 * @param parallelStage The stage to use from the next tick on, e.g. {@link ParallelStage#SERIAL}.
+	 */
+	public void setParallelStage(ParallelStage parallelStage) {
+		this.parallelStage = parallelStage;
+		if (broadphase instanceof SpatialGridBroadphase grid) {
+			grid.setParallelStage(parallelStage);
+		}
+	}
+
+	/**
+	 * Returns the stage the world splits long loops with.
+	 *
+	 * @return The parallel stage of the world.
+	 */
+	public ParallelStage getParallelStage() {
+		return parallelStage;
+	}
+
+	/**
+	 * Sets the profiler that times each phase of a tick. Worlds are not profiled by default.
+	 *
+	 * @param profiler The profiler, or null to stop profiling.
+	 */
+	public void setProfiler(FrameProfiler profiler) {
+		this.profiler = profiler == null ? FrameProfiler.NONE : profiler;
+	}
+
+	/**
+	 * Sets the multipliers applied to the difficulty of the level from the next tick on. Enemies
+	 * already in the world keep their fire rate; enemies added later get the new one.
+	 *
+	 * @param tuning The multipliers, e.g. {@link WorldTuning#NORMAL}.
+	 */
+	public void setTuning(WorldTuning tuning) {
+		this.tuning = tuning;
+	}
+
+	/**
+	 * Returns the multipliers applied to the difficulty of the level.
+	 *
+	 * @return The tuning of the world.
+	 */
+	public WorldTuning getTuning() {
+		return tuning;
+	}
+
+	/**
+	 * Returns the random numbers of the world, for example to log the seed of a run.
+	 *
+	 * @return The random numbers.
+	 */
+	public GameRandom getRandom() {
+		return random;
+	}
+
+	/**
+	 * Returns the stream of events the world publishes while it ticks: hits, kills, spawns, shots,
+	 * raised shields and enemies getting past the player. Consumers {@link GameEventBus#subscribe() subscribe}
+	 * and drain their cursor after each tick.
+	 *
+	 * @return The event bus of the world.
+	 */
+	public GameEventBus getEvents() {
+		return events;
+	}
+
+	/**
+	 * Returns the boundary manager that retires projectiles and enemies once they have left the
+	 * playfield. Its margins can be changed, and it reports how many actors it retired.
+	 *
+	 * @return The boundary manager.
+	 */
+	public BoundaryManager getBoundaryManager() {
+		return boundaryManager;
+	}
+
+	/**
+	 * Marks the start of a simulation step for every actor, so that each actor remembers
+	 * where it started for interpolation. Projectiles do this as part of their update.
+	 */
+	private void beginActorSteps() {
+		friendlyUnits.forEach(ActiveActorDestructible::beginStep);
+		enemyUnits.forEach(ActiveActorDestructible::beginStep);
+	}
+
+	/**
+	 * Applies the held actions to the user plane: moves it and fires when the cooldown allows.
+	 */
+	private void handleInput() {
+		boolean up = PlayerAction.MOVE_UP.isIn(actions);
+		boolean down = PlayerAction.MOVE_DOWN.isIn(actions);
+		boolean left = PlayerAction.MOVE_LEFT.isIn(actions);
+		boolean right = PlayerAction.MOVE_RIGHT.isIn(actions);
+		if (up) user.moveUp();
+		if (down) user.moveDown();
+		if (!up && !down) user.stopVertical();
+		if (left) user.moveLeft();
+		if (right) user.moveRight();
+		if (!left && !right) user.stopHorizontal();
+
+		ticksSinceLastShot++;
+		if (PlayerAction.FIRE.isIn(actions) && ticksSinceLastShot >= PROJECTILE_COOLDOWN_TICKS) {
+			fireProjectile();
+			ticksSinceLastShot = 0;
+		}
+	}
+
+	private void fireProjectile() {
+		user.fireProjectile(userProjectiles);
+		events.publish(GameEventType.FIRE, user, tickCount);
+	}
+
+	/**
+	 * Gives every enemy unit the chance to fire a projectile into the enemy projectile store.
+	 * Package-private, like the other phases of a tick, so the benchmarks can time it.
+	 */
+	void generateEnemyFire() {
+		for (ActiveActorDestructible enemy : enemyUnits) {
+			int projectileCount = enemyProjectiles.size();
+			((FighterPlane) enemy).fireProjectile(enemyProjectiles);
+			if (enemyProjectiles.size() > projectileCount) {
+				events.publish(GameEventType.FIRE, enemy, tickCount);
+			}
+		}
+	}
+
+	/**
+	 * Moves every plane and every projectile by one simulation step. Long lists of enemies and
+	 * projectiles are split over the parallel stage; an enemy's update only changes the enemy
+	 * itself, so the result does not depend on the order the chunks run in.
+	 */
+	void updateActors() {
+		friendlyUnits.forEach(plane -> plane.updateActor());
+		parallelStage.forEach(enemyUnits, MINIMUM_ENEMIES_PER_CHUNK, ActiveActorDestructible::updateActor);
+		parallelStage.forEachChunk(userProjectiles.size(), MINIMUM_PROJECTILES_PER_CHUNK, (chunk, from, to) -> userProjectiles.update(from, to));
+		parallelStage.forEachChunk(enemyProjectiles.size(), MINIMUM_PROJECTILES_PER_CHUNK, (chunk, from, to) -> enemyProjectiles.update(from, to));
+	}
+
+	/**
+	 * Removes the actors destroyed during this tick, which reported themselves through their
+	 * destruction callback, so the cost depends on the number of destroyed actors only.
+	 */
+	void removeAllDestroyedActors() {
+		for (ActiveActorDestructible actor : destroyedActors) {
+			if (friendlyUnits.remove(actor) || enemyUnits.remove(actor)) {
+				listener.actorRemoved(actor);
+				recycle(actor);
+			}
+		}
+		destroyedActors.clear();
+		userProjectiles.removeDestroyed();
+		enemyProjectiles.removeDestroyed();
+	}
+
+	/**
+	 * Releases a removed actor to the pool for its {@link ActiveActorDestructible#getPoolKey() pool key}, if there is one.
+	 *
+	 * @param actor The actor that was removed from the world.
+	 */
+	@SuppressWarnings("unchecked")
+	private void recycle(ActiveActorDestructible actor) {
+		Pool<ActiveActorDestructible> pool = (Pool<ActiveActorDestructible>) pools.get(actor.getPoolKey());
+		if (pool != null) {
+			pool.release(actor);
+		}
+	}
+
+	/**
+	 * Creates a pool for an actor type and fills it with the given number of actors.
+	 * Actors acquired from the pool must be {@link ActiveActorDestructible#respawn respawned}
+	 * before they are added to the world, and are released to the pool once they are destroyed.
+	 *
+	 * @param type    The exact class of the pooled actors.
+	 * @param factory Creates a new actor when the pool is empty.
+	 * @param prewarm The number of actors to create up front.
+	 * @param <T>     The type of the pooled actors.
+	 * @return The new pool.
+	 */
+	protected final <T extends ActiveActorDestructible> Pool<T> createPool(Class<T> type, Supplier<T> factory, int prewarm) {
+		return createPool(type, type.getSimpleName(), factory, prewarm);
+	}
+
+	/**
+	 * Creates a pool for the actors with a given {@link ActiveActorDestructible#getPoolKey() pool key}
+	 * and fills it with the given number of actors, e.g. one pool per enemy type of a level.
+	 *
+	 * @param key     The pool key of the pooled actors.
+	 * @param name    The name the pool reports its counters under.
+	 * @param factory Creates a new actor when the pool is empty.
+	 * @param prewarm The number of actors to create up front.
+	 * @param <T>     The type of the pooled actors.
+	 * @return The new pool.
+	 */
+	protected final <T extends ActiveActorDestructible> Pool<T> createPool(Object key, String name, Supplier<T> factory, int prewarm) {
+		Pool<T> pool = new Pool<>(name, factory);
+		pool.prewarm(prewarm);
+		pools.put(key, pool);
+		return pool;
+	}
+
+	/**
+	 * Damages the friendly and enemy planes that collide with each other.
+	 */
+	void handlePlaneCollisions() {
+		handleCollisions(friendlyUnits, enemyUnits);
+	}
+
+	/**
+	 * Damages the enemy units hit by user projectiles and destroys those projectiles.
+	 */
+	void handleUserProjectileCollisions() {
+		handleCollisions(userProjectiles, enemyUnits);
+	}
+
+	/**
+	 * Damages the friendly units hit by enemy projectiles and destroys those projectiles.
+	 */
+	void handleEnemyProjectileCollisions() {
+		handleCollisions(enemyProjectiles, friendlyUnits);
+	}
+
+	/**
+	 * Handles collisions between projectiles and actors. If a projectile hits an actor, the actor
+	 * takes damage and the projectile is destroyed.
+	 *
+	 * @param projectiles The projectiles (e.g., those fired by the user).
+	 * @param actors      The actors they can hit (e.g., enemy units).
+	 */
+	private void handleCollisions(ProjectileStore projectiles, List<ActiveActorDestructible> actors) {
+		broadphase.findCollisions(projectiles, actors, (actor, projectile) -> {
+			damage(actor);
+			projectiles.destroy(projectile);
+		});
+	}
+
+	/**
+	 * Handles collisions between two sets of actors (e.g., friendly units and enemy units).
+	 * If any two actors intersect, they both take damage. Candidate pairs come from the
+	 * world's {@link Broadphase}.
+	 *
+	 * @param actors1 The first list of actors (e.g., friendly units).
+	 * @param actors2 The second list of actors (e.g., enemy units).
+	 */
+	private void handleCollisions(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2) {
+		broadphase.findCollisions(actors1, actors2, (actor, otherActor) -> {
+			damage(actor);
+			damage(otherActor);
+		});
+	}
+
+	/**
+	 * Damages an actor and publishes the hit. An enemy that is destroyed by the hit counts as a
+	 * kill for the player; enemies that leave the playfield or get past the player do not.
+	 *
+	 * @param actor The actor that was hit.
+	 */
+	private void damage(ActiveActorDestructible actor) {
+		boolean wasDestroyed = actor.isDestroyed();
+		actor.takeDamage();
+		events.publish(GameEventType.DAMAGE, actor, tickCount);
+		if (!wasDestroyed && actor.isDestroyed() && enemyUnits.contains(actor)) {
+			user.incrementKillCount();
+			events.publish(GameEventType.KILL, actor, tickCount);
+		}
+	}
+
+	/**
+	 * Checks if any enemy unit has penetrated the player's defenses. If so, the player takes damage
+	 * and the enemy unit is destroyed.
+	 */
+	private void handleEnemyPenetration() {
+		for (ActiveActorDestructible enemy : enemyUnits) {
+			if (enemyHasPenetratedDefenses(enemy)) {
+				events.publish(GameEventType.PENETRATION, enemy, tickCount);
+				damage(user);
+				enemy.destroy();
+			}
+		}
+	}
+
+	/**
+	 * Determines if the given enemy has penetrated the player's defenses (e.g., crossed the screen width).
+	 *
+	 * @param enemy The enemy unit to check.
+	 * @return True if the enemy has crossed the screen's edge; otherwise, false.
+	 */
+	private boolean enemyHasPenetratedDefenses(ActiveActorDestructible enemy) {
+		return Math.abs(enemy.getTranslateX()) > screenWidth;
+	}
+
+	/**
+	 * Adds a new enemy unit to the level, firing at the rate set by the world's tuning.
+	 *
+	 * @param enemy The enemy unit to be added.
+	 */
+	protected void addEnemyUnit(ActiveActorDestructible enemy) {
+		enemy.setOnDestroyed(destroyedActors::add);
+		((FighterPlane) enemy).setFireRateMultiplier(tuning.fireRate());
+		enemyUnits.add(enemy);
+		listener.actorAdded(enemy);
+		events.publish(GameEventType.SPAWN, enemy, tickCount);
+	}
+
+	/**
+	 * Returns the current number of active enemy units in the level.
+	 *
+	 * @return The number of active enemy units.
+	 */
+	public int getCurrentNumberOfEnemies() {
+		return enemyUnits.size();
+	}
+
+	/**
+	 * Returns the number of actors of every kind currently in the world.
+	 *
+	 * @return The number of live actors.
+	 */
+	public int getActorCount() {
+		return friendlyUnits.size() + enemyUnits.size() + userProjectiles.size() + enemyProjectiles.size();
+	}
+
+	/**
+	 * Returns the actor pools of the level, for example to report their counters.
+	 *
+	 * @return A read-only view of the pools.
+	 */
+	public Collection<Pool<?>> getPools() {
+		return Collections.unmodifiableCollection(pools.values());
+	}
+
+	/**
+	 * Returns one actor of every kind that can appear in the level, so a view can prepare their
+	 * images before the level starts. The default returns the user plane and a free actor of every
+	 * pool; levels with actors that are not pooled add them.
+	 *
+	 * @return One actor per kind; the actors must not be changed.
+	 */
+	public List<ActiveActorDestructible> getActorKinds() {
+		List<ActiveActorDestructible> kinds = new ArrayList<>();
+		kinds.add(user);
+		for (Pool<?> pool : pools.values()) {
+			kinds.add((ActiveActorDestructible) pool.peek());
+		}
+		return kinds;
+	}
+
+	/**
+	 * Returns the user plane (the player's main unit).
+	 *
+	 * @return The user's plane.
+	 */
+	public UserPlane getUser() {
+		return user;
+	}
+
+	/**
+	 * Checks if the user plane has been destroyed.
+	 *
+	 * @return True if the user plane is destroyed; otherwise, false.
+	 */
+	protected boolean userIsDestroyed() {
+		return user.isDestroyed();
+	}
+
+	/**
+	 * Returns the maximum Y position for enemy units on the screen.
+	 *
+	 * @return The maximum Y position for enemies.
+	 */
+	protected double getEnemyMaximumYPosition() {
+		return enemyMaximumYPosition;
+	}
+
+	/**
+	 * Returns the width of the playfield.
+	 *
+	 * @return The width of the screen.
+	 */
+	public double getScreenWidth() {
+		return screenWidth;
+	}
+
+	/**
+	 * Returns the height of the playfield.
+	 *
+	 * @return The height of the screen.
+	 */
+	public double getScreenHeight() {
+		return screenHeight;
+	}
+
+	/**
+	 * Returns the outcome of the level after the last tick.
+	 *
+	 * @return The current outcome.
+	 */
+	public Outcome getOutcome() {
+		return outcome;
+	}
+
+	/**
+	 * Returns the number of ticks the world has been advanced.
+	 *
+	 * @return The tick count.
+	 */
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	/**
+	 * Returns the friendly units, which hold the user plane.
+	 *
+	 * @return A read-only view of the friendly units.
+	 */
+	public List<ActiveActorDestructible> getFriendlyUnits() {
+		return Collections.unmodifiableList(friendlyUnits);
+	}
+
+	/**
+	 * Returns the enemy units.
+	 *
+	 * @return A read-only view of the enemy units.
+	 */
+	public List<ActiveActorDestructible> getEnemyUnits() {
+		return Collections.unmodifiableList(enemyUnits);
+	}
+
+	/**
+	 * Returns the projectiles fired by the user. The store is meant to be read, for example to draw
+	 * the projectiles; changing it outside a tick bypasses the game rules.
+	 *
+	 * @return The user projectiles.
+	 */
+	public ProjectileStore getUserProjectiles() {
+		return userProjectiles;
+	}
+
+	/**
+	 * Returns the projectiles fired by enemies. The store is meant to be read, for example to draw
+	 * the projectiles; changing it outside a tick bypasses the game rules.
+	 *
+	 * @return The enemy projectiles.
+	 */
+	public ProjectileStore getEnemyProjectiles() {
+		return enemyProjectiles;
+	}
+}
@@ -0,0 +1,37 @@
+package com.example.demo.Engine;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+
+/**
+ * Receives a notification whenever an actor enters or leaves a {@link World}.
+ * A view implements this to keep one visual element per actor in the world.
+ */
+public interface WorldListener {
+
+	/**
+	 * A listener that ignores all notifications.
+	 */
+	WorldListener NONE = new WorldListener() {
+		@Override
+		public void actorAdded(ActiveActorDestructible actor) {
+		}
+
+		@Override
+		public void actorRemoved(ActiveActorDestructible actor) {
+		}
+	};
+
+	/**
+	 * Called after an actor has been added to the world.
+	 *
+	 * @param actor The actor that was added.
+	 */
+	void actorAdded(ActiveActorDestructible actor);
+
+	/**
+	 * Called after a destroyed actor has been removed from the world.
+	 *
+	 * @param actor The actor that was removed.
+	 */
+	void actorRemoved(ActiveActorDestructible actor);
+}
@@ -0,0 +1,50 @@
+package com.example.demo.Engine;
+
+/**
+ * Multipliers applied to the difficulty constants of a level, used to push a world well beyond
+ * what the game itself asks of it, e.g. for stress tests. The game plays with {@link #NORMAL}.
+ *
+ * @param enemyCap         Multiplies the number of enemies a level keeps on screen at once.
+ * @param spawnProbability Multiplies the chance that a missing enemy is spawned in a tick.
+ * @param fireRate         Multiplies the chance that an enemy fires in a tick.
+ */
+public record WorldTuning(double enemyCap, double spawnProbability, double fireRate) {
+
+	/**
+	 * The tuning of the game as designed: every multiplier is 1.
+	 */
+	public static final WorldTuning NORMAL = new WorldTuning(1, 1, 1);
+
+	/**
+	 * Checks that every multiplier is a positive number.
+	 *
+	 * @param enemyCap         Multiplies the number of enemies a level keeps on screen at once.
+	 * @param spawnProbability Multiplies the chance that a missing enemy is spawned in a tick.
+	 * @param fireRate         Multiplies the chance that an enemy fires in a tick.
+	 */
+	public WorldTuning {
+		if (!(enemyCap > 0 && spawnProbability > 0 && fireRate > 0)) {
+			throw new IllegalArgumentException("Multipliers must be positive: " + enemyCap + ", " + spawnProbability + ", " + fireRate);
+		}
+	}
+
+	/**
+	 * Scales the enemy cap of a level, keeping at least one enemy.
+	 *
+	 * @param totalEnemies The enemy cap of the level as designed.
+	 * @return The tuned enemy cap.
+	 */
+	public int scaleEnemyCap(int totalEnemies) {
+		return Math.max(1, (int) Math.round(totalEnemies * enemyCap));
+	}
+
+	/**
+	 * Scales the spawn probability of a level, never beyond certainty.
+	 *
+	 * @param probability The spawn probability of the level as designed.
+	 * @return The tuned spawn probability.
+	 */
+	public double scaleSpawnProbability(double probability) {
+		return Math.min(1, probability * spawnProbability);
+	}
+}
@@ -0,0 +1,60 @@
+package com.example.demo.Image;
+
+import com.example.demo.Actor.ActiveActor;
+import javafx.scene.image.ImageView;
+
+/**
+ * The on-screen image of an {@link ActiveActor}.
+ * It shows the actor's sprite at the actor's height and copies the actor's position and visibility when synced.
+ * An image can be attached to another actor with the same sprite, so images can be pooled along with their actors.
+ */
+public final class ActorImage extends ImageView {
+
+	private ActiveActor actor;
+
+	/**
+	 * Constructs an ActorImage with the given sprite that is not attached to an actor yet.
+	 * The sprite is shared through the {@link ImageRegistry}, decoded at the height it is drawn at.
+	 *
+	 * @param imageName   The name of the sprite image file.
+	 * @param imageHeight The height the sprite is drawn at.
+	 */
+	public ActorImage(String imageName, double imageHeight) {
+		this.setImage(ImageRegistry.getImage(ImageAsset.sprite(imageName, imageHeight)));
+		this.setPreserveRatio(true);
+	}
+
+	/**
+	 * Makes this image show the given actor, which must use the same sprite as the image.
+	 *
+	 * @param actor The actor this image shows from now on.
+	 */
+	public void attach(ActiveActor actor) {
+		this.actor = actor;
+		this.setFitHeight(actor.getHeight());
+		this.setLayoutX(actor.getLayoutX());
+		this.setLayoutY(actor.getLayoutY());
+		sync(1.0);
+	}
+
+	/**
+	 * Copies the actor's visibility and its position, interpolated between the previous and
+	 * the current simulation step, to this image.
+	 *
+	 * @param alpha The fraction of a simulation step that has elapsed since the last step, in [0, 1].
+	 */
+	public void sync(double alpha) {
+		this.setTranslateX(actor.getInterpolatedTranslateX(alpha));
+		this.setTranslateY(actor.getInterpolatedTranslateY(alpha));
+		this.setVisible(actor.isVisible());
+	}
+
+	/**
+	 * Returns the actor shown by this image.
+	 *
+	 * @return The actor.
+	 */
+	public ActiveActor getActor() {
+		return actor;
+	}
+}
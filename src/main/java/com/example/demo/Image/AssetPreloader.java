@@ -0,0 +1,90 @@
+package com.example.demo.Image;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Decodes sets of images into the {@link ImageRegistry} on background threads, so a level finds
+ * everything it draws already decoded instead of decoding it on the JavaFX thread when it first
+ * needs it.
+ *
+ * <p>The images of a set are decoded in parallel on a small pool of daemon threads. Images that
+ * are already decoded are skipped, and an image being decoded for one request is not decoded again
+ * for another, so preloading the next level while the current one is played costs nothing when
+ * that level is finally started. Working out which images a level needs can take a while too, so
+ * {@link #list} and {@link #prefetch} do that on the same threads.</p>
+ */
+public final class AssetPreloader {
+
+	private static final int MAXIMUM_THREADS = 4;
+	private static final ExecutorService DECODERS = Executors.newFixedThreadPool(
+			Math.clamp(Runtime.getRuntime().availableProcessors() - 1, 1, MAXIMUM_THREADS),
+			Thread.ofPlatform().name("asset-decoder-", 0).daemon().factory());
+
+	private AssetPreloader() {
+	}
+
+	/**
+	 * Decodes the images that are not decoded yet.
+	 *
+	 * @param assets     The images to decode.
+	 * @param onProgress Called on a decoder thread with the fraction of images done, in (0, 1],
+	 *                   after each image; not called if nothing needs decoding.
+	 * @return A future that completes when every image is decoded, or completes exceptionally
+	 *         with the first image that could not be decoded.
+	 */
+	public static CompletableFuture<Void> preload(Collection<ImageAsset> assets, DoubleConsumer onProgress) {
+		List<ImageAsset> missing = assets.stream().distinct().filter(asset -> !ImageRegistry.isDecoded(asset)).toList();
+		AtomicInteger done = new AtomicInteger();
+		CompletableFuture<?>[] decodes = new CompletableFuture<?>[missing.size()];
+		for (int i = 0; i < decodes.length; i++) {
+			ImageAsset asset = missing.get(i);
+			decodes[i] = CompletableFuture.runAsync(() -> {
+				ImageRegistry.getImage(asset);
+				onProgress.accept((double) done.incrementAndGet() / decodes.length);
+			}, DECODERS);
+		}
+		return CompletableFuture.allOf(decodes);
+	}
+
+	/**
+	 * Works out a set of images on a background thread.
+	 *
+	 * @param assets Lists the images, e.g. the images of a level.
+	 * @return A future that completes with the images.
+	 */
+	public static CompletableFuture<List<ImageAsset>> list(Supplier<? extends Collection<ImageAsset>> assets) {
+		return CompletableFuture.supplyAsync(() -> List.copyOf(assets.get()), DECODERS);
+	}
+
+	/**
+	 * Works out a set of images and starts decoding them in the background without waiting for
+	 * them, e.g. for the level that follows the one being played. Failures are reported and
+	 * otherwise ignored: the image is then decoded, or fails, when it is first drawn.
+	 *
+	 * @param assets Lists the images to decode; called on a background thread.
+	 */
+	public static void prefetch(Supplier<? extends Collection<ImageAsset>> assets) {
+		list(assets).thenCompose(images -> preload(images, _ -> {
+		})).exceptionally(e -> {
+			System.err.println("Could not prefetch images: " + e.getMessage());
+			return null;
+		});
+	}
+
+	/**
+	 * Checks whether all images of a set are decoded.
+	 *
+	 * @param assets The images.
+	 * @return true if every image is in the registry already, false otherwise.
+	 */
+	public static boolean isLoaded(Collection<ImageAsset> assets) {
+		return assets.stream().allMatch(ImageRegistry::isDecoded);
+	}
+}
@@ -0,0 +1,84 @@
+package com.example.demo.Image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Finds the copy of an image that the build resized to the size it is drawn at.
+ *
+ * <p>The sprites in the resource folder are much larger than they appear on screen. At build time
+ * {@code com.example.demo.Tools.SpriteBaker} writes a resized copy of every image a level draws
+ * into {@value #BAKED_FOLDER}, together with a manifest that maps each {@link ImageAsset} to its
+ * copy. The {@link ImageRegistry} decodes the copy when there is one, which reads a fraction of
+ * the bytes; without a manifest (for example when running from an IDE that skips the build step)
+ * the original images are used.</p>
+ */
+public final class BakedImages {
+
+	/**
+	 * The resource folder that holds the resized copies and the manifest.
+	 */
+	public static final String BAKED_FOLDER = "/com/example/demo/images/baked/";
+
+	/**
+	 * The resource path of the manifest.
+	 */
+	public static final String MANIFEST_PATH = BAKED_FOLDER + "manifest.properties";
+
+	private static final Properties MANIFEST = readManifest();
+
+	private BakedImages() {
+	}
+
+	/**
+	 * Returns the resource to decode for an asset: its resized copy if the build made one,
+	 * otherwise the original image.
+	 *
+	 * @param asset The resource and size of the image.
+	 * @return The resource path to decode.
+	 */
+	public static String resolve(ImageAsset asset) {
+		String bakedName = MANIFEST.getProperty(keyOf(asset));
+		return bakedName == null ? asset.path() : BAKED_FOLDER + bakedName;
+	}
+
+	/**
+	 * Returns the number of assets that have a resized copy.
+	 *
+	 * @return The number of entries in the manifest, 0 if there is no manifest.
+	 */
+	public static int getBakedCount() {
+		return MANIFEST.size();
+	}
+
+	/**
+	 * Returns the key an asset is listed under in the manifest.
+	 *
+	 * @param asset The resource and size of the image.
+	 * @return The manifest key.
+	 */
+	public static String keyOf(ImageAsset asset) {
+		return String.format(Locale.ROOT, "%s@%.1fx%.1f%s", asset.path(), asset.width(), asset.height(),
+				asset.preserveRatio() ? "" : "!");
+	}
+
+	/**
+	 * Reads the manifest written by the build, if there is one.
+	 *
+	 * @return The manifest, or an empty one if the build did not write it or it cannot be read.
+	 */
+	private static Properties readManifest() {
+		Properties manifest = new Properties();
+		try (InputStream stream = BakedImages.class.getResourceAsStream(MANIFEST_PATH)) {
+			if (stream != null) {
+				manifest.load(stream);
+			}
+		} catch (IOException e) {
+			System.err.println("Could not read " + MANIFEST_PATH + ", using the original images: " + e.getMessage());
+			manifest.clear();
+		}
+		return manifest;
+	}
+}
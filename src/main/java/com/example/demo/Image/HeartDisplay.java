@@ -1,16 +1,22 @@
 package com.example.demo.Image;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 
-import java.util.Objects;
+import java.util.ArrayList;
+import java.util.List;
 
 public class HeartDisplay {
 
 	private static final String HEART_IMAGE_NAME = "/com/example/demo/images/heart.png";
 	private static final int HEART_HEIGHT = 50;
+
+	/**
+	 * The heart icon at the size it is drawn at, so it can be decoded before the level starts.
+	 */
+	public static final ImageAsset ASSET = ImageAsset.ofHeight(HEART_IMAGE_NAME, HEART_HEIGHT);
 	private HBox container;
+	private final List<ImageView> hearts = new ArrayList<>();
 	private final double containerXPosition;
 	private final double containerYPosition;
 	private final int numberOfHeartsToDisplay;
@@ -46,11 +52,19 @@ public class HeartDisplay {
 	 */
 	private void initializeHearts() {
 		for (int i = 0; i < numberOfHeartsToDisplay; i++) {
-			ImageView heart = new ImageView(new Image(Objects.requireNonNull(getClass().getResource(HEART_IMAGE_NAME)).toExternalForm()));
+			ImageView heart = new ImageView(ImageRegistry.getImage(ASSET));
 			heart.setFitHeight(HEART_HEIGHT);
 			heart.setPreserveRatio(true);
-			container.getChildren().add(heart);
+			hearts.add(heart);
 		}
+		container.getChildren().setAll(hearts);
+	}
+
+	/**
+	 * Puts every heart back into the display, reusing the heart images, when the level starts again.
+	 */
+	public void refill() {
+		container.getChildren().setAll(hearts);
 	}
 
 	/**
@@ -0,0 +1,59 @@
+package com.example.demo.Image;
+
+import com.example.demo.Actor.SpriteMetrics;
+
+/**
+ * An image resource together with the size it is decoded at, which is what the
+ * {@link ImageRegistry} caches by and what the {@link AssetPreloader} decodes ahead of time.
+ *
+ * @param path          The resource path of the image.
+ * @param width         The requested width, or 0 to follow the height or the file.
+ * @param height        The requested height, or 0 to follow the width or the file.
+ * @param preserveRatio Whether the aspect ratio of the file is kept.
+ */
+public record ImageAsset(String path, double width, double height, boolean preserveRatio) {
+
+	/**
+	 * Returns an image at the size stored in its file.
+	 *
+	 * @param path The resource path of the image.
+	 * @return The asset.
+	 */
+	public static ImageAsset ofFile(String path) {
+		return new ImageAsset(path, 0, 0, true);
+	}
+
+	/**
+	 * Returns an image decoded at the given height, with its width following from its aspect ratio.
+	 *
+	 * @param path   The resource path of the image.
+	 * @param height The height the image is drawn at.
+	 * @return The asset.
+	 */
+	public static ImageAsset ofHeight(String path, double height) {
+		return new ImageAsset(path, 0, height, true);
+	}
+
+	/**
+	 * Returns an image decoded at exactly the given size, stretched if its aspect ratio differs.
+	 *
+	 * @param path   The resource path of the image.
+	 * @param width  The width the image is drawn at.
+	 * @param height The height the image is drawn at.
+	 * @return The asset.
+	 */
+	public static ImageAsset ofSize(String path, double width, double height) {
+		return new ImageAsset(path, width, height, false);
+	}
+
+	/**
+	 * Returns the sprite of an actor or projectile, decoded at the height it is drawn at.
+	 *
+	 * @param imageName The file name of the sprite in the image folder.
+	 * @param height    The height the sprite is drawn at.
+	 * @return The asset.
+	 */
+	public static ImageAsset sprite(String imageName, double height) {
+		return ofHeight(SpriteMetrics.IMAGE_LOCATION + imageName, height);
+	}
+}
@@ -0,0 +1,152 @@
+package com.example.demo.Image;
+
+import javafx.scene.image.Image;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decodes every image resource once and shares the decoded {@link Image} with everyone who asks for it.
+ *
+ * <p>Images are decoded at the size they are drawn at rather than at the size of the file, so a
+ * large picture shown small (such as the heart icon) only takes the memory of its small version.
+ * The same resource requested at two different sizes is decoded once per size. Counters for
+ * cache hits and misses and an estimate of the memory held by the decoded pixels are kept so
+ * the effect of the cache can be checked.</p>
+ */
+public final class ImageRegistry {
+
+	private static final int BYTES_PER_PIXEL = 4;
+	private static final Map<ImageAsset, Image> IMAGES = new ConcurrentHashMap<>();
+	private static final AtomicLong HITS = new AtomicLong();
+	private static final AtomicLong MISSES = new AtomicLong();
+
+	private ImageRegistry() {
+	}
+
+	/**
+	 * Returns an image at the size stored in its file.
+	 *
+	 * @param path The resource path of the image.
+	 * @return The shared decoded image.
+	 */
+	public static Image getImage(String path) {
+		return getImage(ImageAsset.ofFile(path));
+	}
+
+	/**
+	 * Returns an image decoded at the given height, with its width following from its aspect ratio.
+	 *
+	 * @param path   The resource path of the image.
+	 * @param height The height the image is drawn at.
+	 * @return The shared decoded image.
+	 */
+	public static Image getImage(String path, double height) {
+		return getImage(ImageAsset.ofHeight(path, height));
+	}
+
+	/**
+	 * Returns an image decoded at exactly the given size, stretched if its aspect ratio differs.
+	 *
+	 * @param path   The resource path of the image.
+	 * @param width  The width the image is drawn at.
+	 * @param height The height the image is drawn at.
+	 * @return The shared decoded image.
+	 */
+	public static Image getImage(String path, double width, double height) {
+		return getImage(ImageAsset.ofSize(path, width, height));
+	}
+
+	/**
+	 * Returns an image at the size given by the asset, decoding it on the first request. Safe to
+	 * call from any thread; concurrent first requests for the same asset decode it once.
+	 *
+	 * @param asset The resource and size of the image.
+	 * @return The shared decoded image.
+	 */
+	public static Image getImage(ImageAsset asset) {
+		Image image = IMAGES.get(asset);
+		if (image != null) {
+			HITS.incrementAndGet();
+			return image;
+		}
+		return IMAGES.computeIfAbsent(asset, ImageRegistry::decode);
+	}
+
+	/**
+	 * Checks whether an asset has already been decoded, without counting a hit or a miss.
+	 *
+	 * @param asset The resource and size of the image.
+	 * @return true if the registry holds the decoded image, false otherwise.
+	 */
+	public static boolean isDecoded(ImageAsset asset) {
+		return IMAGES.containsKey(asset);
+	}
+
+	/**
+	 * Returns how many requests were answered with an image that had already been decoded.
+	 *
+	 * @return The number of cache hits.
+	 */
+	public static long getHits() {
+		return HITS.get();
+	}
+
+	/**
+	 * Returns how many requests had to decode an image.
+	 *
+	 * @return The number of cache misses.
+	 */
+	public static long getMisses() {
+		return MISSES.get();
+	}
+
+	/**
+	 * Returns the number of decoded images held by the registry.
+	 *
+	 * @return The number of cached images.
+	 */
+	public static int getCachedImageCount() {
+		return IMAGES.size();
+	}
+
+	/**
+	 * Returns an estimate of the memory used by the decoded pixels of all cached images.
+	 *
+	 * @return The number of bytes, assuming four bytes per pixel.
+	 */
+	public static long getDecodedBytes() {
+		long bytes = 0;
+		for (Image image : IMAGES.values()) {
+			bytes += (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+		}
+		return bytes;
+	}
+
+	/**
+	 * Returns the counters of the registry in one line, for logging.
+	 *
+	 * @return A summary of the registry.
+	 */
+	public static String getSummary() {
+		return "images=" + getCachedImageCount() + ", hits=" + getHits() + ", misses=" + getMisses()
+				+ ", decodedKiB=" + getDecodedBytes() / 1024;
+	}
+
+	/**
+	 * Decodes an image resource at the size given by its asset, from the copy the build resized to
+	 * that size if there is one (see {@link BakedImages}).
+	 *
+	 * @param asset The resource and size of the image.
+	 * @return The decoded image.
+	 */
+	private static Image decode(ImageAsset asset) {
+		MISSES.incrementAndGet();
+		String path = BakedImages.resolve(asset);
+		URL url = Objects.requireNonNull(ImageRegistry.class.getResource(path), "Image not found: " + path);
+		return new Image(url.toExternalForm(), asset.width(), asset.height(), asset.preserveRatio(), true);
+	}
+}
@@ -0,0 +1,42 @@
+package com.example.demo.Image;
+
+import com.example.demo.Actor.ProjectileStore;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * Draws every projectile of one or more {@link ProjectileStore}s onto a single canvas.
+ *
+ * <p>Instead of one scene-graph node per projectile, the canvas is cleared and all projectiles are
+ * drawn in one pass per frame by a {@link ProjectilePainter}, each sprite stamped at its
+ * interpolated position.</p>
+ */
+public final class ProjectileCanvas extends Canvas {
+
+	private final ProjectilePainter painter;
+
+	/**
+	 * Constructs a canvas covering the playfield, with the sprite of every projectile type loaded.
+	 *
+	 * @param width  The width of the playfield.
+	 * @param height The height of the playfield.
+	 */
+	public ProjectileCanvas(double width, double height) {
+		super(width, height);
+		this.setMouseTransparent(true);
+		this.painter = new ProjectilePainter();
+	}
+
+	/**
+	 * Clears the canvas and draws the projectiles of the given stores, in order, at their
+	 * positions interpolated between the last two simulation steps.
+	 *
+	 * @param alpha  The fraction of a simulation step that has elapsed since the last step, in [0, 1].
+	 * @param stores The stores whose projectiles are drawn.
+	 */
+	public void render(double alpha, ProjectileStore... stores) {
+		GraphicsContext graphics = getGraphicsContext2D();
+		graphics.clearRect(0, 0, getWidth(), getHeight());
+		painter.paint(graphics, alpha, stores);
+	}
+}
@@ -0,0 +1,44 @@
+package com.example.demo.Image;
+
+import com.example.demo.Actor.ProjectileStore;
+import com.example.demo.Actor.ProjectileType;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+/**
+ * Draws the projectiles of {@link ProjectileStore}s onto a canvas, one sprite per projectile.
+ * The sprites of all projectile types are taken from the {@link ImageRegistry} once, already
+ * scaled to the height they are drawn at.
+ */
+public class ProjectilePainter {
+
+	private final Image[] sprites;
+
+	/**
+	 * Constructs a painter with the sprite of every projectile type loaded.
+	 */
+	public ProjectilePainter() {
+		ProjectileType[] types = ProjectileType.values();
+		sprites = new Image[types.length];
+		for (ProjectileType type : types) {
+			sprites[type.ordinal()] = ImageRegistry.getImage(ImageAsset.sprite(type.getImageName(), type.getHeight()));
+		}
+	}
+
+	/**
+	 * Draws the projectiles of the given stores, in order, at their positions interpolated
+	 * between the last two simulation steps.
+	 *
+	 * @param graphics The graphics context to draw into.
+	 * @param alpha    The fraction of a simulation step that has elapsed since the last step, in [0, 1].
+	 * @param stores   The stores whose projectiles are drawn.
+	 */
+	public void paint(GraphicsContext graphics, double alpha, ProjectileStore... stores) {
+		for (ProjectileStore store : stores) {
+			for (int i = 0; i < store.size(); i++) {
+				ProjectileType type = store.getType(i);
+				graphics.drawImage(sprites[type.ordinal()], store.getInterpolatedX(i, alpha), store.getInterpolatedY(i, alpha), type.getWidth(), type.getHeight());
+			}
+		}
+	}
+}
@@ -1,15 +1,18 @@
 package com.example.demo.Image;
 
-import javafx.scene.image.Image;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.ImageView;
 
-import java.util.Objects;
-
 public class ShieldImage extends ImageView {
 
 	private static final String IMAGE_NAME = "/com/example/demo/images/shield.png";
 	private static final int SHIELD_SIZE = 75;
 
+	/**
+	 * The shield picture at the size it is drawn at, so it can be decoded before the level starts.
+	 */
+	public static final ImageAsset ASSET = ImageAsset.ofSize(IMAGE_NAME, SHIELD_SIZE, SHIELD_SIZE);
+
 	/**
 	 * Constructs a ShieldImage object that represents a shield icon in the game.
 	 * The shield is initially set to be invisible and positioned at the specified coordinates.
@@ -20,7 +23,7 @@ public class ShieldImage extends ImageView {
 	public ShieldImage(double xPosition, double yPosition) {
 		this.setLayoutX(xPosition);
 		this.setLayoutY(yPosition);
-		this.setImage(new Image(Objects.requireNonNull(getClass().getResource(IMAGE_NAME)).toExternalForm()));
+		this.setImage(ImageRegistry.getImage(ASSET));
 		this.setVisible(false);  // Initially, the shield is invisible.
 		this.setFitHeight(SHIELD_SIZE);
 		this.setFitWidth(SHIELD_SIZE);
@@ -34,6 +37,18 @@ public class ShieldImage extends ImageView {
 		System.out.println("The shield is now visible!");
 	}
 
+	/**
+	 * Paints the shield at its position and size onto a canvas, if it is visible.
+	 * Used instead of the node itself when the level is drawn into a single canvas.
+	 *
+	 * @param graphics The graphics context to paint into.
+	 */
+	public void draw(GraphicsContext graphics) {
+		if (isVisible()) {
+			graphics.drawImage(getImage(), getLayoutX(), getLayoutY(), getFitWidth(), getFitHeight());
+		}
+	}
+
 	/**
 	 * Hides the shield, making it invisible.
 	 */
@@ -1,16 +1,18 @@
 package com.example.demo.Image;
 
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
-import java.util.Objects;
-
 public class WinImage extends ImageView {
 
 	private static final String IMAGE_NAME = "/com/example/demo/images/youwin.png";
 	private static final int HEIGHT = 500;
 	private static final int WIDTH = 600;
 
+	/**
+	 * The "You Win!" picture at the size it is drawn at, so it can be decoded before the level starts.
+	 */
+	public static final ImageAsset ASSET = ImageAsset.ofSize(IMAGE_NAME, WIDTH, HEIGHT);
+
 	/**
 	 * Constructs a WinImage object that represents the "You Win!" image in the game.
 	 * The image is initially set to be invisible and positioned at the specified coordinates.
@@ -19,7 +21,7 @@ public class WinImage extends ImageView {
 	 * @param yPosition The Y position of the "You Win!" image.
 	 */
 	public WinImage(double xPosition, double yPosition) {
-		this.setImage(new Image(Objects.requireNonNull(getClass().getResource(IMAGE_NAME)).toExternalForm()));
+		this.setImage(ImageRegistry.getImage(ASSET));
 		this.setVisible(false);  // Initially, the "You Win!" image is invisible.
 		this.setFitHeight(HEIGHT);
 		this.setFitWidth(WIDTH);
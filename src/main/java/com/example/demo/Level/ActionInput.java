@@ -0,0 +1,116 @@
+package com.example.demo.Level;
+
+import com.example.demo.Engine.PlayerAction;
+import javafx.scene.input.KeyCode;
+
+/**
+ * Turns the key events of a level into the {@link PlayerAction player actions} of each tick.
+ *
+ * <p>Key events only update a bit mask of the actions that are held, through the array lookup of
+ * the {@link InputBindings}. Once per tick, {@link #snapshot()} fixes the actions for that tick
+ * and the edges since the previous one: the actions that were pressed and the ones that were
+ * released. An action that is pressed and released again between two ticks still counts as held
+ * for the next tick, so a short tap is never lost, and shows up among both edges.</p>
+ *
+ * <p>The world moves and fires on the held mask, which is also what input logs record; the
+ * edges are there for actions that should happen once per press.</p>
+ */
+public final class ActionInput {
+
+	private final InputBindings bindings;
+	private int held;
+	private int tapped;
+	private int pressedSinceSnapshot;
+	private int releasedSinceSnapshot;
+	private int actions;
+	private int pressed;
+	private int released;
+
+	/**
+	 * Creates the input of a level with no actions held.
+	 *
+	 * @param bindings The key bindings to map keys with.
+	 */
+	public ActionInput(InputBindings bindings) {
+		this.bindings = bindings;
+	}
+
+	/**
+	 * Records that a key was pressed.
+	 *
+	 * @param key The key.
+	 */
+	public void keyPressed(KeyCode key) {
+		int mask = bindings.getActions(key);
+		pressedSinceSnapshot |= mask & ~held;
+		held |= mask;
+		tapped |= mask;
+	}
+
+	/**
+	 * Records that a key was released.
+	 *
+	 * @param key The key.
+	 */
+	public void keyReleased(KeyCode key) {
+		int mask = bindings.getActions(key);
+		releasedSinceSnapshot |= mask & held;
+		held &= ~mask;
+	}
+
+	/**
+	 * Fixes the actions of the next tick and the edges since the last snapshot.
+	 *
+	 * @return A bit mask of the {@link PlayerAction} values held during the tick.
+	 */
+	public int snapshot() {
+		actions = held | tapped;
+		pressed = pressedSinceSnapshot;
+		released = releasedSinceSnapshot;
+		tapped = 0;
+		pressedSinceSnapshot = 0;
+		releasedSinceSnapshot = 0;
+		return actions;
+	}
+
+	/**
+	 * Returns the actions of the last snapshot.
+	 *
+	 * @return A bit mask of {@link PlayerAction} values.
+	 */
+	public int getActions() {
+		return actions;
+	}
+
+	/**
+	 * Returns the actions whose key went down between the last two snapshots.
+	 *
+	 * @return A bit mask of {@link PlayerAction} values.
+	 */
+	public int getPressed() {
+		return pressed;
+	}
+
+	/**
+	 * Returns the actions whose key went up between the last two snapshots.
+	 *
+	 * @return A bit mask of {@link PlayerAction} values.
+	 */
+	public int getReleased() {
+		return released;
+	}
+
+	/**
+	 * Forgets all keys, e.g. when the level loses the keyboard to a menu or is played again, so no
+	 * action stays held because its release was never seen.
+	 */
+	public void clear() {
+		held = 0;
+		tapped = 0;
+		pressedSinceSnapshot = 0;
+		releasedSinceSnapshot = 0;
+		actions = 0;
+		pressed = 0;
+		released = 0;
+	}
+}
@@ -0,0 +1,124 @@
+package com.example.demo.Level;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Engine.World;
+import com.example.demo.Image.ImageAsset;
+import com.example.demo.Image.ImageRegistry;
+import com.example.demo.Image.ProjectilePainter;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjDoubleConsumer;
+
+/**
+ * Draws a {@link World} into a single {@link Canvas} instead of keeping a node per actor.
+ *
+ * <p>Every frame the canvas is repainted in layer order: the background, the friendly units,
+ * the enemy units, the projectiles, and finally whatever the level draws on top (such as the
+ * boss's shield). The scene graph only holds the canvas, so the cost of a frame no longer
+ * depends on how many nodes JavaFX has to sync and dirty-check.</p>
+ *
+ * @see RenderMode#CANVAS
+ */
+public class CanvasWorldView implements WorldRenderer {
+
+	private World world;
+	private final Canvas canvas;
+	private final Image background;
+	private final ProjectilePainter projectilePainter;
+	private final ObjDoubleConsumer<GraphicsContext> levelPainter;
+	private final Map<String, Image> sprites;
+
+	/**
+	 * Creates a canvas view of the given world.
+	 *
+	 * @param world        The world to draw.
+	 * @param background   The background image, drawn at the size of the playfield.
+	 * @param levelPainter Draws level-specific elements on top of the world, given the graphics
+	 *                     context and the interpolation factor.
+	 */
+	public CanvasWorldView(World world, Image background, ObjDoubleConsumer<GraphicsContext> levelPainter) {
+		this.world = world;
+		this.canvas = new Canvas(world.getScreenWidth(), world.getScreenHeight());
+		this.background = background;
+		this.projectilePainter = new ProjectilePainter();
+		this.levelPainter = levelPainter;
+		this.sprites = new HashMap<>();
+	}
+
+	/**
+	 * Returns the canvas the world is drawn into.
+	 *
+	 * @return The canvas.
+	 */
+	@Override
+	public Canvas getLayer() {
+		return canvas;
+	}
+
+	/**
+	 * Draws the given world from the next frame on, with the sprites already decoded.
+	 *
+	 * @param world The world to draw.
+	 */
+	@Override
+	public void setWorld(World world) {
+		this.world = world;
+	}
+
+	/**
+	 * Does nothing, since the canvas is repainted from the world on every frame.
+	 */
+	@Override
+	public void applyPendingChanges() {
+	}
+
+	/**
+	 * Repaints the whole canvas: background, actors, projectiles and the level's own elements.
+	 *
+	 * @param alpha The fraction of a simulation step that has elapsed since the last step, in [0, 1].
+	 */
+	@Override
+	public void render(double alpha) {
+		GraphicsContext graphics = canvas.getGraphicsContext2D();
+		graphics.drawImage(background, 0, 0, canvas.getWidth(), canvas.getHeight());
+		drawActors(graphics, world.getFriendlyUnits(), alpha);
+		drawActors(graphics, world.getEnemyUnits(), alpha);
+		projectilePainter.paint(graphics, alpha, world.getUserProjectiles(), world.getEnemyProjectiles());
+		levelPainter.accept(graphics, alpha);
+	}
+
+	/**
+	 * Draws the visible actors of a list at their interpolated positions.
+	 *
+	 * @param graphics The graphics context to draw into.
+	 * @param actors   The actors to draw.
+	 * @param alpha    The fraction of a simulation step that has elapsed since the last step, in [0, 1].
+	 */
+	private void drawActors(GraphicsContext graphics, List<ActiveActorDestructible> actors, double alpha) {
+		for (int i = 0; i < actors.size(); i++) {
+			ActiveActorDestructible actor = actors.get(i);
+			if (actor.isVisible()) {
+				graphics.drawImage(sprite(actor),
+						actor.getLayoutX() + actor.getInterpolatedTranslateX(alpha),
+						actor.getLayoutY() + actor.getInterpolatedTranslateY(alpha),
+						actor.getWidth(), actor.getHeight());
+			}
+		}
+	}
+
+	/**
+	 * Returns the sprite of an actor, decoded at the actor's height.
+	 *
+	 * @param actor The actor.
+	 * @return The actor's sprite.
+	 */
+	private Image sprite(ActiveActorDestructible actor) {
+		return sprites.computeIfAbsent(actor.getImageName(),
+				name -> ImageRegistry.getImage(ImageAsset.sprite(name, actor.getHeight())));
+	}
+}
@@ -0,0 +1,236 @@
+package com.example.demo.Level;
+
+import com.example.demo.Actor.Enemy.Boss;
+import com.example.demo.Image.GameOverImage;
+import com.example.demo.Image.ShieldImage;
+import com.example.demo.Image.WinImage;
+import com.example.demo.Screen.LevelSelection;
+import com.example.demo.Screen.MainMenu;
+import com.example.demo.controller.Controller;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Button;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.media.MediaPlayer;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.stage.Stage;
+
+/**
+ * Presents any level of the {@link LevelRegistry}: the rules come from the level's
+ * {@link LevelDefinition} through a {@link LevelWorld}, and this class shows the win and game-over
+ * screens. A level that is followed by another offers to play it once it is won; the last level
+ * leads back to the main menu. In a level with a boss, the boss's shield is drawn on top of it.
+ */
+public final class GameLevel extends LevelParent {
+
+	private final double screenHeight;
+	private final double screenWidth;
+	private final String nextLevel;
+	private final ShieldImage shieldImage;
+	private Boss boss;
+	private StackPane winPane;
+	private StackPane gameOverPane;
+
+	/**
+	 * Constructs the level of the given name with the specified screen dimensions, stage, and media player.
+	 *
+	 * @param levelName    the name of the level in the registry
+	 * @param screenHeight the height of the screen
+	 * @param screenWidth  the width of the screen
+	 * @param stage        the JavaFX stage
+	 * @param mediaPlayer  the media player for background music
+	 */
+	public GameLevel(String levelName, double screenHeight, double screenWidth, Stage stage, MediaPlayer mediaPlayer) {
+		super(levelName, stage, mediaPlayer);
+		this.screenHeight = screenHeight;
+		this.screenWidth = screenWidth;
+		this.nextLevel = LevelRegistry.get(levelName).nextLevel();
+		this.boss = getBoss();
+		this.shieldImage = boss == null ? null : new ShieldImage(boss.getLayoutX(), boss.getLayoutY());
+	}
+
+	/**
+	 * Creates the view for the level, with the shield icon next to the hearts in a level with a boss.
+	 *
+	 * @return a LevelView object for the level.
+	 */
+	@Override
+	protected LevelView instantiateLevelView() {
+		if (getBoss() != null) {
+			return new LevelViewLevelThree(getRoot(), getUser().getHealth());
+		}
+		return new LevelView(getRoot(), getUser().getHealth());
+	}
+
+	/**
+	 * Returns the boss of the current world.
+	 *
+	 * @return the boss, or null if the level has none.
+	 */
+	private Boss getBoss() {
+		return ((LevelWorld) getWorld()).getBoss();
+	}
+
+	/**
+	 * Initializes the scene and adds the boss's shield on top of the actors, if the level has a boss.
+	 * In canvas mode the shield is painted into the canvas instead, by {@link #drawLevel}.
+	 */
+	@Override
+	protected void initializeScene() {
+		super.initializeScene();
+		if (shieldImage != null && getRenderMode() == RenderMode.NODES) {
+			getRoot().getChildren().add(shieldImage);
+		}
+	}
+
+	/**
+	 * Follows the boss of the fresh world, hides the shield, and takes the win or game over
+	 * screen of the last game off the level when it is played again.
+	 */
+	@Override
+	protected void resetLevel() {
+		if (shieldImage != null) {
+			boss = getBoss();
+			shieldImage.hideShield();
+		}
+		getRoot().getChildren().remove(winPane);
+		getRoot().getChildren().remove(gameOverPane);
+	}
+
+	/**
+	 * Keeps the boss's shield on the boss and shows it only while the boss is shielded.
+	 *
+	 * @param alpha The fraction of a simulation step that has elapsed since the last step, in [0, 1].
+	 */
+	@Override
+	protected void renderLevel(double alpha) {
+		if (shieldImage == null) {
+			return;
+		}
+		shieldImage.setLayoutY(boss.getLayoutY() + boss.getInterpolatedTranslateY(alpha));
+		if (boss.isShielded() && !shieldImage.isVisible()) {
+			shieldImage.showShield();
+		} else if (!boss.isShielded() && shieldImage.isVisible()) {
+			shieldImage.hideShield();
+		}
+	}
+
+	/**
+	 * Paints the boss's shield on top of the world in canvas mode.
+	 *
+	 * @param graphics The graphics context of the world canvas.
+	 * @param alpha    The fraction of a simulation step that has elapsed since the last step, in [0, 1].
+	 */
+	@Override
+	protected void drawLevel(GraphicsContext graphics, double alpha) {
+		if (shieldImage != null) {
+			shieldImage.draw(graphics);
+		}
+	}
+
+	/**
+	 * Handles the actions that occur when the player wins the level.
+	 * It updates the game state and displays the win screen.
+	 */
+	@Override
+	protected void winGame() {
+		super.winGame();
+		if (winPane == null) {
+			winPane = createWinScreen();
+		}
+		getRoot().getChildren().add(winPane);
+		levelComplete(); // Notify that the level is complete
+	}
+
+	/**
+	 * Handles the actions that occur when the player loses the level.
+	 * It displays the game over screen.
+	 */
+	@Override
+	protected void loseGame() {
+		super.loseGame();
+		if (gameOverPane == null) {
+			gameOverPane = createGameOverScreen();
+		}
+		getRoot().getChildren().add(gameOverPane);
+	}
+
+	/**
+	 * Creates the win screen, once per level; it is shown again every time the level is won.
+	 * It offers to return to the menu and, unless this is the last level, to play the next one.
+	 *
+	 * @return the pane holding the win screen
+	 */
+	private StackPane createWinScreen() {
+		WinImage winImage = new WinImage(screenWidth / 2 - 300, screenHeight / 2 - 250);
+		winImage.showWinImage();
+
+		Button mainMenuButton = createStyledButton("Return to Main Menu", _ -> returnToMainMenu());
+		HBox buttonLayout = new HBox(20, mainMenuButton);
+		if (nextLevel != null) {
+			buttonLayout.getChildren().add(createStyledButton("Next Level ♪", _ -> startNextLevel()));
+		}
+		return createEndScreen(winImage, buttonLayout);
+	}
+
+	/**
+	 * Creates the game over screen, once per level; it is shown again every time the level is lost.
+	 *
+	 * @return the pane holding the game over screen
+	 */
+	private StackPane createGameOverScreen() {
+		GameOverImage gameOverImage = new GameOverImage(screenWidth / 2 - 350, screenHeight / 2 - 300);
+
+		Button mainMenuButton = createStyledButton("Return to Main Menu", _ -> returnToMainMenu());
+		Button restartButton = createStyledButton("Restart Game ♪", _ -> play());
+		return createEndScreen(gameOverImage, new HBox(20, mainMenuButton, restartButton));
+	}
+
+	/**
+	 * Lays out an end screen: a dark overlay with the image above the buttons.
+	 *
+	 * @param image        the win or game over image
+	 * @param buttonLayout the buttons of the screen
+	 * @return the pane holding the screen
+	 */
+	private StackPane createEndScreen(Node image, HBox buttonLayout) {
+		// Create a dark overlay
+		Rectangle overlay = new Rectangle(screenWidth, screenHeight);
+		overlay.setFill(Color.BLACK);
+		overlay.setOpacity(0.7);
+
+		buttonLayout.setAlignment(Pos.CENTER);
+
+		// Create a VBox to hold the image and buttons
+		VBox layout = new VBox(-50, image, buttonLayout);
+		layout.setAlignment(Pos.CENTER);
+
+		// Create a stack pane to overlay the image and buttons
+		StackPane pane = new StackPane();
+		pane.getChildren().addAll(overlay, layout);
+		StackPane.setAlignment(layout, Pos.CENTER);
+		return pane;
+	}
+
+	/**
+	 * Returns to the level selection or, after the last level, to the main menu.
+	 */
+	private void returnToMainMenu() {
+		if (nextLevel == null) {
+			MainMenu.show(stage);
+		} else {
+			LevelSelection.of(stage, mediaPlayer).show();
+		}
+	}
+
+	/**
+	 * Starts the level that follows this one.
+	 */
+	private void startNextLevel() {
+		new Controller(stage, mediaPlayer).launchLevel(nextLevel);
+	}
+}
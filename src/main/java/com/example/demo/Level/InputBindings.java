@@ -0,0 +1,232 @@
+package com.example.demo.Level;
+
+import com.example.demo.Engine.PlayerAction;
+import javafx.scene.input.KeyCode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Properties;
+
+/**
+ * The keys bound to the {@link PlayerAction player actions}. The bindings are read once from the
+ * file named by the {@code skybattle.keybindings} system property, or
+ * {@code keybindings.properties} in the working directory when it is not set, with one entry per
+ * action such as {@code fireKey=SPACE}. Actions without a valid entry keep their default key.
+ *
+ * <p>Every key maps to the actions bound to it through an array indexed by the key's ordinal, so
+ * turning a key into actions is one array access. {@link #rebind Rebinding} an action updates the
+ * array in place and writes the file, so a change made on the settings screen applies to the next
+ * key press and is kept for the next run.</p>
+ *
+ * <p>{@link #PAUSE_KEY} and {@link #PROFILER_KEY} are reserved for the level and cannot be bound
+ * to an action.</p>
+ */
+public final class InputBindings {
+
+	/**
+	 * The system property naming the key bindings file.
+	 */
+	public static final String PROPERTY = "skybattle.keybindings";
+
+	/**
+	 * The key that pauses and resumes the game.
+	 */
+	public static final KeyCode PAUSE_KEY = KeyCode.ESCAPE;
+
+	/**
+	 * The key that shows and hides the profiler overlay.
+	 */
+	public static final KeyCode PROFILER_KEY = KeyCode.F3;
+
+	private static final String DEFAULT_FILE = "keybindings.properties";
+	private static final PlayerAction[] ACTIONS = PlayerAction.values();
+	private static final String[] PROPERTY_NAMES = {"moveUpKey", "moveDownKey", "moveLeftKey", "moveRightKey", "fireKey"};
+	private static final KeyCode[] DEFAULT_KEYS = {KeyCode.W, KeyCode.S, KeyCode.A, KeyCode.D, KeyCode.SPACE};
+
+	private static InputBindings instance;
+
+	private final Path path;
+	private final KeyCode[] keyByAction = DEFAULT_KEYS.clone();
+	private final int[] actionsByKey = new int[KeyCode.values().length];
+
+	/**
+	 * Creates the bindings that are read from and written to the given file.
+	 *
+	 * @param path The key bindings file.
+	 */
+	private InputBindings(Path path) {
+		this.path = path;
+	}
+
+	/**
+	 * Returns the key bindings of the game, reading them from the file the first time.
+	 *
+	 * @return The key bindings.
+	 */
+	public static synchronized InputBindings getInstance() {
+		if (instance == null) {
+			instance = load(Path.of(System.getProperty(PROPERTY, DEFAULT_FILE)));
+		}
+		return instance;
+	}
+
+	/**
+	 * Reads key bindings from a file. A missing file yields the default bindings. Entries that do
+	 * not name a key or name a reserved key are reported and the action keeps its default key;
+	 * if two actions end up on the same key, all actions go back to their default keys.
+	 *
+	 * @param path The key bindings file.
+	 * @return The bindings, which are written back to the same file.
+	 */
+	public static InputBindings load(Path path) {
+		InputBindings bindings = new InputBindings(path);
+		Properties properties = new Properties();
+		try (InputStream in = Files.newInputStream(path)) {
+			properties.load(in);
+		} catch (NoSuchFileException e) {
+			// Keep the default bindings.
+		} catch (IOException e) {
+			System.err.println("Could not read the key bindings, using the defaults: " + e);
+		}
+		for (PlayerAction action : ACTIONS) {
+			String value = properties.getProperty(PROPERTY_NAMES[action.ordinal()]);
+			if (value == null) {
+				continue;
+			}
+			KeyCode key = parseKey(value.trim());
+			if (key == null || isReserved(key)) {
+				System.err.println("Invalid key binding " + PROPERTY_NAMES[action.ordinal()] + "=" + value
+						+ ", using " + bindings.keyByAction[action.ordinal()].getName());
+				continue;
+			}
+			bindings.keyByAction[action.ordinal()] = key;
+		}
+		for (PlayerAction action : ACTIONS) {
+			if (bindings.getAction(bindings.keyByAction[action.ordinal()], action) != null) {
+				System.err.println("Two actions are bound to " + bindings.keyByAction[action.ordinal()].getName()
+						+ ", using the default key bindings");
+				System.arraycopy(DEFAULT_KEYS, 0, bindings.keyByAction, 0, DEFAULT_KEYS.length);
+				break;
+			}
+		}
+		bindings.rebuildLookup();
+		return bindings;
+	}
+
+	/**
+	 * Returns the actions bound to a key.
+	 *
+	 * @param key The key.
+	 * @return A bit mask of {@link PlayerAction} values, 0 if the key is not bound.
+	 */
+	public int getActions(KeyCode key) {
+		return actionsByKey[key.ordinal()];
+	}
+
+	/**
+	 * Returns the key bound to an action.
+	 *
+	 * @param action The action.
+	 * @return The key.
+	 */
+	public KeyCode getKey(PlayerAction action) {
+		return keyByAction[action.ordinal()];
+	}
+
+	/**
+	 * Checks whether a key is reserved for the level and cannot be bound to an action.
+	 *
+	 * @param key The key.
+	 * @return true for the pause and profiler keys.
+	 */
+	public static boolean isReserved(KeyCode key) {
+		return key == PAUSE_KEY || key == PROFILER_KEY;
+	}
+
+	/**
+	 * Binds an action to a key and writes the bindings file. If the key was bound to another
+	 * action, the two actions swap keys, so every action keeps a key of its own.
+	 *
+	 * @param action The action.
+	 * @param key    The new key of the action.
+	 * @throws IllegalArgumentException If the key is reserved.
+	 */
+	public void rebind(PlayerAction action, KeyCode key) {
+		if (isReserved(key)) {
+			throw new IllegalArgumentException("Reserved key: " + key.getName());
+		}
+		KeyCode oldKey = keyByAction[action.ordinal()];
+		if (oldKey == key) {
+			return;
+		}
+		PlayerAction other = getAction(key, action);
+		if (other != null) {
+			keyByAction[other.ordinal()] = oldKey;
+		}
+		keyByAction[action.ordinal()] = key;
+		rebuildLookup();
+		save();
+	}
+
+	/**
+	 * Returns the action other than the given one that is bound to a key.
+	 *
+	 * @param key    The key.
+	 * @param except The action to ignore.
+	 * @return The other action, or null if there is none.
+	 */
+	private PlayerAction getAction(KeyCode key, PlayerAction except) {
+		for (PlayerAction action : ACTIONS) {
+			if (action != except && keyByAction[action.ordinal()] == key) {
+				return action;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Fills the key lookup from the key of every action.
+	 */
+	private void rebuildLookup() {
+		Arrays.fill(actionsByKey, 0);
+		for (PlayerAction action : ACTIONS) {
+			actionsByKey[keyByAction[action.ordinal()].ordinal()] |= action.mask();
+		}
+	}
+
+	/**
+	 * Writes the bindings file. Rebinding only happens on the settings screen, so the small file is
+	 * written straight away.
+	 */
+	private void save() {
+		Properties properties = new Properties();
+		for (PlayerAction action : ACTIONS) {
+			properties.setProperty(PROPERTY_NAMES[action.ordinal()], keyByAction[action.ordinal()].name());
+		}
+		try (OutputStream out = Files.newOutputStream(path)) {
+			properties.store(out, null);
+		} catch (IOException e) {
+			System.err.println("Could not write the key bindings " + path + ": " + e);
+		}
+	}
+
+	/**
+	 * Parses a key from its constant name, such as {@code SPACE}, or its display name, such as
+	 * {@code Space}.
+	 *
+	 * @param value The name of the key.
+	 * @return The key, or null if there is no key of that name.
+	 */
+	private static KeyCode parseKey(String value) {
+		try {
+			return KeyCode.valueOf(value);
+		} catch (IllegalArgumentException e) {
+			return KeyCode.getKeyCode(value);
+		}
+	}
+}
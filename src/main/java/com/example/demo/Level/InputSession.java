@@ -0,0 +1,124 @@
+package com.example.demo.Level;
+
+import com.example.demo.Engine.GameRandom;
+import com.example.demo.Engine.InputLog;
+import com.example.demo.Engine.InputRecorder;
+import com.example.demo.Engine.InputReplay;
+import com.example.demo.Engine.World;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Connects levels to input recording and replay, configured by system properties.
+ *
+ * <p>With {@code -Dskybattle.record=session.sbr} the input of every level played is recorded
+ * and written to that file when the level ends or is left, so the file holds the last session.
+ * With {@code -Dskybattle.replay=session.sbr} the recorded level is seeded from the log and
+ * driven by the recorded input instead of the keyboard, every time it is started; other levels
+ * are played normally. A log can also be replayed at full speed without a window through
+ * {@link #replayHeadless(Path)}.</p>
+ */
+public final class InputSession {
+
+	/**
+	 * The name of the system property that names the file sessions are recorded to.
+	 */
+	public static final String RECORD_PROPERTY = "skybattle.record";
+
+	/**
+	 * The name of the system property that names the log to replay.
+	 */
+	public static final String REPLAY_PROPERTY = "skybattle.replay";
+
+	private static final InputLog REPLAY_LOG = readConfiguredReplay();
+
+	private InputSession() {
+	}
+
+	/**
+	 * Returns the random numbers for a new world of the given level: seeded from the replay log if
+	 * it was recorded in this level, and from {@link GameRandom#fromConfiguredSeed()} otherwise.
+	 *
+	 * @param level The name of the level, e.g. {@code LevelOne}.
+	 * @return The random numbers for the level's world.
+	 */
+	public static GameRandom createRandom(String level) {
+		if (REPLAY_LOG != null && REPLAY_LOG.getLevel().equals(level)) {
+			return new GameRandom(REPLAY_LOG.getSeed());
+		}
+		return GameRandom.fromConfiguredSeed();
+	}
+
+	/**
+	 * Starts a replay of the configured log for the given level.
+	 *
+	 * @param level The name of the level.
+	 * @return The replay, or null if no log is configured or it was recorded in another level.
+	 */
+	public static InputReplay openReplay(String level) {
+		if (REPLAY_LOG != null && REPLAY_LOG.getLevel().equals(level)) {
+			return new InputReplay(REPLAY_LOG);
+		}
+		return null;
+	}
+
+	/**
+	 * Starts a recording of the given level if recording is configured.
+	 *
+	 * @param level The name of the level.
+	 * @param seed  The seed of the level's random numbers.
+	 * @return The recorder, or null if recording is not configured.
+	 */
+	public static InputRecorder openRecorder(String level, long seed) {
+		return System.getProperty(RECORD_PROPERTY) == null ? null : new InputRecorder(level, seed);
+	}
+
+	/**
+	 * Writes a finished recording to the configured file, reporting failures without interrupting the game.
+	 *
+	 * @param recorder The recording.
+	 */
+	public static void save(InputRecorder recorder) {
+		String path = System.getProperty(RECORD_PROPERTY);
+		InputLog log = recorder.toLog();
+		try {
+			log.write(Path.of(path));
+			System.out.println("Recorded " + log.getTickCount() + " ticks of " + log.getLevel() + " to " + path);
+		} catch (IOException e) {
+			System.err.println("Cannot write input recording to '" + path + "': " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Replays a log at full speed in a world of its level created with its seed, without a window.
+	 *
+	 * @param path The log.
+	 * @return The world after the replay, e.g. to check its outcome and tick count.
+	 * @throws IOException If the log cannot be read.
+	 */
+	public static World replayHeadless(Path path) throws IOException {
+		InputLog log = InputLog.read(path);
+		World world = LevelRegistry.createWorld(log.getLevel(), new GameRandom(log.getSeed()));
+		new InputReplay(log).runToEnd(world);
+		return world;
+	}
+
+	/**
+	 * Reads the log named by the replay property, if it is set.
+	 *
+	 * @return The log, or null if none is configured or it cannot be read.
+	 */
+	private static InputLog readConfiguredReplay() {
+		String path = System.getProperty(REPLAY_PROPERTY);
+		if (path == null) {
+			return null;
+		}
+		try {
+			return InputLog.read(Path.of(path));
+		} catch (IOException e) {
+			System.err.println("Cannot read input replay '" + path + "': " + e.getMessage());
+			return null;
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package com.example.demo.Level;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.ProjectileType;
+import com.example.demo.Engine.GameRandom;
+import com.example.demo.Engine.World;
+import com.example.demo.Image.GameOverImage;
+import com.example.demo.Image.HeartDisplay;
+import com.example.demo.Image.ImageAsset;
+import com.example.demo.Image.ShieldImage;
+import com.example.demo.Image.WinImage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lists the images a level draws, at the sizes it draws them, so they can be decoded by the
+ * {@link com.example.demo.Image.AssetPreloader} before the level starts.
+ *
+ * <p>The sprites are taken from the actors of a throwaway world of the level, so the list follows
+ * the level's enemies without repeating their sizes here. Building that world is not free, so the
+ * list of each level is worked out once and kept, and callers on the JavaFX thread hand the work
+ * to the {@link com.example.demo.Image.AssetPreloader} rather than calling this directly.</p>
+ */
+public final class LevelAssets {
+
+	private static final Map<String, List<ImageAsset>> ASSETS = new ConcurrentHashMap<>();
+
+	private LevelAssets() {
+	}
+
+	/**
+	 * Returns the images of a level: its background, the sprites of its actors and of every
+	 * projectile, the hearts, the end screens and, in the boss level, the shield.
+	 *
+	 * @param level The name of the level in the {@link LevelRegistry}.
+	 * @return The images of the level.
+	 * @throws IllegalArgumentException If there is no level of that name.
+	 */
+	public static List<ImageAsset> forLevel(String level) {
+		return ASSETS.computeIfAbsent(level, LevelAssets::list);
+	}
+
+	/**
+	 * Lists the images of a level from a throwaway world of it.
+	 *
+	 * @param level The name of the level in the {@link LevelRegistry}.
+	 * @return The images of the level.
+	 */
+	private static List<ImageAsset> list(String level) {
+		World world = LevelRegistry.createWorld(level, new GameRandom(0));
+		List<ImageAsset> assets = new ArrayList<>();
+		assets.add(ImageAsset.ofSize(LevelRegistry.get(level).backgroundImageName(), world.getScreenWidth(), world.getScreenHeight()));
+		for (ActiveActorDestructible actor : world.getActorKinds()) {
+			assets.add(ImageAsset.sprite(actor.getImageName(), actor.getHeight()));
+		}
+		for (ProjectileType type : ProjectileType.values()) {
+			assets.add(ImageAsset.sprite(type.getImageName(), type.getHeight()));
+		}
+		assets.add(HeartDisplay.ASSET);
+		assets.add(WinImage.ASSET);
+		assets.add(GameOverImage.ASSET);
+		if (world instanceof LevelWorld levelWorld && levelWorld.getBoss() != null) {
+			assets.add(ShieldImage.ASSET);
+		}
+		return List.copyOf(assets);
+	}
+}
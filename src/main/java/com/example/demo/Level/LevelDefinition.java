@@ -0,0 +1,581 @@
+package com.example.demo.Level;
+
+import com.example.demo.Actor.Enemy.EnemyType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A level as its {@code .level} file describes it: the background, the player's health, the goal,
+ * the enemy types and the waves they come in. A {@link LevelWorld} plays any definition, so a new
+ * level only needs a new file and a line in the {@value #INDEX} index.
+ *
+ * <p>A level file has one statement per line; blank lines and everything after a {@code #} are
+ * ignored. The first word names the statement, the rest are {@code key=value} settings:</p>
+ * <pre>
+ * background /com/example/demo/images/background2.png
+ * player health=4
+ * goal kills=27                       # or: goal clear
+ * enemy plane kind=plane
+ * enemy elite kind=elite health=8 path=wave amplitude=40 period=60
+ * enemy boss kind=boss health=100 speed=8 fireRate=.05 shieldChance=.01
+ * phase boss below=50 fireRate=.08 shieldChance=.02
+ * wave enemies=5 chance=.2 mix=elite:.4,plane:.6 count=30
+ * </pre>
+ *
+ * <p>An {@code enemy} takes the stats of its kind ({@code plane}, {@code elite} or {@code boss})
+ * unless it sets {@code health}, {@code speed}, {@code fireRate} or {@code shieldChance}; planes
+ * fly straight unless they follow a {@code wave} path. A {@code phase} changes the fire rate and
+ * shield chance of the boss once its health drops below {@code below}, which must be less than
+ * the boss's health; phases go down in health and may come before or after their boss.</p>
+ *
+ * <p>A {@code wave} keeps up to {@code enemies} enemies on the playfield: each missing enemy
+ * appears with probability {@code chance} per tick, of a type drawn from the weighted {@code mix}.
+ * A wave with a {@code count} ends once it has sent that many enemies, and the next wave starts
+ * when they are all gone; a wave without one lasts until the level is over. A level with the goal
+ * {@code kills} is won once the player has destroyed that many enemies, a level with the goal
+ * {@code clear} once every wave has ended and no enemy is left. The boss, of which a level can
+ * have one, appears alone, in a wave with {@code count=1}.</p>
+ *
+ * <p>Files are parsed once, when the {@link LevelRegistry} is loaded; a mistake in a file is
+ * reported with its file name and line and stops the game from starting with a broken level.</p>
+ *
+ * @param name                The name of the level, e.g. {@code LevelOne}.
+ * @param backgroundImageName The resource path of the level's background.
+ * @param playerHealth        The initial health of the player.
+ * @param killsToWin          The number of kills that wins the level, or 0 if the level is won by
+ *                            clearing every wave.
+ * @param enemyTypes          The enemy types of the level, in the order they are defined.
+ * @param waves               The waves of the level, in the order they are played.
+ */
+public record LevelDefinition(String name, String backgroundImageName, int playerHealth, int killsToWin,
+							  List<EnemyType> enemyTypes, List<Wave> waves) {
+
+	/**
+	 * The resource path of the index that lists the level files, one name per line, in the order
+	 * the levels are played.
+	 */
+	public static final String INDEX = "/com/example/demo/levels/levels.txt";
+
+	private static final String LEVEL_PATH = "/com/example/demo/levels/";
+	private static final String LEVEL_EXTENSION = ".level";
+
+	/**
+	 * A wave of enemies.
+	 *
+	 * @param enemies The number of enemies the wave keeps on the playfield.
+	 * @param chance  The chance per tick that a missing enemy appears.
+	 * @param mix     The enemy types of the wave.
+	 * @param weights The weight of each type in the mix, in the same order.
+	 * @param count   The number of enemies the wave sends before it ends, or 0 if it never ends.
+	 */
+	public record Wave(int enemies, double chance, List<EnemyType> mix, List<Double> weights, int count) {
+
+		/**
+		 * Copies the mix and its weights.
+		 *
+		 * @param enemies The number of enemies the wave keeps on the playfield.
+		 * @param chance  The chance per tick that a missing enemy appears.
+		 * @param mix     The enemy types of the wave.
+		 * @param weights The weight of each type in the mix, in the same order.
+		 * @param count   The number of enemies the wave sends before it ends, or 0 if it never ends.
+		 */
+		public Wave {
+			mix = List.copyOf(mix);
+			weights = List.copyOf(weights);
+		}
+
+		/**
+		 * Checks whether the wave ends after a number of enemies.
+		 *
+		 * @return true if the wave has a count, false if it lasts until the level is over.
+		 */
+		public boolean isFinite() {
+			return count > 0;
+		}
+	}
+
+	/**
+	 * Copies the enemy types and the waves.
+	 *
+	 * @param name                The name of the level.
+	 * @param backgroundImageName The resource path of the level's background.
+	 * @param playerHealth        The initial health of the player.
+	 * @param killsToWin          The number of kills that wins the level, or 0 to clear every wave.
+	 * @param enemyTypes          The enemy types of the level.
+	 * @param waves               The waves of the level.
+	 */
+	public LevelDefinition {
+		enemyTypes = List.copyOf(enemyTypes);
+		waves = List.copyOf(waves);
+	}
+
+	/**
+	 * Returns the boss of the level.
+	 *
+	 * @return The enemy type of the boss, or null if the level has none.
+	 */
+	public EnemyType getBossType() {
+		for (EnemyType type : enemyTypes) {
+			if (type.kind() == EnemyType.Kind.BOSS) {
+				return type;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Reads the names of the levels from the {@value #INDEX} index.
+	 *
+	 * @return The names of the levels, in the order they are played.
+	 * @throws UncheckedIOException If the index is missing or cannot be read.
+	 */
+	public static List<String> loadIndex() {
+		List<String> names = new ArrayList<>();
+		try (BufferedReader reader = open(INDEX)) {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				String name = stripComment(line);
+				if (!name.isEmpty()) {
+					names.add(name);
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not read the level index " + INDEX, e);
+		}
+		return names;
+	}
+
+	/**
+	 * Reads and parses the file of a level.
+	 *
+	 * @param name The name of the level; its file is {@code <name>.level} next to the index.
+	 * @return The definition of the level.
+	 * @throws UncheckedIOException     If the file is missing or cannot be read.
+	 * @throws IllegalArgumentException If the file is not a valid level.
+	 */
+	public static LevelDefinition load(String name) {
+		String path = LEVEL_PATH + name + LEVEL_EXTENSION;
+		try (BufferedReader reader = open(path)) {
+			return parse(name, name + LEVEL_EXTENSION, reader);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Could not read the level " + path, e);
+		}
+	}
+
+	/**
+	 * Parses a level file.
+	 *
+	 * @param name   The name of the level.
+	 * @param source The name of the file, for error messages.
+	 * @param reader The contents of the file.
+	 * @return The definition of the level.
+	 * @throws IOException              If the file cannot be read.
+	 * @throws IllegalArgumentException If the file is not a valid level.
+	 */
+	public static LevelDefinition parse(String name, String source, BufferedReader reader) throws IOException {
+		return new Parser(source).parse(name, reader);
+	}
+
+	/**
+	 * Opens a resource for reading.
+	 *
+	 * @param path The resource path.
+	 * @return A reader of the resource.
+	 * @throws IOException If there is no resource at that path.
+	 */
+	private static BufferedReader open(String path) throws IOException {
+		InputStream in = LevelDefinition.class.getResourceAsStream(path);
+		if (in == null) {
+			throw new IOException("Resource not found: " + path);
+		}
+		return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Removes the comment and surrounding blanks from a line.
+	 *
+	 * @param line The line.
+	 * @return The statement on the line, empty if there is none.
+	 */
+	private static String stripComment(String line) {
+		int comment = line.indexOf('#');
+		return (comment < 0 ? line : line.substring(0, comment)).trim();
+	}
+
+	/**
+	 * The state of parsing one file. Enemy types, phases and waves are collected by name and only
+	 * built once the whole file is read, so they can come in any order; each mistake is reported
+	 * at the line of the statement that caused it.
+	 */
+	private static final class Parser {
+
+		private final String source;
+		private final Map<String, Map<String, String>> enemies = new LinkedHashMap<>();
+		private final Map<String, Integer> enemyLines = new HashMap<>();
+		private final Map<String, List<EnemyType.Phase>> phases = new LinkedHashMap<>();
+		private final Map<String, List<Integer>> phaseLines = new HashMap<>();
+		private final List<Map<String, String>> waves = new ArrayList<>();
+		private final List<Integer> waveLines = new ArrayList<>();
+		private String background;
+		private int playerHealth;
+		private int killsToWin = -1;
+		private int lineNumber;
+
+		/**
+		 * Creates a parser for one file.
+		 *
+		 * @param source The name of the file, for error messages.
+		 */
+		Parser(String source) {
+			this.source = source;
+		}
+
+		/**
+		 * Reads every statement of the file and builds the definition.
+		 *
+		 * @param name   The name of the level.
+		 * @param reader The contents of the file.
+		 * @return The definition of the level.
+		 * @throws IOException If the file cannot be read.
+		 */
+		LevelDefinition parse(String name, BufferedReader reader) throws IOException {
+			String line;
+			while ((line = reader.readLine()) != null) {
+				lineNumber++;
+				String statement = stripComment(line);
+				if (!statement.isEmpty()) {
+					parseStatement(statement.split("\\s+"));
+				}
+			}
+			lineNumber = 0;
+			if (background == null) {
+				throw error("Missing background");
+			}
+			if (playerHealth == 0) {
+				throw error("Missing player health");
+			}
+			if (killsToWin < 0) {
+				throw error("Missing goal");
+			}
+			if (waves.isEmpty()) {
+				throw error("Missing waves");
+			}
+			Map<String, EnemyType> types = buildEnemyTypes();
+			List<Wave> builtWaves = buildWaves(types);
+			return new LevelDefinition(name, background, playerHealth, killsToWin, List.copyOf(types.values()), builtWaves);
+		}
+
+		/**
+		 * Parses one statement.
+		 *
+		 * @param words The words of the statement.
+		 */
+		private void parseStatement(String[] words) {
+			switch (words[0]) {
+				case "background" -> {
+					if (words.length != 2) {
+						throw error("Expected: background <resource path>");
+					}
+					background = words[1];
+				}
+				case "player" -> playerHealth = positiveInt(settings(words, 1, "health"), "health");
+				case "goal" -> {
+					if (words.length == 2 && words[1].equals("clear")) {
+						killsToWin = 0;
+					} else {
+						killsToWin = positiveInt(settings(words, 1, "kills"), "kills");
+					}
+				}
+				case "enemy" -> {
+					if (words.length < 2 || words[1].contains("=")) {
+						throw error("Expected: enemy <name> kind=plane|elite|boss ...");
+					}
+					if (enemies.containsKey(words[1])) {
+						throw error("Enemy " + words[1] + " is defined twice");
+					}
+					enemies.put(words[1], settings(words, 2, "kind", "health", "speed", "fireRate", "shieldChance",
+							"path", "amplitude", "period"));
+					enemyLines.put(words[1], lineNumber);
+				}
+				case "phase" -> {
+					if (words.length < 2 || words[1].contains("=")) {
+						throw error("Expected: phase <enemy> below=... fireRate=... shieldChance=...");
+					}
+					Map<String, String> settings = settings(words, 2, "below", "fireRate", "shieldChance");
+					phases.computeIfAbsent(words[1], _ -> new ArrayList<>()).add(new EnemyType.Phase(
+							positiveInt(settings, "below"), probability(settings, "fireRate"),
+							probability(settings, "shieldChance")));
+					phaseLines.computeIfAbsent(words[1], _ -> new ArrayList<>()).add(lineNumber);
+				}
+				case "wave" -> {
+					waves.add(settings(words, 1, "enemies", "chance", "mix", "count"));
+					waveLines.add(lineNumber);
+				}
+				default -> throw error("Unknown statement: " + words[0]);
+			}
+		}
+
+		/**
+		 * Builds the enemy types from their settings and phases.
+		 *
+		 * @return The enemy types by name, in the order they are defined.
+		 */
+		private Map<String, EnemyType> buildEnemyTypes() {
+			for (String name : phases.keySet()) {
+				if (!enemies.containsKey(name)) {
+					lineNumber = phaseLines.get(name).getFirst();
+					throw error("Unknown enemy: " + name);
+				}
+			}
+			Map<String, EnemyType> types = new LinkedHashMap<>();
+			boolean hasBoss = false;
+			for (Map.Entry<String, Map<String, String>> enemy : enemies.entrySet()) {
+				String name = enemy.getKey();
+				Map<String, String> settings = enemy.getValue();
+				lineNumber = enemyLines.get(name);
+				EnemyType.Kind kind = kind(settings);
+				EnemyType defaults = kind.defaultType();
+				String path = settings.getOrDefault("path", "straight");
+				if (!path.equals("straight") && !path.equals("wave")) {
+					throw error("Unknown path: " + path);
+				}
+				boolean wave = path.equals("wave");
+				if (wave && kind == EnemyType.Kind.BOSS) {
+					throw error("The boss cannot follow a wave path");
+				}
+				if (!wave && (settings.containsKey("amplitude") || settings.containsKey("period"))) {
+					throw error("amplitude and period need path=wave");
+				}
+				List<EnemyType.Phase> bossPhases = phases.getOrDefault(name, List.of());
+				if (kind == EnemyType.Kind.BOSS) {
+					if (hasBoss) {
+						throw error("A level can only have one boss");
+					}
+					hasBoss = true;
+				} else if (!bossPhases.isEmpty()) {
+					lineNumber = phaseLines.get(name).getFirst();
+					throw error("Only the boss has phases");
+				}
+				int health = settings.containsKey("health") ? positiveInt(settings, "health") : defaults.health();
+				for (int i = 0; i < bossPhases.size(); i++) {
+					lineNumber = phaseLines.get(name).get(i);
+					if (bossPhases.get(i).belowHealth() >= health) {
+						throw error("The phase must start below the health of " + name + " (" + health + ")");
+					}
+					if (i > 0 && bossPhases.get(i).belowHealth() >= bossPhases.get(i - 1).belowHealth()) {
+						throw error("The phases of " + name + " must go down in health");
+					}
+				}
+				lineNumber = enemyLines.get(name);
+				types.put(name, new EnemyType(name, kind,
+						health,
+						settings.containsKey("speed") ? number(settings, "speed") : defaults.speed(),
+						settings.containsKey("fireRate") ? probability(settings, "fireRate") : defaults.fireRate(),
+						settings.containsKey("shieldChance") ? probability(settings, "shieldChance") : defaults.shieldChance(),
+						wave ? number(settings, "amplitude") : 0,
+						wave ? positiveInt(settings, "period") : 1,
+						bossPhases));
+			}
+			return types;
+		}
+
+		/**
+		 * Builds the waves from their settings.
+		 *
+		 * @param types The enemy types by name.
+		 * @return The waves, in the order they are played.
+		 */
+		private List<Wave> buildWaves(Map<String, EnemyType> types) {
+			List<Wave> built = new ArrayList<>();
+			boolean bossPlaced = false;
+			for (int i = 0; i < waves.size(); i++) {
+				Map<String, String> settings = waves.get(i);
+				lineNumber = waveLines.get(i);
+				List<EnemyType> mix = new ArrayList<>();
+				List<Double> weights = new ArrayList<>();
+				for (String entry : required(settings, "mix").split(",")) {
+					String[] parts = entry.split(":", 2);
+					EnemyType type = types.get(parts[0]);
+					if (type == null) {
+						throw error("Unknown enemy: " + parts[0]);
+					}
+					double weight = parts.length == 2 ? parseNumber("mix", parts[1]) : 1;
+					if (weight <= 0) {
+						throw error("The weight of " + parts[0] + " must be positive");
+					}
+					mix.add(type);
+					weights.add(weight);
+				}
+				Wave wave = new Wave(positiveInt(settings, "enemies"), probability(settings, "chance"),
+						mix, weights, settings.containsKey("count") ? positiveInt(settings, "count") : 0);
+				if (wave.chance() == 0) {
+					throw error("chance must be positive");
+				}
+				boolean hasBoss = mix.stream().anyMatch(type -> type.kind() == EnemyType.Kind.BOSS);
+				if (hasBoss) {
+					if (bossPlaced || mix.size() != 1 || wave.count() != 1) {
+						throw error("The boss appears alone, in one wave with count=1");
+					}
+					bossPlaced = true;
+				}
+				built.add(wave);
+			}
+			Wave last = built.getLast();
+			if (killsToWin == 0 && built.stream().anyMatch(wave -> !wave.isFinite())) {
+				throw error("With goal clear, every wave needs a count");
+			}
+			if (killsToWin > 0 && last.isFinite()) {
+				throw error("With goal kills, the last wave must not have a count");
+			}
+			return built;
+		}
+
+		/**
+		 * Reads the {@code key=value} settings of a statement.
+		 *
+		 * @param words   The words of the statement.
+		 * @param from    The index of the first setting.
+		 * @param allowed The keys the statement accepts.
+		 * @return The settings by key.
+		 */
+		private Map<String, String> settings(String[] words, int from, String... allowed) {
+			Map<String, String> settings = new HashMap<>();
+			for (int i = from; i < words.length; i++) {
+				int equals = words[i].indexOf('=');
+				if (equals <= 0) {
+					throw error("Expected key=value: " + words[i]);
+				}
+				String key = words[i].substring(0, equals);
+				if (!List.of(allowed).contains(key)) {
+					throw error("Unknown setting " + key + " for " + words[0]);
+				}
+				if (settings.put(key, words[i].substring(equals + 1)) != null) {
+					throw error("Setting " + key + " is given twice");
+				}
+			}
+			return settings;
+		}
+
+		/**
+		 * Returns the kind of an enemy.
+		 *
+		 * @param settings The settings of the enemy.
+		 * @return The kind.
+		 */
+		private EnemyType.Kind kind(Map<String, String> settings) {
+			String value = required(settings, "kind");
+			try {
+				return EnemyType.Kind.valueOf(value.toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException e) {
+				throw error("Unknown kind: " + value);
+			}
+		}
+
+		/**
+		 * Returns a setting that must be given.
+		 *
+		 * @param settings The settings of the statement.
+		 * @param key      The key of the setting.
+		 * @return The value.
+		 */
+		private String required(Map<String, String> settings, String key) {
+			String value = settings.get(key);
+			if (value == null || value.isEmpty()) {
+				throw error("Missing " + key);
+			}
+			return value;
+		}
+
+		/**
+		 * Returns a setting that is a whole number of at least one.
+		 *
+		 * @param settings The settings of the statement.
+		 * @param key      The key of the setting.
+		 * @return The value.
+		 */
+		private int positiveInt(Map<String, String> settings, String key) {
+			String value = required(settings, key);
+			try {
+				int number = Integer.parseInt(value);
+				if (number < 1) {
+					throw error(key + " must be at least 1: " + value);
+				}
+				return number;
+			} catch (NumberFormatException e) {
+				throw error(key + " is not a whole number: " + value);
+			}
+		}
+
+		/**
+		 * Returns a setting that is a number of at least zero.
+		 *
+		 * @param settings The settings of the statement.
+		 * @param key      The key of the setting.
+		 * @return The value.
+		 */
+		private double number(Map<String, String> settings, String key) {
+			double number = parseNumber(key, required(settings, key));
+			if (number < 0) {
+				throw error(key + " must not be negative");
+			}
+			return number;
+		}
+
+		/**
+		 * Returns a setting that is a probability.
+		 *
+		 * @param settings The settings of the statement.
+		 * @param key      The key of the setting.
+		 * @return The value, in [0, 1].
+		 */
+		private double probability(Map<String, String> settings, String key) {
+			double number = parseNumber(key, required(settings, key));
+			if (!(number >= 0 && number <= 1)) {
+				throw error(key + " must be between 0 and 1");
+			}
+			return number;
+		}
+
+		/**
+		 * Parses a number. {@code NaN} and {@code Infinity}, which {@link Double#parseDouble} accepts
+		 * and which no range check rejects, are not numbers in a level file.
+		 *
+		 * @param key   The key of the setting, for error messages.
+		 * @param value The text of the number.
+		 * @return The number, which is finite.
+		 */
+		private double parseNumber(String key, String value) {
+			double number;
+			try {
+				number = Double.parseDouble(value);
+			} catch (NumberFormatException e) {
+				throw error(key + " is not a number: " + value);
+			}
+			if (!Double.isFinite(number)) {
+				throw error(key + " is not a number: " + value);
+			}
+			return number;
+		}
+
+		/**
+		 * Creates the error for a mistake in the file, pointing at the line being read.
+		 *
+		 * @param message The mistake.
+		 * @return The error to throw.
+		 */
+		private IllegalArgumentException error(String message) {
+			return new IllegalArgumentException(source + (lineNumber > 0 ? ":" + lineNumber : "") + ": " + message);
+		}
+	}
+}
@@ -1,18 +1,28 @@
 package com.example.demo.Level;
 
 import java.util.*;
-import java.util.List;
-import java.util.stream.Collectors;
 
 import com.example.demo.Actor.ActiveActorDestructible;
-import com.example.demo.Actor.FighterPlane;
 import com.example.demo.Actor.User.UserPlane;
+import com.example.demo.Audio.SoundEngine;
+import com.example.demo.Engine.FrameProfiler;
+import com.example.demo.Engine.FrameStage;
+import com.example.demo.Engine.GameEventBus;
+import com.example.demo.Engine.GameEventType;
+import com.example.demo.Engine.GameLoop;
+import com.example.demo.Engine.InputRecorder;
+import com.example.demo.Engine.InputReplay;
+import com.example.demo.Engine.PlayerAction;
+import com.example.demo.Engine.World;
+import com.example.demo.Image.AssetPreloader;
+import com.example.demo.Image.ImageRegistry;
+import com.example.demo.Screen.SceneManager;
 import com.example.demo.Screen.SettingsScreen;
 import com.example.demo.Screen.MainMenu;
-import javafx.animation.*;
 import javafx.geometry.Pos;
 import javafx.scene.Group;
-import javafx.scene.Scene;
+import javafx.scene.Node;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Button;
 import javafx.scene.image.*;
 import javafx.scene.input.*;
@@ -20,54 +30,73 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
-import javafx.util.Duration;
 import javafx.stage.Stage;
 import javafx.scene.media.MediaPlayer;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
 
 /**
- * The abstract parent class for managing a game level, including user and enemy actions,
- * projectiles, and collisions. It defines the game loop, handles input, updates actors, and
- * manages the game state, such as pausing and resuming the game. The level background, scene,
- * and actors (both friendly and enemy) are also handled within this class.
+ * The abstract parent class for presenting a game level with JavaFX. The rules of the level
+ * (actors, projectiles, collisions and the win/loss conditions) live in a headless {@link World};
+ * this class runs the game loop that steps the world, turns key presses into player actions
+ * through the {@link InputBindings}, draws the world's actors through a {@link WorldRenderer},
+ * and manages the game state, such as pausing and resuming the game. The level background and scene are also handled within this class.
+ *
+ * <p>How the world is drawn depends on the {@link RenderMode} selected when the level is created:
+ * either one node per actor on top of a background node ({@link WorldView}), or one canvas that
+ * the background, actors and projectiles are painted into ({@link CanvasWorldView}). The HUD and
+ * the menus are nodes in both modes.</p>
+ *
+ * <p>Every stage of the update step and every frame is timed by a {@link FrameProfiler}. Pressing
+ * F3 shows a {@link ProfilerOverlay} with the recent timings and the live actor counts; the raw
+ * samples can also be streamed to a CSV file (see {@link FrameProfiler#CSV_PROPERTY}).</p>
+ *
+ * <p>The actions of every tick can be recorded, and a recorded session can drive the level in
+ * place of the keyboard; see {@link InputSession}.</p>
+ *
+ * <p>A level is a shell that is built once and kept by the stage's {@link SceneManager}: playing
+ * it again, whether restarted from the pause menu, from the game-over screen or from the level
+ * selection, resets it in place with a fresh world, which the {@link LevelRegistry} has already built
+ * in the background. The nodes of the level, the images of its actors and its menus are kept, so a
+ * restart decodes no images, builds no scene and does not wait for the world to be built.</p>
  *
  * <p>The class provides the basic structure for a game level, with methods to initialize
- * the game scene, start the game, update the actors, handle collisions, and fire projectiles.</p>
+ * the game scene, start the game, and react when the world reports that the level is over.</p>
  *
  * <p>Subclasses must implement methods to define the specific behavior of the level, including
- * spawning enemy units, checking for game over conditions, and creating a level view.</p>
+ * creating a level view and showing the win and game-over screens; {@link GameLevel} does so for
+ * every level described by a {@link LevelDefinition}.</p>
  *
- * @see ActiveActorDestructible
+ * @see World
+ * @see WorldRenderer
  * @see UserPlane
- * @see FighterPlane
  * @see LevelView
  */
 public abstract class LevelParent {
 
-	private static final double SCREEN_HEIGHT_ADJUSTMENT = 150;
-	private static final int MILLISECOND_DELAY = 50;
+	private static final int MAX_CATCH_UP_STEPS = 5;
+	private static final int OVERLAY_REFRESH_TICKS = 10;
 	private final double screenHeight;
 	private final double screenWidth;
-	private final double enemyMaximumYPosition;
 
 	private final Group root;
-	protected final Timeline timeline;
-	private final UserPlane user;
-	private final Scene scene;
-	private final ImageView background;
-
-	private final List<ActiveActorDestructible> friendlyUnits;
-	private final List<ActiveActorDestructible> enemyUnits;
-	private final List<ActiveActorDestructible> userProjectiles;
-	private final List<ActiveActorDestructible> enemyProjectiles;
-	private static final long PROJECTILE_COOLDOWN = 120;
-
-	private int currentNumberOfEnemies;
-	private final LevelView levelView;
+	protected final GameLoop gameLoop;
+	private final LevelRegistry.Entry level;
+	private World world;
+	private final RenderMode renderMode;
+	private final WorldRenderer worldView;
+	private final Node background;
 
-	private final Set<KeyCode> activeKeys = new HashSet<>();
-	private long lastFiredProjectile = 0;
+	private final LevelView levelView;
+	private final FrameProfiler profiler;
+	private final ProfilerOverlay profilerOverlay;
+	private GameEventBus.Cursor hudEvents;
+	private SoundEngine.WorldSounds sounds;
+	private InputReplay replay;
+	private InputRecorder recorder;
+	private boolean sceneInitialized;
+
+	private final ActionInput input = new ActionInput(InputBindings.getInstance());
 	private boolean isGamePaused;
 
 	protected final Stage stage;
@@ -81,56 +110,58 @@ public abstract class LevelParent {
 	private Runnable onLevelComplete;
 
 	/**
-	 * Constructs a LevelParent object to initialize the level with the specified parameters.
-	 * This includes setting up the background, scene, actors (user, friendly units, enemy units),
+	 * Constructs a LevelParent object to present the worlds of the given level from the {@link LevelRegistry}.
+	 * This includes setting up the background, the view of the world's actors,
 	 * and game loop. The pause menu and game state are also initialized.
 	 *
-	 * @param backgroundImageName The name of the background image to be displayed for the level.
-	 * @param screenHeight        The height of the game screen.
-	 * @param screenWidth         The width of the game screen.
-	 * @param playerInitialHealth The initial health of the player.
-	 * @param stage               The primary stage for displaying the game scene.
-	 * @param mediaPlayer         The media player for playing sound or music during the game.
-	 */
-	public LevelParent(String backgroundImageName, double screenHeight, double screenWidth,
-					   int playerInitialHealth, Stage stage, MediaPlayer mediaPlayer) {
+	 * @param levelName   The name of the level in the registry, which gives its background and worlds.
+	 * @param stage       The primary stage for displaying the game scene.
+	 * @param mediaPlayer The media player for playing sound or music during the game.
+	 */
+	public LevelParent(String levelName, Stage stage, MediaPlayer mediaPlayer) {
+		this.level = LevelRegistry.get(levelName);
+		this.world = LevelRegistry.takeWorld(levelName);
+		this.screenHeight = world.getScreenHeight();
+		this.screenWidth = world.getScreenWidth();
 		this.root = new Group();
-		this.scene = new Scene(root, screenWidth, screenHeight);
-		this.timeline = new Timeline();
-		this.user = new UserPlane(playerInitialHealth);
-		this.friendlyUnits = new ArrayList<>();
-		this.enemyUnits = new ArrayList<>();
-		this.userProjectiles = new ArrayList<>();
-		this.enemyProjectiles = new ArrayList<>();
-
-		this.background = new ImageView(new Image(getClass().getResource(backgroundImageName).toExternalForm()));
-		this.screenHeight = screenHeight;
-		this.screenWidth = screenWidth;
-		this.enemyMaximumYPosition = screenHeight - SCREEN_HEIGHT_ADJUSTMENT;
+		this.gameLoop = new GameLoop(World.MILLISECONDS_PER_TICK, MAX_CATCH_UP_STEPS, this::updateScene, this::renderScene);
+		this.renderMode = RenderMode.getSelected();
+
+		Image backgroundImage = ImageRegistry.getImage(level.backgroundImageName(), screenWidth, screenHeight);
+		if (renderMode == RenderMode.CANVAS) {
+			this.worldView = new CanvasWorldView(world, backgroundImage, this::drawLevel);
+			this.background = worldView.getLayer();
+		} else {
+			ImageView backgroundView = new ImageView(backgroundImage);
+			backgroundView.setFitHeight(screenHeight);
+			backgroundView.setFitWidth(screenWidth);
+			this.worldView = new WorldView(world);
+			this.background = backgroundView;
+		}
 		this.levelView = instantiateLevelView();
-		this.currentNumberOfEnemies = 0;
+		this.profiler = new FrameProfiler();
+		this.profilerOverlay = new ProfilerOverlay();
 		this.stage = stage;
 		this.mediaPlayer = mediaPlayer;
-		initializeTimeline();
-		friendlyUnits.add(user);
+		bindWorld();
 
 		initializePauseMenu();
 	}
 
 	/**
-	 * Abstract method to initialize the friendly units (e.g., the player's units).
-	 */
-	protected abstract void initializeFriendlyUnits();
-
-	/**
-	 * Abstract method to check if the game is over, based on the current game state.
+	 * Connects the parts of the level that follow one game to the current world: the profiler,
+	 * the HUD, the sound effects and the profiler overlay listen to its events, and its input is
+	 * replayed or recorded if a session is configured.
 	 */
-	protected abstract void checkIfGameOver();
-
-	/**
-	 * Abstract method to spawn enemy units for the level.
-	 */
-	protected abstract void spawnEnemyUnits();
+	private void bindWorld() {
+		world.setProfiler(profiler);
+		profiler.streamToConfiguredCsv(level.name());
+		hudEvents = world.getEvents().subscribe();
+		sounds = SoundEngine.getInstance().listen(world);
+		profilerOverlay.setEvents(world.getEvents());
+		replay = InputSession.openReplay(level.name());
+		recorder = InputSession.openRecorder(level.name(), world.getRandom().getSeed());
+	}
 
 	/**
 	 * Abstract method to instantiate and return the level view (e.g., the UI components for the level).
@@ -140,259 +171,230 @@ public abstract class LevelParent {
 	protected abstract LevelView instantiateLevelView();
 
 	/**
-	 * Initializes the scene for the level by setting up the background and friendly units.
-	 *
-	 * @return The Scene object representing the game level.
+	 * Shows the level on the stage and starts a game. The first time, the scene graph of the level
+	 * is built; every later time the level is reset in place with a fresh world instead. The sound
+	 * effects start loading in the background if they are not loaded yet.
+	 */
+	public void play() {
+		SoundEngine.getInstance().preload();
+		if (sceneInitialized) {
+			resetWorld();
+		} else {
+			initializeScene();
+			sceneInitialized = true;
+		}
+		SceneManager.of(stage).show(root);
+		startGame();
+	}
+
+	/**
+	 * Initializes the scene graph of the level by setting up the background and the actor layer
+	 * (in canvas mode both are the same canvas). Called once, the first time the level is played.
+	 * The counters of the shared image cache are logged once the level's images are loaded, and
+	 * so is the seed of the level's random numbers, so the run can be repeated.
 	 */
-	public Scene initializeScene() {
+	protected void initializeScene() {
 		initializeBackground();
-		initializeFriendlyUnits();
+		if (worldView.getLayer() != background) {
+			root.getChildren().add(worldView.getLayer());
+		}
 		levelView.showHeartDisplay();
-		return scene;
+		root.getChildren().add(profilerOverlay.getNode());
+		System.out.println("Image cache: " + ImageRegistry.getSummary());
+		System.out.println("Random seed: " + world.getRandom().getSeed());
 	}
 
 	/**
-	 * Starts the game by playing the timeline and setting the game as not paused.
+	 * Resets the level in place for a new game: ends the session of the old world, replaces it by
+	 * a fresh world from the registry and points the view, the HUD and the session outputs
+	 * at it. The images of the old world's actors go back to the view's pools and are reused.
 	 */
-	public void startGame() {
+	private void resetWorld() {
+		gameLoop.stop();
+		endSession();
+		hidePauseMenu();
+		input.clear();
+		world = LevelRegistry.takeWorld(level.name());
+		worldView.setWorld(world);
+		bindWorld();
+		levelView.resetHearts();
+		resetLevel();
+		System.out.println("Random seed: " + world.getRandom().getSeed());
+	}
+
+	/**
+	 * Resets level-specific elements when the level is played again, after the new world is in
+	 * place, e.g. to hide the win or game-over screen. The default implementation does nothing.
+	 */
+	protected void resetLevel() {
+	}
+
+	/**
+	 * Starts the game by starting the game loop and setting the game as not paused.
+	 * The images and the first world of the next level, if there is one, are listed, decoded and
+	 * built in the background meanwhile.
+	 */
+	private void startGame() {
 		background.requestFocus();
-		timeline.play();
+		gameLoop.start();
 		isGamePaused = false;
+		String nextLevel = level.nextLevel();
+		if (nextLevel != null) {
+			AssetPreloader.prefetch(() -> LevelAssets.forLevel(nextLevel));
+			LevelRegistry.prebuild(nextLevel);
+		}
 	}
 
-	private void initializeTimeline() {
-		timeline.setCycleCount(Timeline.INDEFINITE);
-		KeyFrame gameLoop = new KeyFrame(Duration.millis(MILLISECOND_DELAY), _ -> updateScene());
-		timeline.getKeyFrames().add(gameLoop);
+	/**
+	 * Sets the fixed simulation rate of the level. Rendering keeps following the screen refresh rate.
+	 *
+	 * @param stepsPerSecond The number of simulation steps per second.
+	 */
+	public void setSimulationRate(double stepsPerSecond) {
+		gameLoop.setStepMillis(1000.0 / stepsPerSecond);
 	}
 
 	private void initializeBackground() {
 		background.setFocusTraversable(true);
-		background.setFitHeight(screenHeight);
-		background.setFitWidth(screenWidth);
 		background.setOnKeyPressed(e -> {
 			KeyCode kc = e.getCode();
-			activeKeys.add(kc);
+			input.keyPressed(kc);
 
-			if (kc == KeyCode.ESCAPE) pauseGame();
-		});
-		background.setOnKeyReleased(e -> {
-			KeyCode kc = e.getCode();
-			activeKeys.remove(kc);
-			if (kc == KeyCode.W || kc == KeyCode.S) user.stopVertical();
-			if (kc == KeyCode.A || kc == KeyCode.D) user.stopHorizontal();
+			if (kc == InputBindings.PAUSE_KEY) pauseGame();
+			if (kc == InputBindings.PROFILER_KEY) toggleProfilerOverlay();
 		});
+		background.setOnKeyReleased(e -> input.keyReleased(e.getCode()));
 		root.getChildren().add(background);
 	}
 
 	/**
-	 * Handles key press events to move the user plane and fire projectiles.
-	 */
-	private void handleKeyPress() {
-		if (activeKeys.contains(KeyCode.W)) user.moveUp();
-		if (activeKeys.contains(KeyCode.S)) user.moveDown();
-		if (activeKeys.contains(KeyCode.A)) user.moveLeft();
-		if (activeKeys.contains(KeyCode.D)) user.moveRight();
-		if (activeKeys.contains(KeyCode.SPACE)) {
-			long currentTime = System.currentTimeMillis();
-			if (currentTime - lastFiredProjectile > PROJECTILE_COOLDOWN) {
-				fireProjectile();
-				lastFiredProjectile = currentTime;
-			}
-		}
-	}
-
-	private void fireProjectile() {
-		ActiveActorDestructible projectile = user.fireProjectile();
-		root.getChildren().add(projectile);
-		userProjectiles.add(projectile);
-	}
-
-	private void generateEnemyFire() {
-		enemyUnits.forEach(enemy -> spawnEnemyProjectile(((FighterPlane) enemy).fireProjectile()));
-	}
-
-	private void spawnEnemyProjectile(ActiveActorDestructible projectile) {
-		if (projectile != null) {
-			root.getChildren().add(projectile);
-			enemyProjectiles.add(projectile);
-		}
-	}
-
-	private void updateActors() {
-		friendlyUnits.forEach(plane -> plane.updateActor());
-		enemyUnits.forEach(enemy -> enemy.updateActor());
-		userProjectiles.forEach(projectile -> projectile.updateActor());
-		enemyProjectiles.forEach(projectile -> projectile.updateActor());
-	}
-
-	private void removeAllDestroyedActors() {
-		removeDestroyedActors(friendlyUnits);
-		removeDestroyedActors(enemyUnits);
-		removeDestroyedActors(userProjectiles);
-		removeDestroyedActors(enemyProjectiles);
-	}
-
-	private void removeDestroyedActors(List<ActiveActorDestructible> actors) {
-		List<ActiveActorDestructible> destroyedActors = actors.stream()
-				.filter(ActiveActorDestructible::isDestroyed)
-				.collect(Collectors.toList());
-		root.getChildren().removeAll(destroyedActors);
-		actors.removeAll(destroyedActors);
-	}
-
-	private void handlePlaneCollisions() {
-		handleCollisions(friendlyUnits, enemyUnits);
-	}
-
-	private void handleUserProjectileCollisions() {
-		handleCollisions(userProjectiles, enemyUnits);
-	}
-
-	private void handleEnemyProjectileCollisions() {
-		handleCollisions(enemyProjectiles, friendlyUnits);
-	}
-
-	/**
-	 * Handles collisions between two sets of actors (e.g., friendly units and enemy units).
-	 * If any two actors intersect, they both take damage.
+	 * Returns the player actions for the next tick: the recorded ones while a replay is running,
+	 * and the snapshot of the keyboard input otherwise. The actions are recorded if the session is
+	 * being recorded.
 	 *
-	 * @param actors1 The first list of actors (e.g., user projectiles).
-	 * @param actors2 The second list of actors (e.g., enemy units).
-	 */
-	private void handleCollisions(List<ActiveActorDestructible> actors1, List<ActiveActorDestructible> actors2) {
-		for (ActiveActorDestructible actor : actors2) {
-			for (ActiveActorDestructible otherActor : actors1) {
-				if (actor.getBoundsInParent().intersects(otherActor.getBoundsInParent())) {
-					actor.takeDamage();
-					otherActor.takeDamage();
-				}
-			}
+	 * @return A bit mask of {@link PlayerAction} values.
+	 */
+	private int nextActions() {
+		int actions = replay != null && replay.hasNext() ? replay.next() : input.snapshot();
+		if (recorder != null) {
+			recorder.record(actions);
 		}
+		return actions;
 	}
 
 	/**
-	 * Checks if any enemy unit has penetrated the player's defenses. If so, the player takes damage
-	 * and the enemy unit is destroyed.
+	 * Shows or hides the profiler overlay, refreshing it straight away when it is shown.
 	 */
-	private void handleEnemyPenetration() {
-		for (ActiveActorDestructible enemy : enemyUnits) {
-			if (enemyHasPenetratedDefenses(enemy)) {
-				user.takeDamage();
-				enemy.destroy();
-			}
+	private void toggleProfilerOverlay() {
+		profilerOverlay.toggle();
+		if (profilerOverlay.isVisible()) {
+			profilerOverlay.update(profiler, world);
 		}
 	}
 
 	/**
-	 * Updates the level view, such as removing hearts when the player's health decreases.
+	 * Updates the level view from the events of the last tick, removing hearts only when the
+	 * player was hit. If the HUD fell so far behind that the bus dropped events, a damage event
+	 * may be among them, so the hearts are set once from the player's health instead.
 	 */
 	private void updateLevelView() {
-		levelView.removeHearts(user.getHealth());
+		long dropped = hudEvents.getDroppedCount();
+		hudEvents.drain(this::updateHud);
+		if (hudEvents.getDroppedCount() != dropped) {
+			levelView.removeHearts(getUser().getHealth());
+		}
 	}
 
 	/**
-	 * Updates the kill count based on how many enemies have been destroyed since the last update.
+	 * Applies one event of the world to the level view.
+	 *
+	 * @param type  The kind of event.
+	 * @param actor The actor the event happened to.
+	 * @param tick  The tick the event happened in.
 	 */
-	private void updateKillCount() {
-		for (int i = 0; i < currentNumberOfEnemies - enemyUnits.size(); i++) {
-			user.incrementKillCount();
+	private void updateHud(GameEventType type, ActiveActorDestructible actor, long tick) {
+		if (type == GameEventType.DAMAGE && actor == getUser()) {
+			levelView.removeHearts(getUser().getHealth());
 		}
 	}
 
 	/**
-	 * Determines if the given enemy has penetrated the player's defenses (e.g., crossed the screen width).
-	 *
-	 * @param enemy The enemy unit to check.
-	 * @return True if the enemy has crossed the screen's edge; otherwise, false.
+	 * Shows the win or game-over screen once the world reports that the level is over.
 	 */
-	private boolean enemyHasPenetratedDefenses(ActiveActorDestructible enemy) {
-		return Math.abs(enemy.getTranslateX()) > screenWidth;
+	private void checkIfGameOver() {
+		if (world.getOutcome() == World.Outcome.WON) {
+			winGame();
+		} else if (world.getOutcome() == World.Outcome.LOST) {
+			loseGame();
+		}
 	}
 
 	/**
-	 * Ends the game and stops the game loop, indicating the player has won.
+	 * Ends the game and stops the game loop, indicating the player has won. The level is saved as
+	 * completed, together with the score if it is the best so far.
 	 */
 	protected void winGame() {
-		timeline.stop();
+		gameLoop.stop();
+		SaveStore.getInstance().recordGame(level.name(), true, getUser().getNumberOfKills());
+		endSession();
 	}
 
 	/**
-	 * Ends the game and stops the game loop, indicating the player has lost.
+	 * Ends the game and stops the game loop, indicating the player has lost. The score is saved if
+	 * it is the best so far.
 	 */
 	protected void loseGame() {
-		timeline.stop();
+		gameLoop.stop();
+		SaveStore.getInstance().recordGame(level.name(), false, getUser().getNumberOfKills());
+		endSession();
 	}
 
 	/**
-	 * Returns the user plane (the player's main unit).
-	 *
-	 * @return The user's plane.
+	 * Finishes the outputs of the session when the level ends or is left: closes the profile CSV
+	 * file and writes the input recording, if there are any.
 	 */
-	protected UserPlane getUser() {
-		return user;
-	}
-
-	/**
-	 * Returns the root group that holds all visual elements of the level.
-	 *
-	 * @return The root group of the level.
-	 */
-	protected Group getRoot() {
-		return root;
-	}
-
-	/**
-	 * Returns the current number of active enemy units in the level.
-	 *
-	 * @return The number of active enemy units.
-	 */
-	protected int getCurrentNumberOfEnemies() {
-		return enemyUnits.size();
+	private void endSession() {
+		profiler.close();
+		if (recorder != null) {
+			InputSession.save(recorder);
+			recorder = null;
+		}
 	}
 
 	/**
-	 * Adds a new enemy unit to the level.
+	 * Returns the world that holds the rules and actors of this level.
 	 *
-	 * @param enemy The enemy unit to be added.
+	 * @return The level's world.
 	 */
-	protected void addEnemyUnit(ActiveActorDestructible enemy) {
-		enemyUnits.add(enemy);
-		root.getChildren().add(enemy);
+	protected World getWorld() {
+		return world;
 	}
 
 	/**
-	 * Returns the maximum Y position for enemy units on the screen.
+	 * Returns the user plane (the player's main unit).
 	 *
-	 * @return The maximum Y position for enemies.
+	 * @return The user's plane.
 	 */
-	protected double getEnemyMaximumYPosition() {
-		return enemyMaximumYPosition;
+	protected UserPlane getUser() {
+		return world.getUser();
 	}
 
 	/**
-	 * Returns the width of the game screen.
+	 * Returns the mode this level draws its world in.
 	 *
-	 * @return The width of the screen.
+	 * @return The render mode chosen when the level was created.
 	 */
-	protected double getScreenWidth() {
-		return screenWidth;
+	protected RenderMode getRenderMode() {
+		return renderMode;
 	}
 
 	/**
-	 * Checks if the user plane has been destroyed.
+	 * Returns the root group that holds all visual elements of the level.
 	 *
-	 * @return True if the user plane is destroyed; otherwise, false.
-	 */
-	protected boolean userIsDestroyed() {
-		return user.isDestroyed();
-	}
-
-	/**
-	 * Updates the current number of active enemy units in the level.
+	 * @return The root group of the level.
 	 */
-	private void updateNumberOfEnemies() {
-		currentNumberOfEnemies = enemyUnits.size();
+	protected Group getRoot() {
+		return root;
 	}
 
 	/**
@@ -400,45 +402,23 @@ public abstract class LevelParent {
 	 */
 	public void resumeGameFromSettings() {
 		isGamePaused = false;
-		timeline.play();
+		input.clear();
+		gameLoop.start();
 	}
 
 	/**
-	 * Restarts the game by stopping the timeline, hiding the pause menu, and reinitializing the current level.
+	 * Restarts the game by resetting this level in place and playing it again.
 	 */
 	private void restartGame() {
-		timeline.stop();
-		hidePauseMenu();
-
-		try {
-			// Get the current level class
-			Class<? extends LevelParent> currentLevelClass = getCurrentLevelClass();
-			// Create a new instance of the current level
-			LevelParent currentLevel = currentLevelClass
-					.getConstructor(double.class, double.class, Stage.class, MediaPlayer.class)
-					.newInstance(screenHeight, screenWidth, stage, mediaPlayer);
-			// Initialize and start the current level
-			Scene scene = currentLevel.initializeScene();
-			stage.setScene(scene);
-			currentLevel.startGame();
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
+		play();
 	}
 
 	/**
-	 * Returns the class of the current level.
-	 *
-	 * @return The class of the current level.
-	 */
-	protected Class<? extends LevelParent> getCurrentLevelClass() {
-		return this.getClass();
-	}
-
-	/**
-	 * Quits the game and closes the application.
+	 * Quits the game and closes the application once the progress still being saved is written.
 	 */
 	private void quitGame() {
+		endSession();
+		SaveStore.getInstance().flush(SaveStore.EXIT_TIMEOUT_MILLIS);
 		System.exit(0);
 	}
 
@@ -446,17 +426,15 @@ public abstract class LevelParent {
 	 * Displays the settings screen for adjusting game options.
 	 */
 	private void showSettings() {
-		Scene currentScene = stage.getScene(); // Get the current scene
-		SettingsScreen settingsScreen = new SettingsScreen(stage, mediaPlayer, currentScene, this); // Pass the current scene and this instance
-		settingsScreen.show();
+		SettingsScreen.of(stage, mediaPlayer).show(this); // Resume this level when returning
 	}
 
 	/**
 	 * Returns to the main menu from the current level.
 	 */
 	private void returnToMainMenu() {
-		MainMenu mainMenu = new MainMenu();
-		mainMenu.start(stage);
+		endSession();
+		MainMenu.show(stage);
 	}
 
 	/**
@@ -464,12 +442,10 @@ public abstract class LevelParent {
 	 * adjusting settings, returning to the main menu, and quitting the game.
 	 */
 	private void initializePauseMenu() {
-		// Create a semi-transparent black overlay and bind its size to the scene
-		overlay = new Rectangle();
+		// Create a semi-transparent black overlay the size of the screen
+		overlay = new Rectangle(screenWidth, screenHeight);
 		overlay.setFill(Color.rgb(0, 0, 0, 0.5));
 		overlay.setVisible(false);
-		overlay.widthProperty().bind(scene.widthProperty());
-		overlay.heightProperty().bind(scene.heightProperty());
 
 		// Create pause menu buttons
 		Button resumeButton = createStyledButton("Resume", _ -> {
@@ -524,13 +500,14 @@ public abstract class LevelParent {
 	}
 
 	/**
-	 * Creates a styled button with the specified text and action event.
+	 * Creates a styled button with the specified text and action event, in the style of the pause
+	 * menu, which the end screens of the level share.
 	 *
 	 * @param text         The text to display on the button.
 	 * @param eventHandler The action event to trigger when the button is pressed.
 	 * @return The styled button.
 	 */
-	private Button createStyledButton(String text, EventHandler<ActionEvent> eventHandler) {
+	protected Button createStyledButton(String text, EventHandler<ActionEvent> eventHandler) {
 		Button button = new Button(text);
 		button.setPrefSize(200, 50);
 		button.setStyle("-fx-font-size: 18px; -fx-background-color: pink; -fx-text-fill: black; " +
@@ -549,12 +526,13 @@ public abstract class LevelParent {
 	 */
 	public void pauseGame() {
 		if (!isGamePaused) {
-			timeline.pause();
+			gameLoop.stop();
 			isGamePaused = true;
 			showPauseMenu();
 		} else {
-			timeline.play();
+			gameLoop.start();
 			isGamePaused = false;
+			input.clear();
 			hidePauseMenu();
 		}
 	}
@@ -578,22 +556,61 @@ public abstract class LevelParent {
 	}
 
 	/**
-	 * The game loop that updates the level's state, including spawning enemies, updating actors,
-	 * handling collisions, and checking for game-over conditions.
+	 * One step of the game loop: hands the player actions (held keys or a replay) to the world,
+	 * advances the world by one tick, applies the resulting scene-graph changes in one batch,
+	 * updates the level view, plays the sounds of the tick and checks for game-over conditions.
+	 * The world times its own phases; the view work after the tick, the sounds and the step as a
+	 * whole are timed here, and the profiler overlay is refreshed a few times a second.
 	 */
 	private void updateScene() {
-		spawnEnemyUnits();
-		updateActors();
-		generateEnemyFire();
-		updateNumberOfEnemies();
-		handleKeyPress();
-		handleEnemyPenetration();
-		handleUserProjectileCollisions();
-		handleEnemyProjectileCollisions();
-		handlePlaneCollisions();
-		removeAllDestroyedActors();
-		updateKillCount();
+		long tick = world.getTickCount();
+		profiler.beginTick(tick);
+		long start = profiler.start();
+		world.setActions(nextActions());
+		world.tick();
+		long time = profiler.start();
+		worldView.applyPendingChanges();
+		time = profiler.lap(FrameStage.APPLY_VIEW_CHANGES, time);
 		updateLevelView();
+		time = profiler.lap(FrameStage.UPDATE_LEVEL_VIEW, time);
+		sounds.drain();
+		profiler.lap(FrameStage.PLAY_SOUNDS, time);
 		checkIfGameOver();
+		profiler.lap(FrameStage.TICK, start);
+		if (profilerOverlay.isVisible() && tick % OVERLAY_REFRESH_TICKS == 0) {
+			profilerOverlay.update(profiler, world);
+		}
+	}
+
+	/**
+	 * Draws the current frame, with every actor between its previous and current simulated position.
+	 *
+	 * @param alpha The fraction of a simulation step that has elapsed since the last step, in [0, 1].
+	 */
+	private void renderScene(double alpha) {
+		long start = profiler.start();
+		renderLevel(alpha);
+		worldView.render(alpha);
+		profiler.lap(FrameStage.RENDER, start);
+	}
+
+	/**
+	 * Updates level-specific elements that follow the actors, once per frame before the world is drawn.
+	 * The default implementation does nothing.
+	 *
+	 * @param alpha The fraction of a simulation step that has elapsed since the last step, in [0, 1].
+	 */
+	protected void renderLevel(double alpha) {
+	}
+
+	/**
+	 * Paints level-specific elements on top of the world in {@link RenderMode#CANVAS}, where they
+	 * cannot be nodes of their own. Called once per frame after the actors and projectiles have
+	 * been painted. The default implementation paints nothing.
+	 *
+	 * @param graphics The graphics context of the world canvas.
+	 * @param alpha    The fraction of a simulation step that has elapsed since the last step, in [0, 1].
+	 */
+	protected void drawLevel(GraphicsContext graphics, double alpha) {
 	}
-}
\ No newline at end of file
+}
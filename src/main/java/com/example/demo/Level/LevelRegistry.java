@@ -0,0 +1,233 @@
+package com.example.demo.Level;
+
+import com.example.demo.Engine.GameRandom;
+import com.example.demo.Engine.World;
+import javafx.scene.media.MediaPlayer;
+import javafx.stage.Stage;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The levels of the game by name, with the factories that create their worlds and their
+ * presentation, so a level can be created from its name without reflection.
+ *
+ * <p>The levels are read from their {@link LevelDefinition level files}, in the order of the
+ * {@value LevelDefinition#INDEX} index, when the registry is first used; every level is played
+ * by a {@link LevelWorld} and shown by a {@link GameLevel}, so adding a level takes no code.</p>
+ *
+ * <p>The presentation factories are kept apart from the entries and only loaded when a level is
+ * first shown, so the headless tools that only build worlds never load JavaFX.</p>
+ *
+ * <p>The registry also builds the next world of a level ahead of time: whenever a world is taken
+ * for a level, the following one is built on a background thread, and a level that is about to
+ * be reached can be {@link #prebuild prebuilt} the same way. Restarting a level or moving on to
+ * the next one then takes a world that is ready instead of building one between two frames.
+ * Worlds hold no JavaFX state, so building them off the JavaFX thread is safe.</p>
+ */
+public final class LevelRegistry {
+
+	/**
+	 * The height of the playfield of every level.
+	 */
+	public static final double SCREEN_HEIGHT = 750;
+
+	/**
+	 * The width of the playfield of every level.
+	 */
+	public static final double SCREEN_WIDTH = 1300;
+
+	/**
+	 * Creates the world of a level.
+	 */
+	@FunctionalInterface
+	public interface WorldFactory {
+
+		/**
+		 * Creates a world for a playfield of the given size.
+		 *
+		 * @param screenHeight The height of the playfield.
+		 * @param screenWidth  The width of the playfield.
+		 * @param random       The random numbers of the world.
+		 * @return The new world.
+		 */
+		World create(double screenHeight, double screenWidth, GameRandom random);
+	}
+
+	/**
+	 * Creates the presentation of a level, which plays the worlds of that level.
+	 */
+	@FunctionalInterface
+	public interface LevelFactory {
+
+		/**
+		 * Creates the level for the given stage.
+		 *
+		 * @param stage       The stage the level is shown on.
+		 * @param mediaPlayer The media player for the background music.
+		 * @return The new level.
+		 */
+		LevelParent create(Stage stage, MediaPlayer mediaPlayer);
+	}
+
+	/**
+	 * A level of the game.
+	 *
+	 * @param name                The name of the level, e.g. {@code LevelOne}.
+	 * @param backgroundImageName The resource path of the level's background.
+	 * @param worldFactory        Creates the world with the rules and actors of the level.
+	 * @param nextLevel           The name of the level that follows, or null if it is the last one.
+	 */
+	public record Entry(String name, String backgroundImageName, WorldFactory worldFactory, String nextLevel) {
+	}
+
+	/**
+	 * The presentation factory of the levels, in a class of its own so it is only loaded together
+	 * with JavaFX.
+	 */
+	private static final class Presentations {
+
+		/**
+		 * Returns the factory that shows a level with a {@link GameLevel}.
+		 *
+		 * @param level The name of the level.
+		 * @return The presentation factory of the level.
+		 */
+		private static LevelFactory of(String level) {
+			return (stage, mediaPlayer) -> new GameLevel(level, SCREEN_HEIGHT, SCREEN_WIDTH, stage, mediaPlayer);
+		}
+	}
+
+	private static final Map<String, Entry> LEVELS = new LinkedHashMap<>();
+	private static final Map<String, CompletableFuture<World>> PREBUILT = new ConcurrentHashMap<>();
+	private static final ExecutorService BUILDER = Executors.newSingleThreadExecutor(
+			Thread.ofPlatform().name("level-builder").daemon().factory());
+
+	static {
+		List<String> names = LevelDefinition.loadIndex();
+		for (int i = 0; i < names.size(); i++) {
+			LevelDefinition definition = LevelDefinition.load(names.get(i));
+			register(new Entry(definition.name(), definition.backgroundImageName(),
+					(screenHeight, screenWidth, random) -> new LevelWorld(definition, screenHeight, screenWidth, random),
+					i + 1 < names.size() ? names.get(i + 1) : null));
+		}
+	}
+
+	private LevelRegistry() {
+	}
+
+	/**
+	 * Adds a level to the registry.
+	 *
+	 * @param entry The level.
+	 */
+	private static void register(Entry entry) {
+		LEVELS.put(entry.name(), entry);
+	}
+
+	/**
+	 * Returns the level of the given name.
+	 *
+	 * @param level The name of the level.
+	 * @return The level.
+	 * @throws IllegalArgumentException If there is no level of that name.
+	 */
+	public static Entry get(String level) {
+		Entry entry = LEVELS.get(level);
+		if (entry == null) {
+			throw new IllegalArgumentException("Unknown level: " + level);
+		}
+		return entry;
+	}
+
+	/**
+	 * Returns the names of all levels, in the order they are played.
+	 *
+	 * @return A read-only view of the names.
+	 */
+	public static Set<String> getNames() {
+		return Collections.unmodifiableSet(LEVELS.keySet());
+	}
+
+	/**
+	 * Creates the presentation of a level for the given stage.
+	 *
+	 * @param level       The name of the level.
+	 * @param stage       The stage the level is shown on.
+	 * @param mediaPlayer The media player for the background music.
+	 * @return The new level.
+	 * @throws IllegalArgumentException If there is no level of that name.
+	 */
+	public static LevelParent createLevel(String level, Stage stage, MediaPlayer mediaPlayer) {
+		return Presentations.of(get(level).name()).create(stage, mediaPlayer);
+	}
+
+	/**
+	 * Creates the world of a level with the given random numbers, without any of its presentation.
+	 *
+	 * @param level  The name of the level.
+	 * @param random The random numbers of the world.
+	 * @return The new world.
+	 * @throws IllegalArgumentException If there is no level of that name.
+	 */
+	public static World createWorld(String level, GameRandom random) {
+		return get(level).worldFactory().create(SCREEN_HEIGHT, SCREEN_WIDTH, random);
+	}
+
+	/**
+	 * Returns a world for a new game of a level, seeded by {@link InputSession#createRandom}: the
+	 * one built ahead of time if there is one (waiting for it if it is still being built), and a
+	 * new one otherwise. The next world of the level is then built in the background.
+	 *
+	 * @param level The name of the level.
+	 * @return A fresh world of the level.
+	 * @throws IllegalArgumentException If there is no level of that name.
+	 */
+	public static World takeWorld(String level) {
+		Entry entry = get(level);
+		CompletableFuture<World> prebuilt = PREBUILT.remove(level);
+		World world = null;
+		if (prebuilt != null) {
+			try {
+				world = prebuilt.join();
+			} catch (CompletionException e) {
+				System.err.println("Could not prebuild " + level + ": " + e.getCause());
+			}
+		}
+		if (world == null) {
+			world = buildWorld(entry);
+		}
+		prebuild(level);
+		return world;
+	}
+
+	/**
+	 * Starts building a world of a level in the background, unless one is built already, so the
+	 * next {@link #takeWorld} of that level does not have to.
+	 *
+	 * @param level The name of the level.
+	 * @throws IllegalArgumentException If there is no level of that name.
+	 */
+	public static void prebuild(String level) {
+		Entry entry = get(level);
+		PREBUILT.computeIfAbsent(level, _ -> CompletableFuture.supplyAsync(() -> buildWorld(entry), BUILDER));
+	}
+
+	/**
+	 * Builds a world of a level for a new game.
+	 *
+	 * @param entry The level.
+	 * @return The new world.
+	 */
+	private static World buildWorld(Entry entry) {
+		return entry.worldFactory().create(SCREEN_HEIGHT, SCREEN_WIDTH, InputSession.createRandom(entry.name()));
+	}
+}
@@ -26,6 +26,7 @@ import javafx.scene.Group;
  * <ul>
  *     <li>{@link #showHeartDisplay()}: Displays the heart container on the screen.</li>
  *     <li>{@link #removeHearts(int)}: Removes hearts from the display based on the remaining health of the player.</li>
+ *     <li>{@link #resetHearts()}: Shows all hearts again when the level is restarted.</li>
  * </ul>
  */
 public class LevelView {
@@ -65,4 +66,11 @@ public class LevelView {
 			heartDisplay.removeHeart();
 		}
 	}
+
+	/**
+	 * Shows the initial number of hearts again, for a new game in the same level.
+	 */
+	public void resetHearts() {
+		heartDisplay.refill();
+	}
 }
@@ -0,0 +1,236 @@
+package com.example.demo.Level;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.Enemy.Boss;
+import com.example.demo.Actor.Enemy.ElitePlane;
+import com.example.demo.Actor.Enemy.EnemyPlane;
+import com.example.demo.Actor.Enemy.EnemyType;
+import com.example.demo.Engine.GameEventType;
+import com.example.demo.Engine.GameRandom;
+import com.example.demo.Engine.Pool;
+import com.example.demo.Engine.World;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * The game rules of any level, as its {@link LevelDefinition} describes them: the waves of the
+ * definition are played one after the other, and the level is won once the player has reached
+ * the kill target or, for levels without one, has cleared every wave.
+ *
+ * <p>Every enemy type of the level has a pool of its own, filled up front with as many planes as
+ * the largest wave keeps on the playfield. The boss, if the level has one, is created with the
+ * world and added once its wave starts.</p>
+ */
+public final class LevelWorld extends World {
+
+	private final LevelDefinition definition;
+	private final Map<EnemyType, Pool<? extends ActiveActorDestructible>> enemyPools;
+	private final Boss boss;
+	private int waveIndex;
+	private SpawnTable wave;
+
+	/**
+	 * Creates the world of a level for a playfield of the given size, seeded from the
+	 * {@link GameRandom#SEED_PROPERTY} system property.
+	 *
+	 * @param definition   The definition of the level.
+	 * @param screenHeight The height of the screen.
+	 * @param screenWidth  The width of the screen.
+	 */
+	public LevelWorld(LevelDefinition definition, double screenHeight, double screenWidth) {
+		this(definition, screenHeight, screenWidth, GameRandom.fromConfiguredSeed());
+	}
+
+	/**
+	 * Creates the world of a level for a playfield of the given size, with the given random numbers.
+	 *
+	 * @param definition   The definition of the level.
+	 * @param screenHeight The height of the screen.
+	 * @param screenWidth  The width of the screen.
+	 * @param random       The random numbers of the world.
+	 */
+	public LevelWorld(LevelDefinition definition, double screenHeight, double screenWidth, GameRandom random) {
+		super(screenHeight, screenWidth, definition.playerHealth(), random);
+		this.definition = definition;
+		this.enemyPools = new HashMap<>();
+		RandomGenerator fireRandom = random.get(GameRandom.Stream.ENEMY_FIRE);
+		Boss levelBoss = null;
+		for (EnemyType type : definition.enemyTypes()) {
+			int prewarm = getLargestWave(type);
+			switch (type.kind()) {
+				case PLANE -> enemyPools.put(type, createPool(type, type.name(),
+						() -> new EnemyPlane(type, screenWidth, 0, fireRandom), prewarm));
+				case ELITE -> enemyPools.put(type, createPool(type, type.name(),
+						() -> new ElitePlane(type, screenWidth, 0, fireRandom), prewarm));
+				case BOSS -> levelBoss = new Boss(type, fireRandom, random.get(GameRandom.Stream.BOSS_AI));
+			}
+		}
+		this.boss = levelBoss;
+		this.wave = new SpawnTable(definition.waves().getFirst());
+	}
+
+	/**
+	 * Returns the number of enemies the largest wave with an enemy type keeps on the playfield.
+	 *
+	 * @param type The enemy type.
+	 * @return The number of planes to create up front for the type.
+	 */
+	private int getLargestWave(EnemyType type) {
+		int largest = 0;
+		for (LevelDefinition.Wave levelWave : definition.waves()) {
+			if (levelWave.mix().contains(type)) {
+				largest = Math.max(largest, levelWave.enemies());
+			}
+		}
+		return largest;
+	}
+
+	/**
+	 * Returns the definition the world plays.
+	 *
+	 * @return The definition of the level.
+	 */
+	public LevelDefinition getDefinition() {
+		return definition;
+	}
+
+	/**
+	 * Returns the user plane, a plane of every pooled enemy type and the boss.
+	 *
+	 * @return One actor per kind.
+	 */
+	@Override
+	public List<ActiveActorDestructible> getActorKinds() {
+		List<ActiveActorDestructible> kinds = super.getActorKinds();
+		if (boss != null) {
+			kinds.add(boss);
+		}
+		return kinds;
+	}
+
+	/**
+	 * Advances the world by one simulation step and publishes a {@link GameEventType#SHIELD} event
+	 * when the boss raised its shield during the step.
+	 */
+	@Override
+	public void tick() {
+		if (boss == null) {
+			super.tick();
+			return;
+		}
+		boolean wasShielded = boss.isShielded();
+		long tick = getTickCount();
+		super.tick();
+		if (!wasShielded && boss.isShielded()) {
+			getEvents().publish(GameEventType.SHIELD, boss, tick);
+		}
+	}
+
+	/**
+	 * Keeps the playfield filled up to the enemy cap of the current wave: every enemy that is
+	 * missing is scheduled for a tick drawn from the wave's chance, and appears on that tick at a
+	 * random height, of a type drawn from the wave's mix. A tick on which no enemy is missing or due
+	 * draws no random numbers. Once a wave has sent all its enemies and they are gone, the next
+	 * wave starts.
+	 */
+	@Override
+	protected void spawnEnemyUnits() {
+		int currentNumberOfEnemies = getCurrentNumberOfEnemies();
+		if (wave.isFinished()) {
+			if (currentNumberOfEnemies > 0 || isLastWave()) {
+				return;
+			}
+			waveIndex++;
+			wave = new SpawnTable(definition.waves().get(waveIndex));
+		}
+		long tick = getTickCount();
+		int totalEnemies = wave.getEnemyCap(getTuning());
+		int missing = totalEnemies - currentNumberOfEnemies - wave.getScheduled();
+		if (missing > 0) {
+			wave.schedule(missing, tick, wave.getChance(getTuning()), getRandom());
+		}
+		while (wave.isDue(tick)) {
+			wave.release();
+			// An enemy scheduled before the tuning lowered the cap is dropped.
+			if (getCurrentNumberOfEnemies() < totalEnemies) {
+				spawnEnemy();
+				wave.spawned();
+			}
+		}
+	}
+
+	/**
+	 * Adds one enemy of the current wave: the boss at its own position, or a plane from the pool
+	 * of its type at the right edge of the playfield.
+	 */
+	private void spawnEnemy() {
+		EnemyType type = wave.getOnlyType();
+		if (type != null && type.kind() == EnemyType.Kind.BOSS) {
+			addEnemyUnit(boss);
+			return;
+		}
+		double newEnemyInitialYPosition = getRandom().nextDouble(GameRandom.Stream.SPAWN, getEnemyMaximumYPosition());
+		if (type == null) {
+			type = wave.pick(getRandom().nextDouble(GameRandom.Stream.SPAWN, 1));
+		}
+		ActiveActorDestructible newEnemy = enemyPools.get(type).acquire();
+		newEnemy.respawn(getScreenWidth(), newEnemyInitialYPosition);
+		addEnemyUnit(newEnemy);
+	}
+
+	/**
+	 * The level is lost when the player is destroyed. It is won once the player has reached the
+	 * kill target or, for levels that are won by clearing the waves, once the last wave has sent
+	 * all its enemies and none is left.
+	 *
+	 * @return the outcome of the level so far.
+	 */
+	@Override
+	protected Outcome checkIfGameOver() {
+		if (userIsDestroyed()) {
+			return Outcome.LOST;
+		} else if (definition.killsToWin() > 0 ? userHasReachedKillTarget() : wavesAreCleared()) {
+			return Outcome.WON;
+		}
+		return Outcome.PLAYING;
+	}
+
+	/**
+	 * Checks if the player has reached the number of kills needed to win the level.
+	 *
+	 * @return true if the player has reached the kill target, false otherwise.
+	 */
+	private boolean userHasReachedKillTarget() {
+		return getUser().getNumberOfKills() >= definition.killsToWin();
+	}
+
+	/**
+	 * Checks if every wave has sent all its enemies and none of them is left.
+	 *
+	 * @return true if the waves are cleared, false otherwise.
+	 */
+	private boolean wavesAreCleared() {
+		return isLastWave() && wave.isFinished() && getCurrentNumberOfEnemies() == 0;
+	}
+
+	/**
+	 * Checks if the current wave is the last one of the level.
+	 *
+	 * @return true for the last wave.
+	 */
+	private boolean isLastWave() {
+		return waveIndex == definition.waves().size() - 1;
+	}
+
+	/**
+	 * Returns the boss of the level.
+	 *
+	 * @return The boss, or null if the level has none.
+	 */
+	public Boss getBoss() {
+		return boss;
+	}
+}
@@ -0,0 +1,131 @@
+package com.example.demo.Level;
+
+import com.example.demo.Engine.FrameProfiler;
+import com.example.demo.Engine.FrameStage;
+import com.example.demo.Engine.GameEventBus;
+import com.example.demo.Engine.GameEventType;
+import com.example.demo.Engine.Pool;
+import com.example.demo.Engine.RollingHistogram;
+import com.example.demo.Engine.World;
+import com.example.demo.Actor.ActiveActorDestructible;
+import javafx.scene.control.Label;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * A text panel in the corner of a level that shows, for every {@link FrameStage}, the median,
+ * 99th percentile and maximum of its recent timings, followed by live counts of the world's
+ * actors, projectiles and pools, and by the number of events of each type since the last
+ * refresh. It is hidden until toggled and only refreshed while visible.
+ */
+public class ProfilerOverlay {
+
+	private static final double X_POSITION = 10;
+	private static final double Y_POSITION = 70;
+	private static final double NANOS_PER_MICROSECOND = 1000.0;
+	private static final String STYLE = "-fx-font-family: 'monospace'; -fx-font-size: 12px; -fx-text-fill: white; "
+			+ "-fx-background-color: rgba(0, 0, 0, 0.65); -fx-padding: 8px;";
+
+	private final Label label;
+	private final StringBuilder text = new StringBuilder();
+	private GameEventBus.Cursor events;
+	private final long[] eventCounts = new long[GameEventType.values().length];
+
+	/**
+	 * Creates the overlay, hidden. It counts no events until it is given a world's event bus.
+	 */
+	public ProfilerOverlay() {
+		label = new Label();
+		label.setLayoutX(X_POSITION);
+		label.setLayoutY(Y_POSITION);
+		label.setStyle(STYLE);
+		label.setMouseTransparent(true);
+		label.setVisible(false);
+	}
+
+	/**
+	 * Counts the events of the given bus from now on, e.g. of the fresh world of a restarted level.
+	 *
+	 * @param events The event bus of the world, whose events are counted.
+	 */
+	public void setEvents(GameEventBus events) {
+		this.events = events.subscribe();
+		Arrays.fill(eventCounts, 0);
+	}
+
+	/**
+	 * Returns the node that shows the overlay.
+	 *
+	 * @return The label holding the overlay text.
+	 */
+	public Label getNode() {
+		return label;
+	}
+
+	/**
+	 * Shows the overlay if it is hidden and hides it if it is shown.
+	 */
+	public void toggle() {
+		label.setVisible(!label.isVisible());
+		if (label.isVisible()) {
+			label.toFront();
+			events.skipToEnd();
+		}
+	}
+
+	/**
+	 * Checks whether the overlay is shown.
+	 *
+	 * @return true if the overlay is visible, false otherwise.
+	 */
+	public boolean isVisible() {
+		return label.isVisible();
+	}
+
+	/**
+	 * Rewrites the overlay text from the current timings and the current state of the world.
+	 *
+	 * @param profiler The profiler holding the timings.
+	 * @param world    The world whose actors are counted.
+	 */
+	public void update(FrameProfiler profiler, World world) {
+		text.setLength(0);
+		text.append(String.format(Locale.ROOT, "%-28s %8s %8s %8s%n", "stage (us)", "p50", "p99", "max"));
+		for (FrameStage stage : FrameStage.values()) {
+			RollingHistogram histogram = profiler.getHistogram(stage);
+			text.append(String.format(Locale.ROOT, "%-28s %8.1f %8.1f %8.1f%n", stage.getLabel(),
+					histogram.getPercentile(50) / NANOS_PER_MICROSECOND,
+					histogram.getPercentile(99) / NANOS_PER_MICROSECOND,
+					histogram.getMax() / NANOS_PER_MICROSECOND));
+		}
+		text.append(String.format(Locale.ROOT, "%nactors %d  enemies %d  user shots %d  enemy shots %d%n",
+				world.getActorCount(), world.getEnemyUnits().size(),
+				world.getUserProjectiles().size(), world.getEnemyProjectiles().size()));
+		text.append(String.format(Locale.ROOT, "culled last tick %d  total %d  tick %d",
+				world.getBoundaryManager().getCulledLastTick(), world.getBoundaryManager().getTotalCulled(),
+				world.getTickCount()));
+		for (Pool<?> pool : world.getPools()) {
+			text.append(System.lineSeparator()).append(pool);
+		}
+		events.drain(this::countEvent);
+		text.append(System.lineSeparator()).append("events");
+		for (GameEventType type : GameEventType.values()) {
+			text.append(' ').append(type.name().toLowerCase(Locale.ROOT)).append(' ').append(eventCounts[type.ordinal()]);
+		}
+		text.append("  dropped ").append(events.getDroppedCount());
+		Arrays.fill(eventCounts, 0);
+		label.setText(text.toString());
+	}
+
+	/**
+	 * Counts one event towards the next refresh.
+	 *
+	 * @param type  The kind of event.
+	 * @param actor The actor the event happened to.
+	 * @param tick  The tick the event happened in.
+	 */
+	private void countEvent(GameEventType type, ActiveActorDestructible actor, long tick) {
+		eventCounts[type.ordinal()]++;
+	}
+}
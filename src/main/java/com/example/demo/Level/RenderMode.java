@@ -0,0 +1,61 @@
+package com.example.demo.Level;
+
+import java.util.Locale;
+
+/**
+ * The ways a level can draw its world.
+ *
+ * <p>The mode used by new levels is read once from the {@code skybattle.render} system property
+ * ({@code nodes} or {@code canvas}, for example {@code -Dskybattle.render=canvas}) and can be
+ * changed with {@link #setSelected(RenderMode)}; a level keeps the mode it was created with.</p>
+ */
+public enum RenderMode {
+
+	/** Every actor is its own node in the scene graph, on top of a background node. */
+	NODES,
+	/** The background, actors and projectiles are drawn into one canvas; only the HUD and menus are nodes. */
+	CANVAS;
+
+	/**
+	 * The name of the system property that selects the initial render mode.
+	 */
+	public static final String PROPERTY = "skybattle.render";
+
+	private static RenderMode selected = fromProperty(System.getProperty(PROPERTY));
+
+	/**
+	 * Returns the render mode used by levels created from now on.
+	 *
+	 * @return The selected render mode.
+	 */
+	public static RenderMode getSelected() {
+		return selected;
+	}
+
+	/**
+	 * Sets the render mode used by levels created from now on.
+	 *
+	 * @param mode The render mode.
+	 */
+	public static void setSelected(RenderMode mode) {
+		selected = mode;
+	}
+
+	/**
+	 * Parses the value of the render mode property, falling back to {@link #NODES}.
+	 *
+	 * @param value The property value, or null if it is not set.
+	 * @return The render mode named by the value.
+	 */
+	private static RenderMode fromProperty(String value) {
+		if (value == null) {
+			return NODES;
+		}
+		try {
+			return valueOf(value.trim().toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			System.err.println("Unknown render mode '" + value + "', using " + NODES);
+			return NODES;
+		}
+	}
+}
@@ -0,0 +1,398 @@
+package com.example.demo.Level;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+
+/**
+ * The saved progress of the player: which levels are completed, the best score (kills) reached
+ * in every level, and the settings, such as the music volume. It is kept in memory while the game
+ * runs and written to the file named by the {@code skybattle.save} system property, or
+ * {@code progress.dat} in the working directory when it is not set.
+ *
+ * <p>On disk a file starts with the magic number {@code SBSV}, a format version, the length of
+ * the payload and its CRC32 checksum. The payload holds the number of levels followed by each
+ * level's name, a byte of flags and its best score, then the number of settings followed by each
+ * key and value. Strings are written as an unsigned short length and their UTF-8 bytes. A file
+ * with a different magic number, version or checksum is reported and ignored, so a damaged or
+ * outdated file only costs the progress, never the start of the game.</p>
+ *
+ * <p>Loading reads the whole file with a single read and decodes it from the buffer, which takes
+ * a few microseconds for the few hundred bytes a save holds. Saving encodes the store on the
+ * calling thread and hands the bytes to a background thread, which writes them to a temporary
+ * file next to the save and then moves it over the save in one atomic step, so the game never
+ * waits for the disk and a crash in the middle of a write leaves the previous save intact. Saves
+ * that are requested while one is being written are combined: only the latest is written.</p>
+ */
+public final class SaveStore {
+
+	/**
+	 * The system property naming the save file.
+	 */
+	public static final String PROPERTY = "skybattle.save";
+
+	/**
+	 * The key of the music volume setting.
+	 */
+	public static final String VOLUME = "volume";
+
+	/**
+	 * The longest time, in milliseconds, the game waits for pending saves when it exits.
+	 */
+	public static final long EXIT_TIMEOUT_MILLIS = 2000;
+
+	private static final String DEFAULT_FILE = "progress.dat";
+	private static final int MAGIC = 0x53425356;
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 13;
+	private static final int MAX_PAYLOAD_SIZE = 1 << 20;
+	private static final int MAX_STRING_LENGTH = 0xFFFF;
+	private static final int COMPLETED_FLAG = 1;
+
+	private static SaveStore instance;
+
+	private final Path path;
+	private final Map<String, LevelRecord> levels = new LinkedHashMap<>();
+	private final Map<String, String> settings = new LinkedHashMap<>();
+	private final AtomicReference<byte[]> pendingWrite = new AtomicReference<>();
+	private final ExecutorService writer = Executors.newSingleThreadExecutor(
+			Thread.ofPlatform().name("save-writer").daemon().factory());
+
+	/**
+	 * The saved progress of one level.
+	 */
+	private static final class LevelRecord {
+		private boolean completed;
+		private int bestScore;
+	}
+
+	/**
+	 * Creates an empty store that saves to the given file.
+	 *
+	 * @param path The save file.
+	 */
+	private SaveStore(Path path) {
+		this.path = path;
+	}
+
+	/**
+	 * Returns the store of the game, loading it from the save file the first time.
+	 *
+	 * @return The store.
+	 */
+	public static synchronized SaveStore getInstance() {
+		if (instance == null) {
+			instance = load(Path.of(System.getProperty(PROPERTY, DEFAULT_FILE)));
+		}
+		return instance;
+	}
+
+	/**
+	 * Loads the store from a file. A file that is missing yields an empty store; a file that
+	 * cannot be read or is not a valid save is reported and yields an empty store as well.
+	 *
+	 * @param path The save file.
+	 * @return The loaded store, which saves back to the same file.
+	 */
+	public static SaveStore load(Path path) {
+		SaveStore store = new SaveStore(path);
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < HEADER_SIZE || size > HEADER_SIZE + MAX_PAYLOAD_SIZE) {
+				throw new IOException("Not a save file: " + path);
+			}
+			ByteBuffer buffer = ByteBuffer.allocate((int) size);
+			while (buffer.hasRemaining()) {
+				if (channel.read(buffer) < 0) {
+					throw new IOException("Save file ended early: " + path);
+				}
+			}
+			store.decode(buffer.flip(), path);
+		} catch (NoSuchFileException e) {
+			// No progress yet.
+		} catch (IOException | BufferUnderflowException e) {
+			System.err.println("Could not load the save file, starting without progress: " + e);
+			store.levels.clear();
+			store.settings.clear();
+		}
+		return store;
+	}
+
+	/**
+	 * Returns whether a level has been completed.
+	 *
+	 * @param level The name of the level.
+	 * @return true if the level has been won at least once.
+	 */
+	public synchronized boolean isCompleted(String level) {
+		LevelRecord record = levels.get(level);
+		return record != null && record.completed;
+	}
+
+	/**
+	 * Returns the best score reached in a level.
+	 *
+	 * @param level The name of the level.
+	 * @return The best score, or 0 if the level has not been played.
+	 */
+	public synchronized int getBestScore(String level) {
+		LevelRecord record = levels.get(level);
+		return record == null ? 0 : record.bestScore;
+	}
+
+	/**
+	 * Records the end of a game of a level, marking the level completed if it was won and
+	 * keeping the score if it is the best so far, and saves the store if anything changed.
+	 *
+	 * @param level The name of the level.
+	 * @param won   Whether the level was won.
+	 * @param score The score of the game.
+	 */
+	public void recordGame(String level, boolean won, int score) {
+		boolean changed;
+		synchronized (this) {
+			LevelRecord record = levels.computeIfAbsent(level, _ -> new LevelRecord());
+			changed = (won && !record.completed) || score > record.bestScore;
+			record.completed |= won;
+			record.bestScore = Math.max(record.bestScore, score);
+		}
+		if (changed) {
+			save();
+		}
+	}
+
+	/**
+	 * Returns a setting.
+	 *
+	 * @param key          The key of the setting.
+	 * @param defaultValue The value to return if the setting is not saved.
+	 * @return The saved value, or the default value.
+	 */
+	public synchronized String getSetting(String key, String defaultValue) {
+		return settings.getOrDefault(key, defaultValue);
+	}
+
+	/**
+	 * Returns a numeric setting.
+	 *
+	 * @param key          The key of the setting.
+	 * @param defaultValue The value to return if the setting is not saved or not a number.
+	 * @return The saved value, or the default value.
+	 */
+	public double getSetting(String key, double defaultValue) {
+		String value = getSetting(key, null);
+		if (value == null) {
+			return defaultValue;
+		}
+		try {
+			return Double.parseDouble(value);
+		} catch (NumberFormatException e) {
+			System.err.println("Invalid saved setting " + key + ": " + value);
+			return defaultValue;
+		}
+	}
+
+	/**
+	 * Changes a setting and saves the store if the value is new.
+	 *
+	 * @param key   The key of the setting.
+	 * @param value The new value.
+	 */
+	public void putSetting(String key, String value) {
+		boolean changed;
+		synchronized (this) {
+			changed = !value.equals(settings.put(key, value));
+		}
+		if (changed) {
+			save();
+		}
+	}
+
+	/**
+	 * Changes a numeric setting and saves the store if the value is new.
+	 *
+	 * @param key   The key of the setting.
+	 * @param value The new value.
+	 */
+	public void putSetting(String key, double value) {
+		putSetting(key, Double.toString(value));
+	}
+
+	/**
+	 * Saves the store in the background. The store is encoded right away, so later changes are
+	 * not part of this save; if an earlier save is still waiting to be written, it is replaced.
+	 */
+	public void save() {
+		if (pendingWrite.getAndSet(encode()) == null) {
+			writer.execute(this::writePending);
+		}
+	}
+
+	/**
+	 * Waits for the saves that are still being written, e.g. before the game exits.
+	 *
+	 * @param timeoutMillis The longest time to wait, in milliseconds.
+	 */
+	public void flush(long timeoutMillis) {
+		try {
+			writer.submit(() -> { }).get(timeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (Exception e) {
+			System.err.println("Could not finish writing the save file: " + e);
+		}
+	}
+
+	/**
+	 * Writes the latest pending save to a temporary file and moves it over the save file.
+	 */
+	private void writePending() {
+		byte[] bytes = pendingWrite.getAndSet(null);
+		if (bytes == null) {
+			return;
+		}
+		Path temp = null;
+		try {
+			Path directory = path.toAbsolutePath().getParent();
+			Files.createDirectories(directory);
+			temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+			Files.write(temp, bytes, StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+			try {
+				Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+			}
+		} catch (IOException e) {
+			System.err.println("Could not write the save file " + path + ": " + e);
+			if (temp != null) {
+				try {
+					Files.deleteIfExists(temp);
+				} catch (IOException ignored) {
+					// Nothing more can be done about a temporary file that cannot be deleted.
+				}
+			}
+		}
+	}
+
+	/**
+	 * Encodes the store in the save file format.
+	 *
+	 * @return The bytes of the save file.
+	 */
+	synchronized byte[] encode() {
+		int size = HEADER_SIZE + 2 * Short.BYTES;
+		for (String level : levels.keySet()) {
+			size += stringSize(level) + 1 + Integer.BYTES;
+		}
+		for (Map.Entry<String, String> setting : settings.entrySet()) {
+			size += stringSize(setting.getKey()) + stringSize(setting.getValue());
+		}
+		ByteBuffer buffer = ByteBuffer.allocate(size);
+		buffer.position(HEADER_SIZE);
+		buffer.putShort((short) levels.size());
+		for (Map.Entry<String, LevelRecord> level : levels.entrySet()) {
+			putString(buffer, level.getKey());
+			buffer.put((byte) (level.getValue().completed ? COMPLETED_FLAG : 0));
+			buffer.putInt(level.getValue().bestScore);
+		}
+		buffer.putShort((short) settings.size());
+		for (Map.Entry<String, String> setting : settings.entrySet()) {
+			putString(buffer, setting.getKey());
+			putString(buffer, setting.getValue());
+		}
+		CRC32 crc = new CRC32();
+		crc.update(buffer.array(), HEADER_SIZE, size - HEADER_SIZE);
+		buffer.putInt(0, MAGIC);
+		buffer.put(Integer.BYTES, (byte) VERSION);
+		buffer.putInt(Integer.BYTES + 1, size - HEADER_SIZE);
+		buffer.putInt(2 * Integer.BYTES + 1, (int) crc.getValue());
+		return buffer.array();
+	}
+
+	/**
+	 * Decodes a save file into the store.
+	 *
+	 * @param buffer The bytes of the save file.
+	 * @param source The file the bytes were read from, for error messages.
+	 * @throws IOException If the bytes are not a valid save.
+	 */
+	private void decode(ByteBuffer buffer, Path source) throws IOException {
+		if (buffer.getInt() != MAGIC) {
+			throw new IOException("Not a save file: " + source);
+		}
+		int version = Byte.toUnsignedInt(buffer.get());
+		if (version != VERSION) {
+			throw new IOException("Unsupported save file version " + version + ": " + source);
+		}
+		int payloadSize = buffer.getInt();
+		int checksum = buffer.getInt();
+		if (payloadSize != buffer.remaining()) {
+			throw new IOException("Save file has the wrong length: " + source);
+		}
+		CRC32 crc = new CRC32();
+		crc.update(buffer.slice());
+		if ((int) crc.getValue() != checksum) {
+			throw new IOException("Save file is damaged: " + source);
+		}
+		int levelCount = Short.toUnsignedInt(buffer.getShort());
+		for (int i = 0; i < levelCount; i++) {
+			LevelRecord record = new LevelRecord();
+			String level = getString(buffer);
+			record.completed = (buffer.get() & COMPLETED_FLAG) != 0;
+			record.bestScore = buffer.getInt();
+			levels.put(level, record);
+		}
+		int settingCount = Short.toUnsignedInt(buffer.getShort());
+		for (int i = 0; i < settingCount; i++) {
+			settings.put(getString(buffer), getString(buffer));
+		}
+	}
+
+	/**
+	 * Returns the number of bytes a string takes in a save file.
+	 *
+	 * @param value The string.
+	 * @return Its length prefix and UTF-8 bytes.
+	 */
+	private static int stringSize(String value) {
+		return Short.BYTES + Math.min(value.getBytes(StandardCharsets.UTF_8).length, MAX_STRING_LENGTH);
+	}
+
+	/**
+	 * Writes a string as its length and UTF-8 bytes, cut to the longest length a save can hold.
+	 *
+	 * @param buffer The buffer to write to.
+	 * @param value  The string.
+	 */
+	private static void putString(ByteBuffer buffer, String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		int length = Math.min(bytes.length, MAX_STRING_LENGTH);
+		buffer.putShort((short) length);
+		buffer.put(bytes, 0, length);
+	}
+
+	/**
+	 * Reads a string written by {@link #putString}.
+	 *
+	 * @param buffer The buffer to read from.
+	 * @return The string.
+	 */
+	private static String getString(ByteBuffer buffer) {
+		byte[] bytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
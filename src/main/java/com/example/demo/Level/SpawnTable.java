@@ -0,0 +1,236 @@
+package com.example.demo.Level;
+
+import com.example.demo.Actor.Enemy.EnemyType;
+import com.example.demo.Engine.GameRandom;
+import com.example.demo.Engine.WorldTuning;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link LevelDefinition.Wave wave} compiled for spawning: the enemy types of its mix in an
+ * array, with the cumulative share of each type, so drawing the type of a new enemy is a walk
+ * over a few doubles rather than a pass over the weights of the definition.
+ *
+ * <p>The table also schedules the enemies of the wave. Rather than rolling the wave's chance for
+ * every missing enemy on every tick, the table draws, once per missing enemy, the tick the enemy
+ * appears on: the number of ticks until a roll with that chance first succeeds follows a
+ * geometric distribution, which is sampled directly from one random number. The ticks are kept
+ * in a priority queue, a binary min-heap of primitive ticks, so a tick on which no enemy is due
+ * costs one comparison and no random numbers, and an enemy still appears after the same average
+ * wait as with a roll per tick.</p>
+ *
+ * <p>A {@link LevelWorld} compiles the table of a wave when the wave starts and drops it when the
+ * wave ends, so only the wave being played is kept in this form.</p>
+ */
+final class SpawnTable {
+
+	private final int enemies;
+	private final double chance;
+	private final int count;
+	private final EnemyType[] types;
+	private final double[] thresholds;
+	private long[] dueTicks;
+	private int scheduled;
+	private int spawned;
+	private double scheduledChance = Double.NaN;
+	private double logOfMiss;
+
+	/**
+	 * Compiles the table of a wave.
+	 *
+	 * @param wave The wave.
+	 */
+	SpawnTable(LevelDefinition.Wave wave) {
+		this.enemies = wave.enemies();
+		this.chance = wave.chance();
+		this.count = wave.count();
+		List<EnemyType> mix = wave.mix();
+		List<Double> weights = wave.weights();
+		double total = 0;
+		for (double weight : weights) {
+			total += weight;
+		}
+		this.types = mix.toArray(new EnemyType[0]);
+		this.thresholds = new double[types.length];
+		double cumulative = 0;
+		for (int i = 0; i < types.length; i++) {
+			cumulative += weights.get(i);
+			thresholds[i] = cumulative / total;
+		}
+		thresholds[types.length - 1] = 1;
+		this.dueTicks = new long[enemies];
+	}
+
+	/**
+	 * Returns the number of enemies the wave keeps on the playfield, scaled by the world's tuning.
+	 *
+	 * @param tuning The tuning of the world.
+	 * @return The enemy cap.
+	 */
+	int getEnemyCap(WorldTuning tuning) {
+		return tuning.scaleEnemyCap(enemies);
+	}
+
+	/**
+	 * Returns the chance per tick that a missing enemy appears, scaled by the world's tuning.
+	 *
+	 * @param tuning The tuning of the world.
+	 * @return The spawn probability.
+	 */
+	double getChance(WorldTuning tuning) {
+		return tuning.scaleSpawnProbability(chance);
+	}
+
+	/**
+	 * Checks whether missing enemies always appear, so no roll is needed.
+	 *
+	 * @return true if the chance of the wave is 1.
+	 */
+	boolean isCertain() {
+		return chance >= 1;
+	}
+
+	/**
+	 * Returns the only enemy type of the wave, so no type has to be drawn.
+	 *
+	 * @return The enemy type, or null if the wave mixes several types.
+	 */
+	EnemyType getOnlyType() {
+		return types.length == 1 ? types[0] : null;
+	}
+
+	/**
+	 * Picks the enemy type for a number drawn uniformly from [0, 1): each type is picked for its
+	 * share of the weights, in the order of the mix.
+	 *
+	 * @param roll The drawn number.
+	 * @return The enemy type.
+	 */
+	EnemyType pick(double roll) {
+		int i = 0;
+		while (roll >= thresholds[i] && i < types.length - 1) {
+			i++;
+		}
+		return types[i];
+	}
+
+	/**
+	 * Schedules the enemies that are missing from the playfield, as far as the wave's count
+	 * allows: each one appears on the tick of the first success of a roll with the given chance,
+	 * starting with the current tick.
+	 *
+	 * @param missing     The number of enemies that are neither on the playfield nor scheduled.
+	 * @param tick        The current tick.
+	 * @param probability The chance per tick that a missing enemy appears.
+	 * @param random      The random numbers of the world.
+	 */
+	void schedule(int missing, long tick, double probability, GameRandom random) {
+		if (count > 0) {
+			missing = Math.min(missing, count - spawned - scheduled);
+		}
+		for (int i = 0; i < missing; i++) {
+			push(tick + sampleDelay(probability, random));
+		}
+	}
+
+	/**
+	 * Draws the number of ticks before a missing enemy appears: the number of failed rolls before
+	 * the first success, if the chance were rolled once per tick. A certain wave draws nothing.
+	 *
+	 * @param probability The chance per tick that a missing enemy appears.
+	 * @param random      The random numbers of the world.
+	 * @return The delay in ticks; 0 if the enemy appears on the current tick.
+	 */
+	private long sampleDelay(double probability, GameRandom random) {
+		if (isCertain() || probability >= 1) {
+			return 0;
+		}
+		if (probability != scheduledChance) {
+			scheduledChance = probability;
+			logOfMiss = Math.log1p(-probability);
+		}
+		double roll = random.nextDouble(GameRandom.Stream.SPAWN, 1);
+		return (long) Math.min(Long.MAX_VALUE / 2, Math.floor(Math.log1p(-roll) / logOfMiss));
+	}
+
+	/**
+	 * Returns the number of enemies that are scheduled but have not appeared yet.
+	 *
+	 * @return The number of scheduled enemies.
+	 */
+	int getScheduled() {
+		return scheduled;
+	}
+
+	/**
+	 * Checks whether the earliest scheduled enemy is due.
+	 *
+	 * @param tick The current tick.
+	 * @return true if an enemy is scheduled for this tick or earlier.
+	 */
+	boolean isDue(long tick) {
+		return scheduled > 0 && dueTicks[0] <= tick;
+	}
+
+	/**
+	 * Takes the earliest scheduled enemy off the schedule.
+	 */
+	void release() {
+		scheduled--;
+		long last = dueTicks[scheduled];
+		int i = 0;
+		while (true) {
+			int child = 2 * i + 1;
+			if (child >= scheduled) {
+				break;
+			}
+			if (child + 1 < scheduled && dueTicks[child + 1] < dueTicks[child]) {
+				child++;
+			}
+			if (last <= dueTicks[child]) {
+				break;
+			}
+			dueTicks[i] = dueTicks[child];
+			i = child;
+		}
+		dueTicks[i] = last;
+	}
+
+	/**
+	 * Adds a due tick to the schedule.
+	 *
+	 * @param tick The tick the enemy appears on.
+	 */
+	private void push(long tick) {
+		if (scheduled == dueTicks.length) {
+			dueTicks = Arrays.copyOf(dueTicks, Math.max(1, scheduled * 2));
+		}
+		int i = scheduled++;
+		while (i > 0) {
+			int parent = (i - 1) / 2;
+			if (dueTicks[parent] <= tick) {
+				break;
+			}
+			dueTicks[i] = dueTicks[parent];
+			i = parent;
+		}
+		dueTicks[i] = tick;
+	}
+
+	/**
+	 * Counts an enemy the wave has sent.
+	 */
+	void spawned() {
+		spawned++;
+	}
+
+	/**
+	 * Checks whether the wave has sent all its enemies.
+	 *
+	 * @return true if the wave has a count and has reached it, false otherwise.
+	 */
+	boolean isFinished() {
+		return count > 0 && spawned >= count;
+	}
+}
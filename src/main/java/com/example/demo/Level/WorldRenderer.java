@@ -0,0 +1,40 @@
+package com.example.demo.Level;
+
+import com.example.demo.Engine.World;
+import javafx.scene.Node;
+
+/**
+ * Draws the actors and projectiles of a {@link World} for a level.
+ *
+ * @see RenderMode
+ */
+public interface WorldRenderer {
+
+	/**
+	 * Returns the node the world is drawn into, to be placed in the level's scene.
+	 *
+	 * @return The world layer.
+	 */
+	Node getLayer();
+
+	/**
+	 * Switches to drawing another world, e.g. the fresh world of a restarted level. The layer and
+	 * the images the renderer has prepared are kept for the new world.
+	 *
+	 * @param world The world to draw from now on.
+	 */
+	void setWorld(World world);
+
+	/**
+	 * Applies the changes to the scene graph that the world caused during the last tick.
+	 * Renderers that do not keep a node per actor have nothing to do here.
+	 */
+	void applyPendingChanges();
+
+	/**
+	 * Draws the current frame, with every actor between its previous and current simulated position.
+	 *
+	 * @param alpha The fraction of a simulation step that has elapsed since the last step, in [0, 1].
+	 */
+	void render(double alpha);
+}
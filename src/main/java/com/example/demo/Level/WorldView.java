@@ -0,0 +1,164 @@
+package com.example.demo.Level;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Engine.Pool;
+import com.example.demo.Engine.World;
+import com.example.demo.Engine.WorldListener;
+import com.example.demo.Image.ActorImage;
+import com.example.demo.Image.ProjectileCanvas;
+import javafx.scene.Group;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Mirrors the actors of a {@link World} into the scene graph.
+ *
+ * <p>The view keeps one {@link ActorImage} per actor in its own layer: an image is added when
+ * the world reports a new actor and removed when the world reports a removed one. These changes
+ * are collected while the world ticks and applied to the layer in one bulk change by
+ * {@link #applyPendingChanges()}, so a tick fires at most two change events on the scene graph
+ * however many actors come and go. The world itself never touches the scene graph; on every
+ * frame the view copies the actors' positions to their images. Images of removed actors are kept
+ * in a {@link Pool} per sprite and attached to the next actor with that sprite, so no image is
+ * loaded twice. Projectiles have no nodes of their own; they are drawn on a
+ * {@link ProjectileCanvas} above the actors.</p>
+ *
+ * @see RenderMode#NODES
+ */
+public final class WorldView implements WorldListener, WorldRenderer {
+
+	private World world;
+	private final Group layer;
+	private final Group actorLayer;
+	private final ProjectileCanvas projectileCanvas;
+	private final Map<ActiveActorDestructible, ActorImage> images;
+	private final Map<String, Pool<ActorImage>> imagePools;
+	private final List<ActorImage> pendingAdditions;
+	private final Set<ActorImage> pendingRemovals;
+
+	/**
+	 * Creates a view of the given world and starts listening to it.
+	 *
+	 * @param world The world to mirror.
+	 */
+	public WorldView(World world) {
+		this.world = world;
+		this.actorLayer = new Group();
+		this.projectileCanvas = new ProjectileCanvas(world.getScreenWidth(), world.getScreenHeight());
+		this.layer = new Group(actorLayer, projectileCanvas);
+		this.images = new IdentityHashMap<>();
+		this.imagePools = new HashMap<>();
+		this.pendingAdditions = new ArrayList<>();
+		this.pendingRemovals = Collections.newSetFromMap(new IdentityHashMap<>());
+		world.setListener(this);
+		applyPendingChanges();
+	}
+
+	/**
+	 * Stops listening to the current world and mirrors the given one instead. The images of the
+	 * old world's actors go back to their pools, and the new world's actors take them over, so an
+	 * image that stays in use is neither removed from the layer nor added again.
+	 *
+	 * @param world The world to mirror from now on.
+	 */
+	@Override
+	public void setWorld(World world) {
+		this.world.setListener(null);
+		for (ActiveActorDestructible actor : List.copyOf(images.keySet())) {
+			actorRemoved(actor);
+		}
+		this.world = world;
+		world.setListener(this);
+		applyPendingChanges();
+	}
+
+	/**
+	 * Attaches an image to an actor that entered the world and schedules it to be added to the layer.
+	 * An image that is still waiting to be removed from the layer simply stays.
+	 *
+	 * @param actor The actor that was added.
+	 */
+	@Override
+	public void actorAdded(ActiveActorDestructible actor) {
+		ActorImage image = imagePool(actor).acquire();
+		image.attach(actor);
+		images.put(actor, image);
+		if (!pendingRemovals.remove(image)) {
+			pendingAdditions.add(image);
+		}
+	}
+
+	/**
+	 * Schedules the image of an actor that left the world to be removed from the layer and
+	 * returns it to its pool. An image that was never added to the layer is simply not added.
+	 *
+	 * @param actor The actor that was removed.
+	 */
+	@Override
+	public void actorRemoved(ActiveActorDestructible actor) {
+		ActorImage image = images.remove(actor);
+		if (image != null) {
+			if (!pendingAdditions.remove(image)) {
+				pendingRemovals.add(image);
+			}
+			imagePool(actor).release(image);
+		}
+	}
+
+	/**
+	 * Applies the image additions and removals collected since the last call to the layer,
+	 * with one bulk removal and one bulk addition.
+	 */
+	@Override
+	public void applyPendingChanges() {
+		if (!pendingRemovals.isEmpty()) {
+			actorLayer.getChildren().removeAll(pendingRemovals);
+			pendingRemovals.clear();
+		}
+		if (!pendingAdditions.isEmpty()) {
+			actorLayer.getChildren().addAll(pendingAdditions);
+			pendingAdditions.clear();
+		}
+	}
+
+	/**
+	 * Returns the pool of images for an actor's sprite, creating it on first use.
+	 *
+	 * @param actor The actor whose sprite is looked up.
+	 * @return The image pool for the sprite.
+	 */
+	private Pool<ActorImage> imagePool(ActiveActorDestructible actor) {
+		double imageHeight = actor.getHeight();
+		return imagePools.computeIfAbsent(actor.getImageName(), name -> new Pool<>(name, () -> new ActorImage(name, imageHeight)));
+	}
+
+	/**
+	 * Moves every image to its actor's position and redraws the projectiles, interpolated between
+	 * the last two simulation steps.
+	 *
+	 * @param alpha The fraction of a simulation step that has elapsed since the last step, in [0, 1].
+	 */
+	@Override
+	public void render(double alpha) {
+		for (ActorImage image : images.values()) {
+			image.sync(alpha);
+		}
+		projectileCanvas.render(alpha, world.getUserProjectiles(), world.getEnemyProjectiles());
+	}
+
+	/**
+	 * Returns the layer that holds the actor images and the projectile canvas, to be placed in the level's scene.
+	 *
+	 * @return The world layer.
+	 */
+	@Override
+	public Group getLayer() {
+		return layer;
+	}
+}
@@ -1,10 +1,12 @@
 package com.example.demo.Screen;
 
-import com.example.demo.Level.GameState;
+import com.example.demo.Level.LevelRegistry;
+import com.example.demo.Level.SaveStore;
 import com.example.demo.controller.Controller;
+import com.example.demo.Image.ImageRegistry;
 import javafx.event.ActionEvent;
 import javafx.event.EventHandler;
-import javafx.scene.Scene;
+import javafx.scene.Parent;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
@@ -17,18 +19,19 @@ import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.media.MediaPlayer;
 
-import java.util.Objects;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * The LevelSelection class provides the user interface for the level selection screen of the game.
- * It displays buttons for selecting different levels (Level 1, Level 2, and Level 3) and
- * navigates the user to the appropriate level based on their progress in the game.
+ * It displays one button for every level of the {@link LevelRegistry}, in the order the levels are
+ * played, and navigates the user to the appropriate level based on their progress in the game.
  *
  * The screen includes:
  * <ul>
  *     <li>A title label that instructs the user to select a level.</li>
- *     <li>Buttons for selecting Level 1, Level 2, and Level 3, with Level 2 and Level 3 buttons disabled
- *         if the previous level has not been completed.</li>
+ *     <li>Buttons for selecting Level 1, Level 2 and so on, with every level after the first disabled
+ *         if the level before it has not been completed.</li>
  *     <li>A "Back to Main Menu" button for returning to the main menu.</li>
  *     <li>A background image for the level selection screen.</li>
  * </ul>
@@ -40,10 +43,10 @@ import java.util.Objects;
  *
  * Methods:
  * <ul>
+ *     <li>{@link #of(Stage, MediaPlayer)}: Returns the level selection screen kept for a stage.</li>
  *     <li>{@link #show()}: Displays the level selection screen with the title, buttons, and background image.</li>
- *     <li>{@link #startLevelOne()}: Launches Level 1 when the Level 1 button is pressed.</li>
- *     <li>{@link #startLevelTwo()}: Launches Level 2 when the Level 2 button is pressed.</li>
- *     <li>{@link #startLevelThree()}: Launches Level 3 when the Level 3 button is pressed.</li>
+ *     <li>{@link #createRoot()}: Creates the node tree of the level selection screen, once per stage.</li>
+ *     <li>{@link #startLevel(String)}: Launches a level when its button is pressed.</li>
  *     <li>{@link #showMainMenu()}: Navigates the user back to the main menu.</li>
  *     <li>{@link #createBackground()}: Creates and returns the background image for the level selection screen.</li>
  *     <li>{@link #styleButton(Button)}: Styles the buttons with a consistent look.</li>
@@ -58,7 +61,11 @@ public class LevelSelection {
     private static final String BACKGROUND_IMAGE_PATH = "/com/example/demo/images/mainmenu.png";
 
     private final Stage stage;
+    private final SceneManager sceneManager;
     private final Controller controller;
+    private final List<String> levelNames = List.copyOf(LevelRegistry.getNames());
+    private final List<Button> levelButtons = new ArrayList<>();
+    private Parent root;
 
     /**
      * Constructs a LevelSelection instance with the given stage and media player.
@@ -68,13 +75,43 @@ public class LevelSelection {
      */
     public LevelSelection(Stage stage, MediaPlayer mediaPlayer) {
         this.stage = stage;
+        this.sceneManager = SceneManager.of(stage);
         this.controller = new Controller(stage, mediaPlayer);
     }
 
+    /**
+     * Returns the level selection screen that is kept for the given stage, creating it the first time.
+     *
+     * @param stage the stage on which the level selection screen will be displayed.
+     * @param mediaPlayer the media player for handling background music and sound effects.
+     * @return the level selection screen of the stage.
+     */
+    public static LevelSelection of(Stage stage, MediaPlayer mediaPlayer) {
+        return SceneManager.of(stage).getScreen(LevelSelection.class, () -> new LevelSelection(stage, mediaPlayer));
+    }
+
     /**
      * Displays the level selection screen with title, level buttons, and a background image.
+     * The screen is built the first time; afterwards only the locked levels are updated.
      */
     public void show() {
+        if (root == null) {
+            root = createRoot();
+        }
+        SaveStore saveStore = SaveStore.getInstance();
+        for (int i = 1; i < levelButtons.size(); i++) {
+            // Disable a level until the level before it is completed
+            levelButtons.get(i).setDisable(!saveStore.isCompleted(levelNames.get(i - 1)));
+        }
+        sceneManager.show("Sky Battle - Level Selection", root);
+    }
+
+    /**
+     * Creates the node tree of the level selection screen: the background, the title and the buttons.
+     *
+     * @return the root of the level selection screen.
+     */
+    private Parent createRoot() {
         ImageView background = createBackground();
 
         Label titleLabel = createLabel();
@@ -83,48 +120,36 @@ public class LevelSelection {
         Region spacer1 = new Region();
         spacer1.setMinHeight(20); // Add space between the title and the level 1 button
 
-        Button levelOneButton = createButton("Level 1", _ -> startLevelOne());
-        Button levelTwoButton = createButton("Level 2", _ -> startLevelTwo());
-        levelTwoButton.setDisable(!GameState.getInstance().isLevelOneCompleted()); // Disable if level 1 not completed
-        Button levelThreeButton = createButton("Level 3", _ -> startLevelThree());
-        levelThreeButton.setDisable(!GameState.getInstance().isLevelTwoCompleted()); // Disable if level 2 not completed
+        VBox levelSelectionBox = new VBox(20, titleLabel, spacer1);
+        for (int i = 0; i < levelNames.size(); i++) {
+            String levelName = levelNames.get(i);
+            Button levelButton = createButton("Level " + (i + 1), _ -> startLevel(levelName));
+            levelButtons.add(levelButton);
+            levelSelectionBox.getChildren().add(levelButton);
+        }
 
         Region spacer2 = new Region();
         spacer2.setMinHeight(20);
 
         Button backButton = createButton("Back to Main Menu", _ -> showMainMenu());
 
-        VBox levelSelectionBox = new VBox(20, titleLabel, spacer1, levelOneButton, levelTwoButton, levelThreeButton, spacer2, backButton);
+        levelSelectionBox.getChildren().addAll(spacer2, backButton);
         levelSelectionBox.setStyle("-fx-alignment: center; -fx-padding: 20;");
 
-        StackPane root = new StackPane(background, levelSelectionBox);
-        Scene scene = new Scene(root, SCREEN_WIDTH, SCREEN_HEIGHT);
-
-        stage.setTitle("Sky Battle - Level Selection");
-        stage.setScene(scene);
-        stage.show();
-    }
-
-    private void startLevelOne() {
-        controller.launchLevelOne();
-    }
-
-    private void startLevelTwo() {
-        controller.launchLevelTwo();
+        return new StackPane(background, levelSelectionBox);
     }
 
-    private void startLevelThree() {
-        controller.launchLevelThree();
+    private void startLevel(String levelName) {
+        controller.launchLevel(levelName);
     }
 
     private void showMainMenu() {
-        MainMenu mainMenu = new MainMenu();
-        mainMenu.start(stage);
+        MainMenu.show(stage);
     }
 
     private ImageView createBackground() {
         try {
-            Image backgroundImage = new Image(Objects.requireNonNull(getClass().getResource(BACKGROUND_IMAGE_PATH)).toExternalForm());
+            Image backgroundImage = ImageRegistry.getImage(BACKGROUND_IMAGE_PATH, SCREEN_WIDTH, SCREEN_HEIGHT);
             ImageView background = new ImageView(backgroundImage);
             background.setFitWidth(SCREEN_WIDTH);
             background.setFitHeight(SCREEN_HEIGHT);
@@ -0,0 +1,138 @@
+package com.example.demo.Screen;
+
+import com.example.demo.Image.AssetPreloader;
+import com.example.demo.Image.ImageAsset;
+import com.example.demo.Image.ImageRegistry;
+import javafx.application.Platform;
+import javafx.scene.Parent;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.stage.Stage;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * The LoadingScreen class shows a progress bar while the images of a level are decoded on
+ * background threads by the {@link AssetPreloader}, then hands over to the level.
+ *
+ * If every image is decoded already (for example because it was prefetched while the previous
+ * level was played), the screen is skipped and the level starts straight away. The screen is
+ * built the first time it is shown and kept by the stage's {@link SceneManager}.
+ */
+public class LoadingScreen {
+
+    private static final int SCREEN_WIDTH = 1300;
+    private static final int SCREEN_HEIGHT = 750;
+    private static final int PROGRESS_BAR_WIDTH = 400;
+    private static final String BACKGROUND_IMAGE_PATH = "/com/example/demo/images/mainmenu.png";
+
+    private final SceneManager sceneManager;
+    private Parent root;
+    private ProgressBar progressBar;
+
+    /**
+     * Constructs a LoadingScreen for the given stage.
+     *
+     * @param stage the stage on which the loading screen is displayed.
+     */
+    public LoadingScreen(Stage stage) {
+        this.sceneManager = SceneManager.of(stage);
+    }
+
+    /**
+     * Returns the loading screen that is kept for the given stage, creating it the first time.
+     *
+     * @param stage the stage on which the loading screen is displayed.
+     * @return the loading screen of the stage.
+     */
+    public static LoadingScreen of(Stage stage) {
+        return SceneManager.of(stage).getScreen(LoadingScreen.class, () -> new LoadingScreen(stage));
+    }
+
+    /**
+     * Works out the images on a background thread, then decodes them and runs the given action on
+     * the JavaFX thread once they are ready. If the images cannot be listed or decoded the error is
+     * reported and the action still runs, so the level decodes (or fails on) an image when it
+     * first draws it.
+     *
+     * @param assets lists the images to decode; called on a background thread.
+     * @param onLoaded the action that starts the level.
+     */
+    public void show(Supplier<List<ImageAsset>> assets, Runnable onLoaded) {
+        AssetPreloader.list(assets).whenComplete((images, error) -> Platform.runLater(() -> {
+            if (error != null) {
+                System.err.println("Could not list the images to preload: " + error.getMessage());
+                onLoaded.run();
+            } else {
+                show(images, onLoaded);
+            }
+        }));
+    }
+
+    /**
+     * Decodes the given images and runs the given action on the JavaFX thread once they are ready.
+     *
+     * @param assets the images to decode.
+     * @param onLoaded the action that starts the level.
+     */
+    private void show(List<ImageAsset> assets, Runnable onLoaded) {
+        if (AssetPreloader.isLoaded(assets)) {
+            onLoaded.run();
+            return;
+        }
+
+        if (root == null) {
+            root = createRoot();
+        }
+        progressBar.setProgress(0);
+        sceneManager.show(root);
+
+        AssetPreloader.preload(assets, progress -> Platform.runLater(() -> progressBar.setProgress(progress)))
+                .whenComplete((_, error) -> Platform.runLater(() -> {
+                    if (error != null) {
+                        System.err.println("Could not preload images: " + error.getMessage());
+                    }
+                    onLoaded.run();
+                }));
+    }
+
+    /**
+     * Creates the node tree of the loading screen: the background, the label and the progress bar.
+     *
+     * @return the root of the loading screen.
+     */
+    private Parent createRoot() {
+        progressBar = new ProgressBar(0);
+        progressBar.setPrefWidth(PROGRESS_BAR_WIDTH);
+        Label loadingLabel = new Label("Loading...");
+        loadingLabel.setFont(Font.font("Arial", FontWeight.BOLD, 36));
+        loadingLabel.setStyle("-fx-text-fill: black;");
+
+        VBox layout = new VBox(20, loadingLabel, progressBar);
+        layout.setStyle("-fx-alignment: center; -fx-padding: 20;");
+        return new StackPane(createBackground(), layout);
+    }
+
+    /**
+     * Creates and returns an ImageView for the background image.
+     *
+     * @return the ImageView with the background image.
+     */
+    private ImageView createBackground() {
+        try {
+            ImageView background = new ImageView(ImageRegistry.getImage(BACKGROUND_IMAGE_PATH, SCREEN_WIDTH, SCREEN_HEIGHT));
+            background.setFitWidth(SCREEN_WIDTH);
+            background.setFitHeight(SCREEN_HEIGHT);
+            return background;
+        } catch (NullPointerException e) {
+            System.err.println("Background image not found at: " + BACKGROUND_IMAGE_PATH);
+            return new ImageView();
+        }
+    }
+}
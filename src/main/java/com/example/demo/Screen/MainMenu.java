@@ -1,7 +1,9 @@
 package com.example.demo.Screen;
 
+import com.example.demo.Image.ImageRegistry;
+import com.example.demo.Level.SaveStore;
 import javafx.application.Application;
-import javafx.scene.Scene;
+import javafx.scene.Parent;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
@@ -36,9 +38,12 @@ import java.util.Objects;
  *
  * Methods:
  * <ul>
+ *     <li>{@link #show(Stage)}: Shows the main menu that is kept for the stage, creating it the first time.</li>
  *     <li>{@link #start(Stage)}: Initializes the stage and starts playing background music.</li>
+ *     <li>{@link #stop()}: Waits for pending saves before the application exits.</li>
  *     <li>{@link #playBackgroundMusic()}: Plays background music (if not already playing) on a loop.</li>
  *     <li>{@link #showMainMenu()}: Displays the main menu with buttons for starting the game, settings, and exiting.</li>
+ *     <li>{@link #createRoot()}: Creates the node tree of the main menu, once per stage.</li>
  *     <li>{@link #showLevelSelection()}: Navigates to the level selection screen when the "Start Game" button is pressed.</li>
  *     <li>{@link #showSettings()}: Navigates to the settings screen when the "Settings" button is pressed.</li>
  *     <li>{@link #createBackground()}: Creates and returns an ImageView for the background image.</li>
@@ -54,6 +59,17 @@ public class MainMenu extends Application {
 
     private static MediaPlayer mediaPlayer;
     private Stage stage;
+    private SceneManager sceneManager;
+    private Parent root;
+
+    /**
+     * Shows the main menu of the given stage, kept by its {@link SceneManager}.
+     *
+     * @param stage the stage to show the main menu on.
+     */
+    public static void show(Stage stage) {
+        SceneManager.of(stage).getScreen(MainMenu.class, MainMenu::new).start(stage);
+    }
 
     /**
      * Starts the main menu screen by initializing the stage and playing background music.
@@ -63,19 +79,30 @@ public class MainMenu extends Application {
     @Override
     public void start(Stage primaryStage) {
         this.stage = primaryStage;
+        this.sceneManager = SceneManager.of(primaryStage);
         playBackgroundMusic();
         showMainMenu();
     }
 
+    /**
+     * Waits for the progress that is still being saved before the application exits, when the
+     * game was launched from the main menu.
+     */
+    @Override
+    public void stop() {
+        SaveStore.getInstance().flush(SaveStore.EXIT_TIMEOUT_MILLIS);
+    }
+
     /**
      * Plays the background music. If the music is not already playing, it will start from the beginning.
-     * The music is set to loop indefinitely.
+     * The music is set to loop indefinitely, at the volume saved in the {@link SaveStore}.
      */
     private void playBackgroundMusic() {
         if (mediaPlayer == null) {
             Media media = new Media(Objects.requireNonNull(getClass().getResource(AUDIO_PATH)).toExternalForm());
             mediaPlayer = new MediaPlayer(media);
             mediaPlayer.setCycleCount(MediaPlayer.INDEFINITE);
+            mediaPlayer.setVolume(SaveStore.getInstance().getSetting(SaveStore.VOLUME, mediaPlayer.getVolume()));
             mediaPlayer.play();
         } else if (mediaPlayer.getStatus() != MediaPlayer.Status.PLAYING) {
             mediaPlayer.play();
@@ -84,8 +111,21 @@ public class MainMenu extends Application {
 
     /**
      * Displays the main menu screen with the title, buttons for starting the game, accessing settings, and exiting.
+     * The screen is built the first time and reused afterwards.
      */
     private void showMainMenu() {
+        if (root == null) {
+            root = createRoot();
+        }
+        sceneManager.show("Sky Battle - Main Menu", root);
+    }
+
+    /**
+     * Creates the node tree of the main menu: the background, the title and the buttons.
+     *
+     * @return the root of the main menu.
+     */
+    private Parent createRoot() {
         ImageView background = createBackground();
 
         Label titleLabel = new Label("Sky Battle. ♪");
@@ -110,29 +150,21 @@ public class MainMenu extends Application {
         VBox menuBox = new VBox(20, titleLabel, spacer, startButton, settingsButton, exitButton);
         menuBox.setStyle("-fx-alignment: center; -fx-padding: 20;");
 
-        StackPane root = new StackPane(background, menuBox);
-        Scene scene = new Scene(root, SCREEN_WIDTH, SCREEN_HEIGHT);
-
-        stage.setTitle("Sky Battle - Main Menu");
-        stage.setScene(scene);
-        stage.show();
+        return new StackPane(background, menuBox);
     }
 
     /**
      * Navigates to the level selection screen when the "Start Game" button is pressed.
      */
     private void showLevelSelection() {
-        LevelSelection levelSelection = new LevelSelection(stage, mediaPlayer);
-        levelSelection.show();
+        LevelSelection.of(stage, mediaPlayer).show();
     }
 
     /**
      * Navigates to the settings screen when the "Settings" button is pressed.
      */
     private void showSettings() {
-        Scene currentScene = stage.getScene(); // Get the current scene
-        SettingsScreen settingsScreen = new SettingsScreen(stage, mediaPlayer, currentScene, null); // Pass the current scene and null for LevelParent
-        settingsScreen.show();
+        SettingsScreen.of(stage, mediaPlayer).show(null); // No level to resume
     }
 
     /**
@@ -142,7 +174,7 @@ public class MainMenu extends Application {
      */
     private ImageView createBackground() {
         try {
-            Image backgroundImage = new Image(Objects.requireNonNull(getClass().getResource(BACKGROUND_IMAGE_PATH)).toExternalForm());
+            Image backgroundImage = ImageRegistry.getImage(BACKGROUND_IMAGE_PATH, SCREEN_WIDTH, SCREEN_HEIGHT);
             ImageView background = new ImageView(backgroundImage);
             background.setFitWidth(SCREEN_WIDTH);
             background.setFitHeight(SCREEN_HEIGHT);
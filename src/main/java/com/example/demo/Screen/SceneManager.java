@@ -0,0 +1,114 @@
+package com.example.demo.Screen;
+
+import javafx.scene.Group;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * The SceneManager class keeps the one {@link Scene} of a stage and the screens that are shown in it.
+ *
+ * Every screen (the menus, the loading screen and the levels) is created the first time it is
+ * needed and then kept, together with its node tree, for as long as the stage lives. Switching
+ * screens only swaps the root of the scene, so moving between menus, restarting a level or
+ * returning to a level already played builds no new nodes and decodes no images.
+ */
+public final class SceneManager {
+
+    private static final int SCREEN_WIDTH = 1300;
+    private static final int SCREEN_HEIGHT = 750;
+
+    private final Stage stage;
+    private final Scene scene;
+    private final Map<Object, Object> screens = new HashMap<>();
+
+    /**
+     * Constructs the SceneManager of a stage, with an empty scene.
+     *
+     * @param stage the stage whose scene is managed.
+     */
+    private SceneManager(Stage stage) {
+        this.stage = stage;
+        this.scene = new Scene(new Group(), SCREEN_WIDTH, SCREEN_HEIGHT);
+    }
+
+    /**
+     * Returns the SceneManager of a stage, creating it the first time.
+     *
+     * @param stage the stage.
+     * @return the SceneManager that belongs to the stage.
+     */
+    public static SceneManager of(Stage stage) {
+        return (SceneManager) stage.getProperties().computeIfAbsent(SceneManager.class, _ -> new SceneManager(stage));
+    }
+
+    /**
+     * Returns the screen of the given type, creating it with the given factory the first time.
+     *
+     * @param type the class of the screen, which identifies it.
+     * @param factory creates the screen if there is none yet.
+     * @param <T> the type of the screen.
+     * @return the kept screen of that type.
+     */
+    public <T> T getScreen(Class<T> type, Supplier<? extends T> factory) {
+        return getScreen(type, type, factory);
+    }
+
+    /**
+     * Returns the screen kept under the given key, creating it with the given factory the first time.
+     * This is for screens of which there are several of one type, such as the levels.
+     *
+     * @param key identifies the screen.
+     * @param type the type of the screen.
+     * @param factory creates the screen if there is none yet.
+     * @param <T> the type of the screen.
+     * @return the kept screen with that key.
+     */
+    public <T> T getScreen(Object key, Class<T> type, Supplier<? extends T> factory) {
+        Object screen = screens.get(key);
+        if (screen == null) {
+            screen = factory.get();
+            screens.put(key, screen);
+        }
+        return type.cast(screen);
+    }
+
+    /**
+     * Shows the given root in the scene and sets the title of the stage.
+     *
+     * @param title the title of the stage.
+     * @param root the root of the screen to show.
+     */
+    public void show(String title, Parent root) {
+        stage.setTitle(title);
+        show(root);
+    }
+
+    /**
+     * Shows the given root in the scene, keeping the title of the stage.
+     *
+     * @param root the root of the screen to show.
+     */
+    public void show(Parent root) {
+        if (scene.getRoot() != root) {
+            scene.setRoot(root);
+        }
+        if (stage.getScene() != scene) {
+            stage.setScene(scene);
+        }
+        stage.show();
+    }
+
+    /**
+     * Returns the root that is currently shown, so a screen shown on top can return to it.
+     *
+     * @return the current root of the scene.
+     */
+    public Parent getCurrentRoot() {
+        return scene.getRoot();
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.demo.Screen;
 
-import javafx.scene.Scene;
+import javafx.scene.Parent;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.Slider;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.HBox;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Region;
@@ -13,9 +16,14 @@ import javafx.stage.Stage;
 import javafx.scene.text.Font;
 import javafx.scene.text.FontWeight;
 import javafx.scene.media.MediaPlayer;
+import com.example.demo.Engine.PlayerAction;
+import com.example.demo.Level.InputBindings;
 import com.example.demo.Level.LevelParent;
+import com.example.demo.Level.SaveStore;
+import com.example.demo.Image.ImageRegistry;
 
-import java.util.Objects;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * The SettingsScreen class represents the settings screen of the game. It provides an interface
@@ -24,19 +32,24 @@ import java.util.Objects;
  * The settings screen includes:
  * <ul>
  *     <li>A volume slider to adjust the game music volume.</li>
- *     <li>Labels displaying the current key bindings for game actions such as moving and firing.</li>
- *     <li>A "Back" button to return to the previous scene.</li>
+ *     <li>The current key bindings for game actions such as moving and firing. Clicking the key of
+ *     an action and pressing another key binds the action to that key; ESC cancels.</li>
+ *     <li>A "Back" button to return to the previous screen.</li>
  * </ul>
  *
  * Constructor:
  * <ul>
- *     <li>{@link #SettingsScreen(Stage, MediaPlayer, Scene, LevelParent)}: Initializes the settings screen with the necessary
- *     references to the stage, media player, previous scene, and level parent.</li>
+ *     <li>{@link #SettingsScreen(Stage, MediaPlayer)}: Initializes the settings screen with the stage and the media player.</li>
  * </ul>
  *
  * Methods:
  * <ul>
- *     <li>{@link #show()}: Displays the settings screen with volume control, key bindings, and the back button.</li>
+ *     <li>{@link #of(Stage, MediaPlayer)}: Returns the settings screen kept for a stage.</li>
+ *     <li>{@link #show(LevelParent)}: Displays the settings screen with volume control, key bindings, and the back button.</li>
+ *     <li>{@link #createRoot()}: Creates the node tree of the settings screen, once per stage.</li>
+ *     <li>{@link #goBack()}: Saves the volume and returns to the screen the settings were opened from.</li>
+ *     <li>{@link #createKeyBinding(PlayerAction)}: Creates the row that shows and changes the key of an action.</li>
+ *     <li>{@link #rebindPressedKey(KeyEvent)}: Binds the action that waits for a key to the key that was pressed.</li>
  *     <li>{@link #createBackground()}: Creates and returns an ImageView for the background image.</li>
  *     <li>{@link #styleButton(Button)}: Styles the buttons with a consistent look and hover effect.</li>
  * </ul>
@@ -48,30 +61,79 @@ public class SettingsScreen {
     private static final String BACKGROUND_IMAGE_PATH = "/com/example/demo/images/mainmenu.png";
 
     private final Stage stage;
+    private final SceneManager sceneManager;
     private final MediaPlayer mediaPlayer;
-    private final Scene previousScene;
-    private final LevelParent levelParent;
+    private Parent root;
+    private Slider volumeSlider;
+    private Parent previousRoot;
+    private String previousTitle;
+    private LevelParent levelParent;
+    private final InputBindings bindings = InputBindings.getInstance();
+    private final Map<PlayerAction, Button> keyButtons = new EnumMap<>(PlayerAction.class);
+    private PlayerAction actionToRebind;
 
     /**
-     * Constructs a SettingsScreen object with the necessary references to stage, media player,
-     * previous scene, and level parent.
+     * Constructs a SettingsScreen object with the references to the stage and the media player.
      *
      * @param stage the primary stage for the settings screen.
      * @param mediaPlayer the MediaPlayer used for controlling the background music volume.
-     * @param previousScene the previous scene that will be restored when the user presses "Back."
-     * @param levelParent the LevelParent object used for resuming the game from settings.
      */
-    public SettingsScreen(Stage stage, MediaPlayer mediaPlayer, Scene previousScene, LevelParent levelParent) {
+    public SettingsScreen(Stage stage, MediaPlayer mediaPlayer) {
         this.stage = stage;
+        this.sceneManager = SceneManager.of(stage);
         this.mediaPlayer = mediaPlayer;
-        this.previousScene = previousScene;
+    }
+
+    /**
+     * Returns the settings screen that is kept for the given stage, creating it the first time.
+     *
+     * @param stage the primary stage for the settings screen.
+     * @param mediaPlayer the MediaPlayer used for controlling the background music volume.
+     * @return the settings screen of the stage.
+     */
+    public static SettingsScreen of(Stage stage, MediaPlayer mediaPlayer) {
+        return SceneManager.of(stage).getScreen(SettingsScreen.class, () -> new SettingsScreen(stage, mediaPlayer));
+    }
+
+    /**
+     * Displays the settings screen with volume control, key bindings, and a back button, on top of
+     * the screen that is currently shown. The screen is built the first time and reused afterwards.
+     *
+     * @param levelParent the level to resume when the user presses "Back", or null if the settings
+     *                    were not opened from a level.
+     */
+    public void show(LevelParent levelParent) {
+        this.previousRoot = sceneManager.getCurrentRoot();
+        this.previousTitle = stage.getTitle();
         this.levelParent = levelParent;
+        if (root == null) {
+            root = createRoot();
+        }
+        volumeSlider.setValue(mediaPlayer.getVolume());
+        actionToRebind = null;
+        updateKeyButtons();
+        sceneManager.show("Sky Battle - Settings", root);
     }
 
     /**
-     * Displays the settings screen with volume control, key bindings, and a back button.
+     * Saves the volume and returns to the screen the settings were opened from, resuming its
+     * level if there is one.
      */
-    public void show() {
+    private void goBack() {
+        SaveStore.getInstance().putSetting(SaveStore.VOLUME, mediaPlayer.getVolume());
+        sceneManager.show(previousTitle, previousRoot);
+        if (levelParent != null) {
+            levelParent.resumeGameFromSettings();
+        }
+    }
+
+    /**
+     * Creates the node tree of the settings screen: the background, the volume slider, the key
+     * bindings and the back button.
+     *
+     * @return the root of the settings screen.
+     */
+    private Parent createRoot() {
         ImageView background = createBackground();
 
         Label titleLabel = new Label("Settings ♪");
@@ -85,7 +147,7 @@ public class SettingsScreen {
         volumeLabel.setFont(Font.font("Arial", 24));
         volumeLabel.setStyle("-fx-text-fill: black;");
 
-        Slider volumeSlider = new Slider(0, 1, mediaPlayer.getVolume());
+        volumeSlider = new Slider(0, 1, mediaPlayer.getVolume());
         volumeSlider.setMaxWidth(200);
         volumeSlider.valueProperty().addListener((_, _, newValue) -> mediaPlayer.setVolume(newValue.doubleValue()));
 
@@ -93,46 +155,97 @@ public class SettingsScreen {
         keyBindingsLabel.setFont(Font.font("Arial", 24));
         keyBindingsLabel.setStyle("-fx-text-fill: black;");
 
-        Label moveUpLabel = new Label("Move Up: W");
-        moveUpLabel.setFont(Font.font("Arial", 18));
-        moveUpLabel.setStyle("-fx-text-fill: black;");
-
-        Label moveLeftLabel = new Label("Move Left: A");
-        moveLeftLabel.setFont(Font.font("Arial", 18));
-        moveLeftLabel.setStyle("-fx-text-fill: black;");
-
-        Label moveDownLabel = new Label("Move Down: S");
-        moveDownLabel.setFont(Font.font("Arial", 18));
-        moveDownLabel.setStyle("-fx-text-fill: black;");
-
-        Label moveRightLabel = new Label("Move Right: D");
-        moveRightLabel.setFont(Font.font("Arial", 18));
-        moveRightLabel.setStyle("-fx-text-fill: black;");
-
-        Label fireLabel = new Label("Fire: SPACE");
-        fireLabel.setFont(Font.font("Arial", 18));
-        fireLabel.setStyle("-fx-text-fill: black;");
+        VBox keyBindingsBox = new VBox(10);
+        keyBindingsBox.setStyle("-fx-alignment: center;");
+        for (PlayerAction action : PlayerAction.values()) {
+            keyBindingsBox.getChildren().add(createKeyBinding(action));
+        }
 
-        Label pauseLabel = new Label("Pause: ESC");
+        Label pauseLabel = new Label("Pause: " + InputBindings.PAUSE_KEY.getName());
         pauseLabel.setFont(Font.font("Arial", 18));
         pauseLabel.setStyle("-fx-text-fill: black;");
 
         Button backButton = new Button("Back ♪");
         styleButton(backButton);
-        backButton.setOnAction(_ -> {
-            stage.setScene(previousScene);
-            levelParent.resumeGameFromSettings();
-        });
+        backButton.setOnAction(_ -> goBack());
 
-        VBox settingsBox = new VBox(20, titleLabel, spacer, volumeLabel, volumeSlider, keyBindingsLabel, moveUpLabel, moveLeftLabel, moveDownLabel, moveRightLabel, pauseLabel, backButton);
+        VBox settingsBox = new VBox(20, titleLabel, spacer, volumeLabel, volumeSlider, keyBindingsLabel, keyBindingsBox, pauseLabel, backButton);
         settingsBox.setStyle("-fx-alignment: center; -fx-padding: 20;");
 
-        StackPane root = new StackPane(background, settingsBox);
-        Scene scene = new Scene(root, SCREEN_WIDTH, SCREEN_HEIGHT);
+        StackPane settingsRoot = new StackPane(background, settingsBox);
+        settingsRoot.addEventFilter(KeyEvent.KEY_PRESSED, this::rebindPressedKey);
+        return settingsRoot;
+    }
+
+    /**
+     * Creates the row of an action: its name and a button showing its key. Clicking the button
+     * makes the action wait for a new key.
+     *
+     * @param action the action.
+     * @return the row of the action.
+     */
+    private HBox createKeyBinding(PlayerAction action) {
+        Label actionLabel = new Label(getActionName(action) + ":");
+        actionLabel.setFont(Font.font("Arial", 18));
+        actionLabel.setStyle("-fx-text-fill: black;");
+        actionLabel.setPrefWidth(120);
 
-        stage.setTitle("Sky Battle - Settings");
-        stage.setScene(scene);
-        stage.show();
+        Button keyButton = new Button();
+        keyButton.setPrefSize(160, 30);
+        keyButton.setStyle("-fx-font-size: 16px; -fx-background-color: black; -fx-text-fill: white; -fx-background-radius: 5px;");
+        keyButton.setOnAction(_ -> {
+            actionToRebind = action;
+            updateKeyButtons();
+        });
+        keyButtons.put(action, keyButton);
+
+        HBox row = new HBox(10, actionLabel, keyButton);
+        row.setStyle("-fx-alignment: center;");
+        return row;
+    }
+
+    /**
+     * Binds the action that waits for a key to the key that was pressed, and consumes the key
+     * press. ESC, or any other key the level reserves for itself, cancels the change instead.
+     *
+     * @param event the key press.
+     */
+    private void rebindPressedKey(KeyEvent event) {
+        if (actionToRebind == null) {
+            return;
+        }
+        event.consume();
+        KeyCode key = event.getCode();
+        if (!InputBindings.isReserved(key)) {
+            bindings.rebind(actionToRebind, key);
+        }
+        actionToRebind = null;
+        updateKeyButtons();
+    }
+
+    /**
+     * Shows the current key of every action on its button, or a prompt on the button of the
+     * action that waits for a new key.
+     */
+    private void updateKeyButtons() {
+        keyButtons.forEach((action, button) ->
+                button.setText(action == actionToRebind ? "Press a key..." : bindings.getKey(action).getName()));
+    }
+
+    /**
+     * Returns the name of an action as it is shown on the settings screen.
+     *
+     * @param action the action.
+     * @return the name of the action.
+     */
+    private static String getActionName(PlayerAction action) {
+        return switch (action) {
+            case MOVE_UP -> "Move Up";
+            case MOVE_DOWN -> "Move Down";
+            case MOVE_LEFT -> "Move Left";
+            case MOVE_RIGHT -> "Move Right";
+            case FIRE -> "Fire";
+        };
     }
 
     /**
@@ -142,7 +255,7 @@ public class SettingsScreen {
      */
     private ImageView createBackground() {
         try {
-            Image backgroundImage = new Image(Objects.requireNonNull(getClass().getResource(BACKGROUND_IMAGE_PATH)).toExternalForm());
+            Image backgroundImage = ImageRegistry.getImage(BACKGROUND_IMAGE_PATH, SCREEN_WIDTH, SCREEN_HEIGHT);
             ImageView background = new ImageView(backgroundImage);
             background.setFitWidth(SCREEN_WIDTH);
             background.setFitHeight(SCREEN_HEIGHT);
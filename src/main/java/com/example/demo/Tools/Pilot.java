@@ -0,0 +1,56 @@
+package com.example.demo.Tools;
+
+import com.example.demo.Engine.PlayerAction;
+
+import java.util.SplittableRandom;
+import java.util.function.LongToIntFunction;
+
+/**
+ * Stand-ins for the player in headless runs: each pilot turns a tick number into the
+ * {@link PlayerAction} mask held during that tick.
+ */
+enum Pilot {
+
+	/** Holds no keys, so the player only gets in the way of enemies. */
+	IDLE {
+		@Override
+		LongToIntFunction create(long seed) {
+			return _ -> 0;
+		}
+	},
+
+	/** Holds fire and sweeps up and down the screen, like a player clearing waves. */
+	SCRIPTED {
+		@Override
+		LongToIntFunction create(long seed) {
+			return tick -> (tick / TICKS_PER_SWEEP) % 2 == 0 ? FIRE | PlayerAction.MOVE_UP.mask() : FIRE | PlayerAction.MOVE_DOWN.mask();
+		}
+	},
+
+	/** Presses random keys for random stretches of time, always firing, from its own seed. */
+	RANDOM {
+		@Override
+		LongToIntFunction create(long seed) {
+			SplittableRandom random = new SplittableRandom(seed);
+			int[] actions = {FIRE};
+			return _ -> {
+				if (random.nextInt(AVERAGE_TICKS_PER_CHANGE) == 0) {
+					actions[0] = random.nextInt(1 << PlayerAction.values().length) | FIRE;
+				}
+				return actions[0];
+			};
+		}
+	};
+
+	private static final int FIRE = PlayerAction.FIRE.mask();
+	private static final int TICKS_PER_SWEEP = 40;
+	private static final int AVERAGE_TICKS_PER_CHANGE = 15;
+
+	/**
+	 * Creates the input of one run.
+	 *
+	 * @param seed The seed for pilots that make random choices.
+	 * @return A function from the tick number to the action mask held during that tick.
+	 */
+	abstract LongToIntFunction create(long seed);
+}
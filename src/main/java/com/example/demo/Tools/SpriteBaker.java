@@ -0,0 +1,196 @@
+package com.example.demo.Tools;
+
+import com.example.demo.Image.BakedImages;
+import com.example.demo.Image.ImageAsset;
+import com.example.demo.Level.LevelAssets;
+import com.example.demo.Level.LevelRegistry;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Writes a copy of every image the game draws, resized to the size it is drawn at, and the
+ * manifest {@link BakedImages} reads to find the copies.
+ *
+ * <p>The build runs this after compiling, with the class output folder as its only argument, so
+ * the copies end up next to the original images in the packaged game:</p>
+ * <pre>
+ * java -cp target/classes com.example.demo.Tools.SpriteBaker target/classes
+ * </pre>
+ *
+ * <p>The sizes come from {@link LevelAssets}, the same list the game preloads, so a sprite that
+ * is drawn at a new height gets a new copy on the next build. Images are shrunk in steps of at
+ * most half their size with bicubic filtering, which keeps thin outlines that a single large step
+ * would lose. Images that would not get smaller are left out, and the original is used for them.</p>
+ */
+public final class SpriteBaker {
+
+	private static final List<ImageAsset> SCREEN_ASSETS = List.of(
+			ImageAsset.ofSize("/com/example/demo/images/mainmenu.png", 1300, 750));
+
+	private SpriteBaker() {
+	}
+
+	/**
+	 * Bakes the images into the given class output folder. Errors are thrown rather than ending the
+	 * JVM, because the build runs the baker inside the Maven process: an exception fails the build
+	 * with a report, where {@code System.exit} would end Maven itself.
+	 *
+	 * @param args The class output folder, e.g. {@code target/classes}.
+	 * @throws IllegalArgumentException If the folder is not given.
+	 * @throws IOException              If an image cannot be read or a copy cannot be written.
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			throw new IllegalArgumentException("Usage: SpriteBaker <class output folder>");
+		}
+		System.setProperty("java.awt.headless", "true");
+		// Reading the ASSET constants loads WinImage, GameOverImage and ShieldImage, which extend
+		// ImageView and start the JavaFX renderer; the software pipeline needs no display libraries.
+		if (System.getProperty("prism.order") == null) {
+			System.setProperty("prism.order", "sw");
+		}
+		Path folder = Path.of(args[0], BakedImages.BAKED_FOLDER.substring(1));
+
+		Set<ImageAsset> assets = new LinkedHashSet<>(SCREEN_ASSETS);
+		for (String level : LevelRegistry.getNames()) {
+			assets.addAll(LevelAssets.forLevel(level));
+		}
+		try {
+			Files.createDirectories(folder);
+			Map<String, String> manifest = new TreeMap<>();
+			long originalBytes = 0;
+			long bakedBytes = 0;
+			for (ImageAsset asset : assets) {
+				String bakedName = bake(asset, folder);
+				if (bakedName != null) {
+					manifest.put(BakedImages.keyOf(asset), bakedName);
+					originalBytes += resourceSize(asset.path());
+					bakedBytes += Files.size(folder.resolve(bakedName));
+				}
+			}
+			writeManifest(folder.resolve("manifest.properties"), manifest);
+			System.out.printf("Baked %d of %d images: %d KiB -> %d KiB%n",
+					manifest.size(), assets.size(), originalBytes / 1024, bakedBytes / 1024);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Writes the resized copy of one image, if it would be smaller than the original.
+	 *
+	 * @param asset  The image and the size it is drawn at.
+	 * @param folder The folder the copy is written to.
+	 * @return The file name of the copy, or null if none was written.
+	 * @throws IOException If the image cannot be read or the copy cannot be written.
+	 */
+	private static String bake(ImageAsset asset, Path folder) throws IOException {
+		BufferedImage source = read(asset.path());
+		int width;
+		int height;
+		if (asset.width() > 0 && asset.height() > 0) {
+			width = (int) Math.round(asset.width());
+			height = (int) Math.round(asset.height());
+		} else if (asset.height() > 0) {
+			height = (int) Math.round(asset.height());
+			width = (int) Math.max(1, Math.round((double) source.getWidth() * height / source.getHeight()));
+		} else if (asset.width() > 0) {
+			width = (int) Math.round(asset.width());
+			height = (int) Math.max(1, Math.round((double) source.getHeight() * width / source.getWidth()));
+		} else {
+			return null;
+		}
+		if (width >= source.getWidth() && height >= source.getHeight()) {
+			return null;
+		}
+
+		String fileName = asset.path().substring(asset.path().lastIndexOf('/') + 1);
+		String bakedName = fileName.substring(0, fileName.lastIndexOf('.')) + "-" + width + "x" + height + ".png";
+		ImageIO.write(resize(source, width, height), "png", folder.resolve(bakedName).toFile());
+		return bakedName;
+	}
+
+	/**
+	 * Shrinks an image to the given size in steps of at most half its size.
+	 *
+	 * @param source The image.
+	 * @param width  The target width, not larger than the width of the image.
+	 * @param height The target height.
+	 * @return The resized image.
+	 */
+	private static BufferedImage resize(BufferedImage source, int width, int height) {
+		BufferedImage current = source;
+		int currentWidth = source.getWidth();
+		int currentHeight = source.getHeight();
+		do {
+			currentWidth = Math.max(width, Math.min(currentWidth, (currentWidth + 1) / 2));
+			currentHeight = Math.max(height, Math.min(currentHeight, (currentHeight + 1) / 2));
+			BufferedImage next = new BufferedImage(currentWidth, currentHeight, BufferedImage.TYPE_INT_ARGB);
+			Graphics2D graphics = next.createGraphics();
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+			graphics.dispose();
+			current = next;
+		} while (currentWidth != width || currentHeight != height);
+		return current;
+	}
+
+	/**
+	 * Reads an image resource.
+	 *
+	 * @param path The resource path of the image.
+	 * @return The decoded image.
+	 * @throws IOException If the image does not exist or cannot be decoded.
+	 */
+	private static BufferedImage read(String path) throws IOException {
+		try (InputStream stream = SpriteBaker.class.getResourceAsStream(path)) {
+			BufferedImage image = stream == null ? null : ImageIO.read(stream);
+			if (image == null) {
+				throw new IOException("Image not found or not readable: " + path);
+			}
+			return image;
+		}
+	}
+
+	/**
+	 * Returns the size of a resource in bytes.
+	 *
+	 * @param path The resource path.
+	 * @return The number of bytes.
+	 * @throws IOException If the resource cannot be read.
+	 */
+	private static long resourceSize(String path) throws IOException {
+		try (InputStream stream = SpriteBaker.class.getResourceAsStream(path)) {
+			return stream == null ? 0 : stream.transferTo(OutputStream.nullOutputStream());
+		}
+	}
+
+	/**
+	 * Writes the manifest sorted by key, so two builds of the same images write the same file.
+	 *
+	 * @param file     The manifest file.
+	 * @param manifest The file name of the copy of each asset, by manifest key.
+	 * @throws IOException If the file cannot be written.
+	 */
+	private static void writeManifest(Path file, Map<String, String> manifest) throws IOException {
+		StringBuilder text = new StringBuilder("# Written by SpriteBaker: resized copies of the images, by asset\n");
+		manifest.forEach((key, bakedName) -> text.append(key).append('=').append(bakedName).append('\n'));
+		Files.writeString(file, text, StandardCharsets.ISO_8859_1);
+	}
+}
@@ -0,0 +1,276 @@
+package com.example.demo.Tools;
+
+import com.example.demo.Engine.GameRandom;
+import com.example.demo.Engine.ParallelStage;
+import com.example.demo.Engine.World;
+import com.example.demo.Engine.WorldTuning;
+import com.example.demo.Level.LevelRegistry;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongToIntFunction;
+
+/**
+ * Runs levels without a window, as fast as they can tick, with their difficulty scaled up, to
+ * find out where the game slows down.
+ *
+ * <p>Every option that takes a multiplier accepts a comma-separated list, and one run is made for
+ * every combination, so a single command gives a scaling curve:</p>
+ * <pre>
+ * java -cp target/classes com.example.demo.Tools.StressRunner --level LevelTwo --enemies 1,2,4,8,16 --fire 1,4
+ * </pre>
+ *
+ * <p>Options: {@code --level} (LevelOne, LevelTwo, LevelThree), {@code --enemies} (enemy cap
+ * multiplier), {@code --spawn} (spawn probability multiplier), {@code --fire} (fire rate
+ * multiplier), {@code --ticks} (measured ticks per run), {@code --warmup} (ticks run before
+ * measuring), {@code --seed} and {@code --pilot} (idle, scripted, random). A level that is won or
+ * lost is started again with the same settings, so the load stays up for the whole run.</p>
+ *
+ * <p>For each run one CSV row is printed with the stage the world ran on ({@code parallel} or
+ * {@code serial}, see {@link ParallelStage}), the ticks per second, the tick latency percentiles,
+ * the peak number of live actors, the number of restarts, the allocation rate, and the number and
+ * total time of garbage collections (as reported by the JVM's collectors, which for the default
+ * collector is close to the total pause time). Allocation is summed over every live thread, so
+ * the work a parallel stage hands to the fork/join pool is counted along with the simulation
+ * thread; a pool thread that ends during a run takes its share with it, so a parallel run may
+ * report slightly less than it allocated.</p>
+ */
+public final class StressRunner {
+
+	private static final String CSV_HEADER = "level,pilot,stage,enemyCap,spawnProbability,fireRate,ticks,ticksPerSecond,"
+			+ "p50Micros,p90Micros,p99Micros,maxMicros,peakActors,restarts,allocatedMiBPerSecond,allocatedBytesPerTick,gcCount,gcMillis";
+	private static final double NANOS_PER_SECOND = 1e9;
+	private static final double NANOS_PER_MICROSECOND = 1e3;
+	private static final double BYTES_PER_MIB = 1024.0 * 1024.0;
+
+	private List<String> levels = List.of("LevelOne");
+	private double[] enemyCaps = {1};
+	private double[] spawnProbabilities = {1};
+	private double[] fireRates = {1};
+	private int ticks = 20_000;
+	private int warmupTicks = 2_000;
+	private long seed = 42;
+	private Pilot pilot = Pilot.RANDOM;
+
+	private StressRunner() {
+	}
+
+	/**
+	 * Parses the options, makes every run and prints one CSV row per run.
+	 *
+	 * @param args The command-line options.
+	 */
+	public static void main(String[] args) {
+		StressRunner runner = new StressRunner();
+		try {
+			runner.parse(args);
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.err.println("Usage: StressRunner [--level LevelOne,LevelTwo,LevelThree] [--enemies 1,2,4] [--spawn 1]"
+					+ " [--fire 1] [--ticks 20000] [--warmup 2000] [--seed 42] [--pilot idle|scripted|random]");
+			System.exit(2);
+		}
+		runner.runAll();
+	}
+
+	/**
+	 * Reads the command-line options into the settings of the runner.
+	 *
+	 * @param args The command-line options.
+	 * @throws IllegalArgumentException If an option is unknown or has a bad value.
+	 */
+	private void parse(String[] args) {
+		for (int i = 0; i < args.length; i++) {
+			String option = args[i];
+			if (i + 1 == args.length) {
+				throw new IllegalArgumentException("Missing value for " + option);
+			}
+			String value = args[++i];
+			try {
+				switch (option) {
+					case "--level" -> levels = List.of(value.split(","));
+					case "--enemies" -> enemyCaps = parseMultipliers(value);
+					case "--spawn" -> spawnProbabilities = parseMultipliers(value);
+					case "--fire" -> fireRates = parseMultipliers(value);
+					case "--ticks" -> ticks = Integer.parseInt(value);
+					case "--warmup" -> warmupTicks = Integer.parseInt(value);
+					case "--seed" -> seed = Long.parseLong(value);
+					case "--pilot" -> pilot = Pilot.valueOf(value.toUpperCase(Locale.ROOT));
+					default -> throw new IllegalArgumentException("Unknown option " + option);
+				}
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("Bad value for " + option + ": " + value);
+			}
+		}
+		if (ticks < 1 || warmupTicks < 0) {
+			throw new IllegalArgumentException("Ticks must be positive and warmup must not be negative");
+		}
+		for (String level : levels) {
+			LevelRegistry.get(level);
+		}
+	}
+
+	/**
+	 * Parses a comma-separated list of multipliers.
+	 *
+	 * @param value The list.
+	 * @return The multipliers.
+	 */
+	private static double[] parseMultipliers(String value) {
+		return Arrays.stream(value.split(",")).mapToDouble(Double::parseDouble).toArray();
+	}
+
+	/**
+	 * Makes one run for every combination of level and multipliers and prints the results.
+	 */
+	private void runAll() {
+		System.out.println(CSV_HEADER);
+		for (String level : levels) {
+			for (double enemyCap : enemyCaps) {
+				for (double spawnProbability : spawnProbabilities) {
+					for (double fireRate : fireRates) {
+						WorldTuning tuning = new WorldTuning(enemyCap, spawnProbability, fireRate);
+						System.out.println(run(level, tuning));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Warms up and then measures one level with one tuning.
+	 *
+	 * @param level  The name of the level.
+	 * @param tuning The multipliers applied to the level.
+	 * @return The CSV row with the results.
+	 */
+	private String run(String level, WorldTuning tuning) {
+		LongToIntFunction actions = pilot.create(seed);
+		World world = createWorld(level, tuning);
+		for (int i = 0; i < warmupTicks; i++) {
+			world = tick(world, level, tuning, actions);
+		}
+
+		long[] tickNanos = new long[ticks];
+		int peakActors = 0;
+		int restarts = 0;
+		long allocatedBefore = allocatedBytes();
+		long gcCountBefore = gcCount();
+		long gcMillisBefore = gcMillis();
+		long start = System.nanoTime();
+		for (int i = 0; i < ticks; i++) {
+			long tickStart = System.nanoTime();
+			World next = tick(world, level, tuning, actions);
+			tickNanos[i] = System.nanoTime() - tickStart;
+			if (next != world) {
+				restarts++;
+				world = next;
+			}
+			peakActors = Math.max(peakActors, world.getActorCount());
+		}
+		double seconds = (System.nanoTime() - start) / NANOS_PER_SECOND;
+		long allocated = allocatedBytes() - allocatedBefore;
+
+		Arrays.sort(tickNanos);
+		return String.format(Locale.ROOT, "%s,%s,%s,%s,%s,%s,%d,%.0f,%.1f,%.1f,%.1f,%.1f,%d,%d,%.2f,%d,%d,%d",
+				level, pilot.name().toLowerCase(Locale.ROOT), world.getParallelStage().isParallel() ? "parallel" : "serial",
+				tuning.enemyCap(), tuning.spawnProbability(), tuning.fireRate(),
+				ticks, ticks / seconds,
+				percentile(tickNanos, 50) / NANOS_PER_MICROSECOND, percentile(tickNanos, 90) / NANOS_PER_MICROSECOND,
+				percentile(tickNanos, 99) / NANOS_PER_MICROSECOND, tickNanos[ticks - 1] / NANOS_PER_MICROSECOND,
+				peakActors, restarts, allocated < 0 ? -1 : allocated / BYTES_PER_MIB / seconds, allocated < 0 ? -1 : allocated / ticks,
+				gcCount() - gcCountBefore, gcMillis() - gcMillisBefore);
+	}
+
+	/**
+	 * Runs one tick, first starting the level again if it is over.
+	 *
+	 * @param world   The world of the run.
+	 * @param level   The name of the level.
+	 * @param tuning  The multipliers applied to the level.
+	 * @param actions The pilot of the run.
+	 * @return The world that was ticked: the given one, or a new one if the level was over.
+	 */
+	private World tick(World world, String level, WorldTuning tuning, LongToIntFunction actions) {
+		if (world.getOutcome() != World.Outcome.PLAYING) {
+			world = createWorld(level, tuning);
+		}
+		world.setActions(actions.applyAsInt(world.getTickCount()));
+		world.tick();
+		return world;
+	}
+
+	/**
+	 * Creates a world of the level with the seed and tuning of the run.
+	 *
+	 * @param level  The name of the level.
+	 * @param tuning The multipliers applied to the level.
+	 * @return The new world.
+	 */
+	private World createWorld(String level, WorldTuning tuning) {
+		World world = LevelRegistry.createWorld(level, new GameRandom(seed));
+		world.setTuning(tuning);
+		return world;
+	}
+
+	/**
+	 * Returns the value below which the given share of the sorted samples lie (nearest rank).
+	 *
+	 * @param sorted     The samples, in ascending order.
+	 * @param percentile The percentile, in [0, 100].
+	 * @return The sample at that percentile.
+	 */
+	private static long percentile(long[] sorted, double percentile) {
+		int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+		return sorted[Math.clamp(rank - 1, 0, sorted.length - 1)];
+	}
+
+	/**
+	 * Returns the number of bytes allocated so far by the threads that are alive, including the
+	 * fork/join threads a parallel stage runs its chunks on.
+	 *
+	 * @return The number of bytes, or -1 if the JVM does not measure it.
+	 */
+	private static long allocatedBytes() {
+		if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+				&& threads.isThreadAllocatedMemoryEnabled()) {
+			long total = 0;
+			for (long allocated : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+				// A thread that ended since its id was taken reports -1.
+				total += Math.max(0, allocated);
+			}
+			return total;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the number of garbage collections so far, over all collectors.
+	 *
+	 * @return The number of collections.
+	 */
+	private static long gcCount() {
+		long count = 0;
+		for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+			count += Math.max(0, collector.getCollectionCount());
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the time spent in garbage collection so far, over all collectors.
+	 *
+	 * @return The time in milliseconds.
+	 */
+	private static long gcMillis() {
+		long millis = 0;
+		for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+			millis += Math.max(0, collector.getCollectionTime());
+		}
+		return millis;
+	}
+}
@@ -1,9 +1,10 @@
 package com.example.demo.controller;
 
-import com.example.demo.Level.LevelOne;
-import com.example.demo.Level.LevelTwo;
-import com.example.demo.Level.LevelThree;
-import javafx.scene.Scene;
+import com.example.demo.Level.LevelAssets;
+import com.example.demo.Level.LevelParent;
+import com.example.demo.Level.LevelRegistry;
+import com.example.demo.Screen.LoadingScreen;
+import com.example.demo.Screen.SceneManager;
 import javafx.stage.Stage;
 import javafx.scene.media.MediaPlayer;
 
@@ -24,41 +25,17 @@ public class Controller {
 	}
 
 	/**
-	 * Launches Level One of the game.
-	 * Initializes the scene, sets it on the stage, and starts the game.
-	 */
-	public void launchLevelOne() {
-		System.out.println("Launching com.example.demo.Level One...");
-		LevelOne levelOne = new LevelOne(750, 1300, stage, mediaPlayer);
-		Scene scene = levelOne.initializeScene();
-		stage.setScene(scene);
-		stage.show();
-		levelOne.startGame();
-	}
-
-	/**
-	 * Launches Level Two of the game.
-	 * Initializes the scene, sets it on the stage, and starts the game.
-	 */
-	public void launchLevelTwo() {
-		System.out.println("Launching com.example.demo.Level Two...");
-		LevelTwo levelTwo = new LevelTwo(750, 1300, stage, mediaPlayer);
-		Scene scene = levelTwo.initializeScene();
-		stage.setScene(scene);
-		stage.show();
-		levelTwo.startGame();
-	}
-
-	/**
-	 * Launches Level Three of the game.
-	 * Initializes the scene, sets it on the stage, and starts the game.
+	 * Decodes a level's images behind the loading screen, then plays the level. The level is
+	 * created from its factory in the {@link LevelRegistry} the first time it is launched and kept
+	 * by the stage's {@link SceneManager}, so launching it again only resets its game.
+	 *
+	 * @param name The name of the level, e.g. {@code LevelOne}.
+	 * @throws IllegalArgumentException If there is no level of that name.
 	 */
-	public void launchLevelThree() {
-		System.out.println("Launching com.example.demo.Level Three...");
-		LevelThree levelThree = new LevelThree(750, 1300, stage, mediaPlayer);
-		Scene scene = levelThree.initializeScene();
-		stage.setScene(scene);
-		stage.show();
-		levelThree.startGame();
+	public void launchLevel(String name) {
+		LevelRegistry.Entry level = LevelRegistry.get(name);
+		LoadingScreen.of(stage).show(() -> LevelAssets.forLevel(name), () -> SceneManager.of(stage)
+				.getScreen(level, LevelParent.class, () -> LevelRegistry.createLevel(name, stage, mediaPlayer))
+				.play());
 	}
 }
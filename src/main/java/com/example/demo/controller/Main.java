@@ -1,5 +1,6 @@
 package com.example.demo.controller;
 
+import com.example.demo.Level.SaveStore;
 import com.example.demo.Screen.MainMenu;
 import javafx.application.Application;
 import javafx.stage.Stage;
@@ -14,13 +15,20 @@ public class Main extends Application {
 	 */
 	@Override
 	public void start(Stage primaryStage) {
-		MainMenu mainMenu = new MainMenu();
-		mainMenu.start(primaryStage);
+		MainMenu.show(primaryStage);
 
 		// Disable window resizing
 		primaryStage.setResizable(false);
 	}
 
+	/**
+	 * Waits for the progress that is still being saved before the application exits.
+	 */
+	@Override
+	public void stop() {
+		SaveStore.getInstance().flush(SaveStore.EXIT_TIMEOUT_MILLIS);
+	}
+
 	/**
 	 * The main method that launches the JavaFX application.
 	 *
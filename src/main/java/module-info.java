@@ -2,6 +2,9 @@ module com.example.demo {
     requires javafx.controls;
     requires javafx.fxml;
     requires javafx.media;
+    requires java.management;
+    requires jdk.management;
+    requires static java.desktop;
 
     exports com.example.demo.Screen;
     opens com.example.demo.Screen to javafx.fxml;
@@ -16,4 +19,8 @@ module com.example.demo {
     opens com.example.demo.Actor.User to javafx.fxml;
     exports com.example.demo.Actor.Enemy;
     opens com.example.demo.Actor.Enemy to javafx.fxml;
+    exports com.example.demo.Engine;
+    opens com.example.demo.Engine to javafx.fxml;
+    exports com.example.demo.Tools;
+    exports com.example.demo.Audio;
 }
\ No newline at end of file
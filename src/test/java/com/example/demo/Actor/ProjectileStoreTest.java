@@ -0,0 +1,82 @@
+package com.example.demo.Actor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link ProjectileStore#removeDestroyed()} keeps the surviving projectiles in firing
+ * order, each with its own position, velocity and type, also after the arrays have grown.
+ */
+class ProjectileStoreTest {
+
+	private static final int PROJECTILES = 50;
+	private static final ProjectileType[] TYPES = ProjectileType.values();
+
+	/**
+	 * Destroying the first, the last and every third projectile leaves the others in the order they
+	 * were fired, and they keep moving by their own velocity.
+	 */
+	@Test
+	void compactionKeepsFiringOrder() {
+		ProjectileStore store = new ProjectileStore(2);
+		for (int i = 0; i < PROJECTILES; i++) {
+			assertEquals(i, store.spawn(TYPES[i % TYPES.length], i, 10 * i, 1, -i));
+		}
+		store.update();
+		int destroyed = 0;
+		for (int i = 0; i < PROJECTILES; i++) {
+			if (isDestroyed(i)) {
+				store.destroy(i);
+				destroyed++;
+			}
+		}
+
+		assertEquals(destroyed, store.removeDestroyed());
+		assertEquals(PROJECTILES - destroyed, store.size());
+		int kept = 0;
+		for (int fired = 0; fired < PROJECTILES; fired++) {
+			if (isDestroyed(fired)) {
+				continue;
+			}
+			assertTrue(store.isAlive(kept));
+			assertEquals(TYPES[fired % TYPES.length], store.getType(kept), "type of projectile " + fired);
+			assertEquals(fired + 1, store.getX(kept), "x of projectile " + fired);
+			assertEquals(9 * fired, store.getY(kept), "y of projectile " + fired);
+			assertEquals(fired + 0.5, store.getInterpolatedX(kept, 0.5), "previous x of projectile " + fired);
+			kept++;
+		}
+
+		store.update();
+		assertEquals(2 + 2 * 1, store.getX(0));
+		assertEquals(10 * 2 - 2 * 2, store.getY(0));
+	}
+
+	/**
+	 * Removing with nothing destroyed changes nothing, and a cleared store is empty.
+	 */
+	@Test
+	void removeWithoutDestroyedKeepsEverything() {
+		ProjectileStore store = new ProjectileStore();
+		store.spawn(ProjectileType.USER, 1, 2);
+		store.spawn(ProjectileType.BOSS, 3, 4);
+
+		assertEquals(0, store.removeDestroyed());
+		assertEquals(2, store.size());
+		assertEquals(ProjectileType.BOSS, store.getType(1));
+
+		store.clear();
+		assertEquals(0, store.size());
+	}
+
+	/**
+	 * Returns whether the test destroys a projectile: the first, the last and every third.
+	 *
+	 * @param fired The index the projectile was fired at.
+	 * @return true if the projectile is destroyed.
+	 */
+	private static boolean isDestroyed(int fired) {
+		return fired == 0 || fired == PROJECTILES - 1 || fired % 3 == 1;
+	}
+}
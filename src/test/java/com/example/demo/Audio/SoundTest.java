@@ -0,0 +1,38 @@
+package com.example.demo.Audio;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sound.sampled.AudioFileFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.IOException;
+import java.net.URL;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that every {@link Sound} has its clip in the resources, and that a clip is never longer
+ * than the voice it takes, so the voice limits of the {@link SoundEngine} hold.
+ */
+class SoundTest {
+
+	private static final double NANOS_PER_SECOND = 1e9;
+
+	/**
+	 * Every sound has a WAV clip that fits in its voice duration.
+	 */
+	@Test
+	void everySoundHasAClipThatFitsItsVoice() throws IOException, UnsupportedAudioFileException {
+		for (Sound sound : Sound.values()) {
+			URL url = Sound.class.getResource(sound.getResourcePath());
+			assertNotNull(url, "clip of " + sound);
+			AudioFileFormat format = AudioSystem.getAudioFileFormat(url);
+			assertEquals(AudioFileFormat.Type.WAVE, format.getType(), "format of " + sound);
+			double seconds = format.getFrameLength() / (double) format.getFormat().getFrameRate();
+			assertTrue(seconds * NANOS_PER_SECOND <= sound.getDurationNanos(),
+					sound + " lasts " + seconds + " s, longer than its voice");
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package com.example.demo.Engine;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.User.UserPlane;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link ActorRegistry} keeps the index of every actor right while it swaps removed
+ * actors with the last one, by replaying random operations against a plain list.
+ */
+class ActorRegistryTest {
+
+	private static final int ACTORS = 40;
+	private static final int OPERATIONS = 5_000;
+
+	/**
+	 * Removing an actor moves the last actor into its slot, and afterwards every actor is still
+	 * found, and removed, at its new index.
+	 */
+	@Test
+	void swapRemoveKeepsIndices() {
+		List<ActiveActorDestructible> pool = new ArrayList<>();
+		for (int i = 0; i < ACTORS; i++) {
+			pool.add(new UserPlane(1));
+		}
+		ActorRegistry registry = new ActorRegistry();
+		List<ActiveActorDestructible> expected = new ArrayList<>();
+		Random random = new Random(42);
+
+		for (int operation = 0; operation < OPERATIONS; operation++) {
+			ActiveActorDestructible actor = pool.get(random.nextInt(ACTORS));
+			switch (random.nextInt(3)) {
+				case 0 -> {
+					boolean added = !expected.contains(actor);
+					assertEquals(added, registry.add(actor), "add at operation " + operation);
+					if (added) {
+						expected.add(actor);
+					}
+				}
+				case 1 -> {
+					int index = expected.indexOf(actor);
+					assertEquals(index >= 0, registry.remove(actor), "remove at operation " + operation);
+					if (index >= 0) {
+						swapRemove(expected, index);
+					}
+				}
+				default -> {
+					if (!expected.isEmpty()) {
+						int index = random.nextInt(expected.size());
+						assertSame(expected.get(index), registry.remove(index), "remove at operation " + operation);
+						swapRemove(expected, index);
+					}
+				}
+			}
+			assertEquals(expected, registry, "order after operation " + operation);
+			for (ActiveActorDestructible held : pool) {
+				assertEquals(expected.contains(held), registry.contains(held));
+			}
+		}
+	}
+
+	/**
+	 * Clearing the registry forgets every actor, so each can be added again.
+	 */
+	@Test
+	void clearForgetsActors() {
+		ActorRegistry registry = new ActorRegistry();
+		UserPlane actor = new UserPlane(1);
+		registry.add(actor);
+		assertFalse(registry.add(actor));
+
+		registry.clear();
+
+		assertTrue(registry.isEmpty());
+		assertFalse(registry.contains(actor));
+		assertTrue(registry.add(actor));
+		assertSame(actor, registry.getFirst());
+	}
+
+	/**
+	 * Removes an element the way the registry does: the last element takes its place.
+	 *
+	 * @param list  The list.
+	 * @param index The index of the element to remove.
+	 */
+	private static void swapRemove(List<ActiveActorDestructible> list, int index) {
+		ActiveActorDestructible last = list.removeLast();
+		if (index < list.size()) {
+			list.set(index, last);
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package com.example.demo.Engine;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks the file format of {@link InputLog}: what is written is read back unchanged, and a
+ * damaged file is rejected with an {@link IOException}.
+ */
+class InputLogTest {
+
+	private static final int MAGIC = 0x53424952;
+	private static final int VERSION = 1;
+
+	@TempDir
+	Path directory;
+
+	/**
+	 * Runs of one, two and three variable-length bytes are read back as they were recorded.
+	 */
+	@Test
+	void roundTripKeepsEveryRun() throws IOException {
+		InputRecorder recorder = new InputRecorder("LevelTwo", -42L);
+		recordRun(recorder, 0, 1);
+		recordRun(recorder, PlayerAction.MOVE_UP.mask(), 127);
+		recordRun(recorder, PlayerAction.MOVE_UP.mask() | PlayerAction.FIRE.mask(), 128);
+		recordRun(recorder, 0, 20_000);
+		recordRun(recorder, 0xFF, 3);
+		InputLog written = recorder.toLog();
+		Path file = directory.resolve("session.sbir");
+		written.write(file);
+
+		InputLog read = InputLog.read(file);
+
+		assertEquals("LevelTwo", read.getLevel());
+		assertEquals(-42L, read.getSeed());
+		assertEquals(written.getTickCount(), read.getTickCount());
+		assertEquals(1 + 127 + 128 + 20_000 + 3, read.getTickCount());
+		assertEquals(written.getRunCount(), read.getRunCount());
+		for (int run = 0; run < written.getRunCount(); run++) {
+			assertEquals(written.getMask(run), read.getMask(run), "mask of run " + run);
+			assertEquals(written.getRunLength(run), read.getRunLength(run), "length of run " + run);
+		}
+	}
+
+	/**
+	 * A log cut off in the middle of its runs is rejected.
+	 */
+	@Test
+	void truncatedLogIsRejected() throws IOException {
+		InputRecorder recorder = new InputRecorder("LevelOne", 7L);
+		recordRun(recorder, 1, 500);
+		recordRun(recorder, 2, 500);
+		Path file = directory.resolve("truncated.sbir");
+		recorder.toLog().write(file);
+		byte[] bytes = Files.readAllBytes(file);
+		Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+
+		assertThrows(IOException.class, () -> InputLog.read(file));
+	}
+
+	/**
+	 * A run count larger than the file could hold is rejected before anything is allocated for it.
+	 */
+	@Test
+	void impossibleRunCountIsRejected() throws IOException {
+		Path file = writeHeader("huge.sbir", new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0x7F});
+
+		assertThrows(IOException.class, () -> InputLog.read(file));
+	}
+
+	/**
+	 * A run count that decodes to a negative number is rejected.
+	 */
+	@Test
+	void negativeRunCountIsRejected() throws IOException {
+		byte[] negative = new byte[10];
+		Arrays.fill(negative, (byte) 0xFF);
+		negative[9] = 0x01;
+		Path file = writeHeader("negative.sbir", negative);
+
+		assertThrows(IOException.class, () -> InputLog.read(file));
+	}
+
+	/**
+	 * A file that does not start with the magic number is rejected.
+	 */
+	@Test
+	void foreignFileIsRejected() throws IOException {
+		Path file = directory.resolve("foreign.sbir");
+		Files.write(file, new byte[]{'P', 'K', 3, 4, 0, 0, 0, 0});
+
+		assertThrows(IOException.class, () -> InputLog.read(file));
+	}
+
+	/**
+	 * Records the same mask for a number of ticks.
+	 *
+	 * @param recorder The recorder.
+	 * @param mask     The action mask.
+	 * @param ticks    The number of ticks.
+	 */
+	private static void recordRun(InputRecorder recorder, int mask, int ticks) {
+		for (int i = 0; i < ticks; i++) {
+			recorder.record(mask);
+		}
+	}
+
+	/**
+	 * Writes a log header followed by raw bytes in place of the run count.
+	 *
+	 * @param name     The name of the file.
+	 * @param runCount The encoded run count.
+	 * @return The file.
+	 * @throws IOException If the file cannot be written.
+	 */
+	private Path writeHeader(String name, byte[] runCount) throws IOException {
+		Path file = directory.resolve(name);
+		try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(file))) {
+			out.writeInt(MAGIC);
+			out.writeByte(VERSION);
+			out.writeUTF("LevelOne");
+			out.writeLong(0L);
+			out.write(runCount);
+		}
+		return file;
+	}
+}
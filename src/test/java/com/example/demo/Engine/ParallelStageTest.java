@@ -0,0 +1,149 @@
+package com.example.demo.Engine;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.ProjectileStore;
+import com.example.demo.Actor.ProjectileType;
+import com.example.demo.Level.LevelRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that a parallel {@link ParallelStage} gives the same results as {@link ParallelStage#SERIAL}:
+ * every item is visited once, the grid reports the same hits in the same order, and a world
+ * plays out tick for tick as it does on one thread.
+ */
+class ParallelStageTest {
+
+	private static final int THREADS = 4;
+	private static final ForkJoinPool POOL = new ForkJoinPool(THREADS);
+	private static final ParallelStage PARALLEL = new ParallelStage(POOL);
+
+	/**
+	 * Shuts down the pool of the parallel stage.
+	 */
+	@AfterAll
+	static void shutDownPool() {
+		POOL.shutdown();
+	}
+
+	/**
+	 * The chunks cover every index exactly once, and are numbered in the order of their items.
+	 */
+	@Test
+	void chunksCoverEveryIndexOnce() {
+		int size = 10_000;
+		int chunks = PARALLEL.chunkCount(size, 100);
+		assertTrue(chunks > 1);
+		int[] visits = new int[size];
+		int[][] bounds = new int[chunks][];
+
+		PARALLEL.forEachChunk(size, 100, (chunk, from, to) -> {
+			bounds[chunk] = new int[] {from, to};
+			for (int i = from; i < to; i++) {
+				visits[i]++;
+			}
+		});
+
+		for (int i = 0; i < size; i++) {
+			assertEquals(1, visits[i], "visits of index " + i);
+		}
+		assertEquals(0, bounds[0][0]);
+		for (int chunk = 1; chunk < chunks; chunk++) {
+			assertEquals(bounds[chunk - 1][1], bounds[chunk][0], "start of chunk " + chunk);
+		}
+		assertEquals(size, bounds[chunks - 1][1]);
+	}
+
+	/**
+	 * A grid on a parallel stage reports the same pairs, in the same order, as a serial grid, for
+	 * querying lists long enough to be split into chunks.
+	 */
+	@Test
+	void gridHitsMatchSerial() {
+		Random random = new Random(3);
+		SpatialGridBroadphase serial = new SpatialGridBroadphase(1300, 750);
+		SpatialGridBroadphase parallel = new SpatialGridBroadphase(1300, 750);
+		parallel.setParallelStage(PARALLEL);
+		ProjectileType[] types = ProjectileType.values();
+		for (int scene = 0; scene < 10; scene++) {
+			List<ActiveActorDestructible> actors1 = SpatialGridBroadphaseTest.actors(random, 200);
+			List<ActiveActorDestructible> actors2 = SpatialGridBroadphaseTest.actors(random, 600);
+			ProjectileStore projectiles = new ProjectileStore();
+			for (int i = 0; i < 500; i++) {
+				projectiles.spawn(types[random.nextInt(types.length)], random.nextDouble(1300), random.nextDouble(750));
+			}
+
+			List<List<Object>> expected = new ArrayList<>();
+			serial.findCollisions(actors1, actors2, (actor, other) -> expected.add(List.of(actor, other)));
+			serial.findCollisions(projectiles, actors2, (actor, projectile) -> expected.add(List.of(actor, projectile)));
+			List<List<Object>> found = new ArrayList<>();
+			parallel.findCollisions(actors1, actors2, (actor, other) -> found.add(List.of(actor, other)));
+			parallel.findCollisions(projectiles, actors2, (actor, projectile) -> found.add(List.of(actor, projectile)));
+
+			assertTrue(expected.size() > 0);
+			assertEquals(expected, found, "hits of scene " + scene);
+		}
+	}
+
+	/**
+	 * A crowded level played on a parallel stage is in the same state after every tick as the
+	 * same level played serially with the same seed and inputs.
+	 */
+	@Test
+	void worldMatchesSerial() {
+		WorldTuning crowded = new WorldTuning(60, 4, 2);
+		World serial = LevelRegistry.createWorld("LevelTwo", new GameRandom(11));
+		World parallel = LevelRegistry.createWorld("LevelTwo", new GameRandom(11));
+		serial.setParallelStage(ParallelStage.SERIAL);
+		parallel.setParallelStage(PARALLEL);
+		serial.setTuning(crowded);
+		parallel.setTuning(crowded);
+
+		int peakEnemies = 0;
+		while (serial.getOutcome() == World.Outcome.PLAYING && serial.getTickCount() < 1_500) {
+			long tick = serial.getTickCount();
+			int actions = PlayerAction.FIRE.mask()
+					| ((tick / 40) % 2 == 0 ? PlayerAction.MOVE_UP.mask() : PlayerAction.MOVE_DOWN.mask());
+			serial.setActions(actions);
+			parallel.setActions(actions);
+			serial.tick();
+			parallel.tick();
+
+			assertEquals(state(serial), state(parallel), "state after tick " + tick);
+			peakEnemies = Math.max(peakEnemies, serial.getCurrentNumberOfEnemies());
+		}
+		assertTrue(peakEnemies > 128, "the level should be crowded enough to split the enemies: " + peakEnemies);
+	}
+
+	/**
+	 * Describes the state of a world that the stage could affect.
+	 *
+	 * @param world The world.
+	 * @return The outcome, the player's health and kills, and the position of every enemy and projectile.
+	 */
+	private static List<Object> state(World world) {
+		List<Object> state = new ArrayList<>();
+		state.add(world.getOutcome());
+		state.add(world.getUser().getHealth());
+		state.add(world.getUser().getNumberOfKills());
+		for (ActiveActorDestructible enemy : world.getEnemyUnits()) {
+			state.add(enemy.getX());
+			state.add(enemy.getY());
+		}
+		for (ProjectileStore projectiles : List.of(world.getUserProjectiles(), world.getEnemyProjectiles())) {
+			for (int i = 0; i < projectiles.size(); i++) {
+				state.add(projectiles.getX(i));
+				state.add(projectiles.getY(i));
+			}
+		}
+		return state;
+	}
+}
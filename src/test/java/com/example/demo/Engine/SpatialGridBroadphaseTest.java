@@ -0,0 +1,110 @@
+package com.example.demo.Engine;
+
+import com.example.demo.Actor.ActiveActorDestructible;
+import com.example.demo.Actor.ProjectileStore;
+import com.example.demo.Actor.ProjectileType;
+import com.example.demo.Actor.User.UserPlane;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link SpatialGridBroadphase} reports exactly the pairs {@link BruteForceBroadphase}
+ * reports, in the same order, for random scenes that include sprites outside the playfield.
+ */
+class SpatialGridBroadphaseTest {
+
+	private static final double WIDTH = 1300;
+	private static final double HEIGHT = 750;
+	private static final double MARGIN = 150;
+	private static final int SCENES = 50;
+
+	/**
+	 * Actor pairs match a brute-force scan, with one grid reused across scenes of different sizes.
+	 */
+	@Test
+	void actorPairsMatchBruteForce() {
+		Random random = new Random(42);
+		SpatialGridBroadphase grid = new SpatialGridBroadphase(WIDTH, HEIGHT);
+		BruteForceBroadphase bruteForce = new BruteForceBroadphase();
+		int hits = 0;
+		for (int scene = 0; scene < SCENES; scene++) {
+			List<ActiveActorDestructible> actors1 = actors(random, 1 + random.nextInt(80));
+			List<ActiveActorDestructible> actors2 = actors(random, 1 + random.nextInt(20));
+
+			List<List<Object>> expected = new ArrayList<>();
+			bruteForce.findCollisions(actors1, actors2, (actor, other) -> expected.add(List.of(actor, other)));
+			List<List<Object>> found = new ArrayList<>();
+			grid.findCollisions(actors1, actors2, (actor, other) -> found.add(List.of(actor, other)));
+
+			assertEquals(expected, found, "pairs of scene " + scene);
+			hits += expected.size();
+		}
+		assertTrue(hits > 0, "the scenes should contain intersecting pairs");
+	}
+
+	/**
+	 * Projectile pairs match a brute-force scan, including projectiles already destroyed.
+	 */
+	@Test
+	void projectilePairsMatchBruteForce() {
+		Random random = new Random(7);
+		SpatialGridBroadphase grid = new SpatialGridBroadphase(WIDTH, HEIGHT);
+		BruteForceBroadphase bruteForce = new BruteForceBroadphase();
+		ProjectileType[] types = ProjectileType.values();
+		int hits = 0;
+		for (int scene = 0; scene < SCENES; scene++) {
+			ProjectileStore projectiles = new ProjectileStore();
+			int count = 1 + random.nextInt(400);
+			for (int i = 0; i < count; i++) {
+				projectiles.spawn(types[random.nextInt(types.length)], coordinate(random, WIDTH), coordinate(random, HEIGHT));
+				if (random.nextInt(10) == 0) {
+					projectiles.destroy(i);
+				}
+			}
+			List<ActiveActorDestructible> actors = actors(random, 1 + random.nextInt(20));
+
+			List<List<Object>> expected = new ArrayList<>();
+			bruteForce.findCollisions(projectiles, actors, (actor, projectile) -> expected.add(List.of(actor, projectile)));
+			List<List<Object>> found = new ArrayList<>();
+			grid.findCollisions(projectiles, actors, (actor, projectile) -> found.add(List.of(actor, projectile)));
+
+			assertEquals(expected, found, "pairs of scene " + scene);
+			hits += expected.size();
+		}
+		assertTrue(hits > 0, "the scenes should contain intersecting pairs");
+	}
+
+	/**
+	 * Creates planes at random positions in and around the playfield.
+	 *
+	 * @param random The random numbers of the test.
+	 * @param count  The number of planes.
+	 * @return The planes.
+	 */
+	static List<ActiveActorDestructible> actors(Random random, int count) {
+		List<ActiveActorDestructible> actors = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			UserPlane plane = new UserPlane(1);
+			plane.respawn(coordinate(random, WIDTH), coordinate(random, HEIGHT));
+			actors.add(plane);
+		}
+		return actors;
+	}
+
+	/**
+	 * Draws a coordinate along one axis of the playfield, up to a margin beyond either edge.
+	 *
+	 * @param random The random numbers of the test.
+	 * @param extent The size of the playfield along the axis.
+	 * @return The coordinate.
+	 */
+	private static double coordinate(Random random, double extent) {
+		return random.nextDouble(-MARGIN, extent + MARGIN);
+	}
+}
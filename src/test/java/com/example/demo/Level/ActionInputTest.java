@@ -0,0 +1,89 @@
+package com.example.demo.Level;
+
+import com.example.demo.Engine.PlayerAction;
+import javafx.scene.input.KeyCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the per-tick snapshots of {@link ActionInput}: held actions, taps between two ticks, and
+ * the pressed and released edges, with the default key bindings.
+ */
+class ActionInputTest {
+
+	private static final int FIRE = PlayerAction.FIRE.mask();
+	private static final int UP = PlayerAction.MOVE_UP.mask();
+
+	@TempDir
+	Path directory;
+
+	private ActionInput input;
+
+	/**
+	 * Creates an input with the default bindings, read from a file that does not exist.
+	 */
+	@BeforeEach
+	void createInput() {
+		input = new ActionInput(InputBindings.load(directory.resolve("keybindings.properties")));
+	}
+
+	/**
+	 * A key pressed and released between two ticks is held for the next tick and reported as
+	 * both pressed and released, and is gone on the tick after.
+	 */
+	@Test
+	void tapBetweenTicksIsNotLost() {
+		input.keyPressed(KeyCode.SPACE);
+		input.keyReleased(KeyCode.SPACE);
+
+		assertEquals(FIRE, input.snapshot());
+		assertEquals(FIRE, input.getPressed());
+		assertEquals(FIRE, input.getReleased());
+
+		assertEquals(0, input.snapshot());
+		assertEquals(0, input.getPressed());
+		assertEquals(0, input.getReleased());
+	}
+
+	/**
+	 * A held key is pressed on the first tick only, key repeats add no edges, and the release is
+	 * reported on the tick after the key went up.
+	 */
+	@Test
+	void edgesFollowHeldKeys() {
+		input.keyPressed(KeyCode.W);
+		assertEquals(UP, input.snapshot());
+		assertEquals(UP, input.getPressed());
+
+		input.keyPressed(KeyCode.W);
+		input.keyPressed(KeyCode.SPACE);
+		assertEquals(UP | FIRE, input.snapshot());
+		assertEquals(FIRE, input.getPressed());
+		assertEquals(0, input.getReleased());
+
+		input.keyReleased(KeyCode.W);
+		assertEquals(FIRE, input.snapshot());
+		assertEquals(FIRE, input.getActions());
+		assertEquals(0, input.getPressed());
+		assertEquals(UP, input.getReleased());
+	}
+
+	/**
+	 * Clearing the input forgets held keys and pending edges, and unbound keys are ignored.
+	 */
+	@Test
+	void clearForgetsEverything() {
+		input.keyPressed(KeyCode.W);
+		input.keyPressed(KeyCode.Q);
+		input.clear();
+
+		assertEquals(0, input.snapshot());
+		assertEquals(0, input.getPressed());
+		assertEquals(0, input.getReleased());
+	}
+}
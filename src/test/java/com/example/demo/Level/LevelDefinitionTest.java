@@ -0,0 +1,180 @@
+package com.example.demo.Level;
+
+import com.example.demo.Actor.Enemy.EnemyType;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that {@link LevelDefinition} reads the shipped level files, and that a mistake in a level
+ * file is reported with the file name and line instead of producing a broken level.
+ */
+class LevelDefinitionTest {
+
+	private static final String HEADER = """
+			background /com/example/demo/images/background1.png
+			player health=5
+			goal kills=10
+			enemy plane kind=plane
+			""";
+
+	/**
+	 * Every level in the index loads.
+	 */
+	@Test
+	void shippedLevelsLoad() {
+		List<String> names = LevelDefinition.loadIndex();
+		assertFalse(names.isEmpty());
+		for (String name : names) {
+			LevelDefinition definition = LevelDefinition.load(name);
+			assertEquals(name, definition.name());
+			assertFalse(definition.waves().isEmpty(), name);
+		}
+	}
+
+	/**
+	 * Settings, comments and mix weights end up in the definition.
+	 */
+	@Test
+	void validFileIsParsed() throws IOException {
+		LevelDefinition definition = parse(HEADER + """
+				enemy elite kind=elite health=9 path=wave amplitude=30 period=40   # a comment
+				wave enemies=4 chance=.25 mix=elite:1,plane:3 count=12
+				wave enemies=2 chance=1 mix=plane
+				""");
+
+		assertEquals(5, definition.playerHealth());
+		assertEquals(10, definition.killsToWin());
+		EnemyType elite = definition.enemyTypes().get(1);
+		assertEquals(9, elite.health());
+		assertEquals(30, elite.pathAmplitude());
+		LevelDefinition.Wave first = definition.waves().getFirst();
+		assertEquals(0.25, first.chance());
+		assertEquals(List.of(1.0, 3.0), first.weights());
+		assertTrue(first.isFinite());
+		assertFalse(definition.waves().get(1).isFinite());
+	}
+
+	/**
+	 * A chance that is not a number is rejected, though no comparison with it is false.
+	 */
+	@Test
+	void notANumberChanceIsRejected() {
+		assertError("Test.level:5:", HEADER + "wave enemies=3 chance=NaN mix=plane\n");
+	}
+
+	/**
+	 * Infinite stats are rejected.
+	 */
+	@Test
+	void infiniteSpeedIsRejected() {
+		assertError("Test.level:5:", HEADER + "enemy fast kind=plane speed=Infinity\nwave enemies=3 chance=.1 mix=fast\n");
+	}
+
+	/**
+	 * A chance above 1 is rejected.
+	 */
+	@Test
+	void chanceAboveOneIsRejected() {
+		assertError("Test.level:5:", HEADER + "wave enemies=3 chance=1.5 mix=plane\n");
+	}
+
+	/**
+	 * A wave of an enemy that is not defined is rejected at the line of the wave.
+	 */
+	@Test
+	void unknownEnemyIsRejected() {
+		assertError("Test.level:6:", HEADER + "\nwave enemies=3 chance=.1 mix=ghost\n");
+	}
+
+	/**
+	 * A boss that shares its wave with other enemies is rejected.
+	 */
+	@Test
+	void bossMustAppearAlone() {
+		assertError("Test.level:6:", HEADER + """
+				enemy boss kind=boss
+				wave enemies=1 chance=1 mix=boss,plane count=1
+				wave enemies=3 chance=.1 mix=plane
+				""");
+	}
+
+	/**
+	 * A phase may come before the boss it belongs to.
+	 */
+	@Test
+	void phaseMayPrecedeItsBoss() throws IOException {
+		LevelDefinition definition = parse(HEADER + """
+				phase boss below=20 fireRate=.1 shieldChance=.02
+				enemy boss kind=boss health=50
+				wave enemies=1 chance=1 mix=boss count=1
+				wave enemies=3 chance=.1 mix=plane
+				""");
+
+		EnemyType boss = definition.enemyTypes().get(1);
+		assertEquals(List.of(new EnemyType.Phase(20, 0.1, 0.02)), boss.phases());
+	}
+
+	/**
+	 * A phase of an enemy that is never defined is rejected at the line of the phase.
+	 */
+	@Test
+	void phaseOfUnknownEnemyIsRejected() {
+		assertError("Test.level:5:", HEADER + """
+				phase ghost below=20 fireRate=.1 shieldChance=.02
+				wave enemies=3 chance=.1 mix=plane
+				""");
+	}
+
+	/**
+	 * A phase that starts at or above the boss's health, so the boss's own stats would never
+	 * apply, is rejected at the line of the phase.
+	 */
+	@Test
+	void phaseAboveBossHealthIsRejected() {
+		assertError("Test.level:6:", HEADER + """
+				enemy boss kind=boss health=50
+				phase boss below=50 fireRate=.1 shieldChance=.02
+				wave enemies=1 chance=1 mix=boss count=1
+				wave enemies=3 chance=.1 mix=plane
+				""");
+	}
+
+	/**
+	 * A file without waves is rejected.
+	 */
+	@Test
+	void missingWavesAreRejected() {
+		assertError("Missing waves", HEADER);
+	}
+
+	/**
+	 * Parses a level file named {@code Test.level}.
+	 *
+	 * @param text The contents of the file.
+	 * @return The definition.
+	 * @throws IOException If the text cannot be read.
+	 */
+	private static LevelDefinition parse(String text) throws IOException {
+		return LevelDefinition.parse("Test", "Test.level", new BufferedReader(new StringReader(text)));
+	}
+
+	/**
+	 * Checks that a level file is rejected with a message containing the given text.
+	 *
+	 * @param expected Text the message must contain, e.g. the file name and line.
+	 * @param text     The contents of the file.
+	 */
+	private static void assertError(String expected, String text) {
+		IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> parse(text));
+		assertTrue(error.getMessage().contains(expected), error.getMessage());
+	}
+}
@@ -0,0 +1,122 @@
+package com.example.demo.Level;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the save file format of {@link SaveStore}: a saved store loads back unchanged, and a
+ * file with a wrong checksum, version or length loads as an empty store instead of failing.
+ */
+class SaveStoreTest {
+
+	private static final int VERSION_OFFSET = Integer.BYTES;
+
+	@TempDir
+	Path directory;
+
+	/**
+	 * Progress and settings written in the background are loaded back from the file.
+	 */
+	@Test
+	void savedProgressLoadsBack() {
+		Path file = directory.resolve("progress.dat");
+		SaveStore store = SaveStore.load(file);
+		store.recordGame("LevelOne", true, 12);
+		store.recordGame("LevelTwo", false, 30);
+		store.putSetting(SaveStore.VOLUME, 0.25);
+		store.flush(SaveStore.EXIT_TIMEOUT_MILLIS);
+
+		SaveStore loaded = SaveStore.load(file);
+
+		assertTrue(loaded.isCompleted("LevelOne"));
+		assertFalse(loaded.isCompleted("LevelTwo"));
+		assertEquals(12, loaded.getBestScore("LevelOne"));
+		assertEquals(30, loaded.getBestScore("LevelTwo"));
+		assertEquals(0.25, loaded.getSetting(SaveStore.VOLUME, 1.0));
+	}
+
+	/**
+	 * A single changed payload byte, here in a best score, fails the checksum, and the progress
+	 * is dropped rather than loaded with a wrong score.
+	 */
+	@Test
+	void damagedPayloadIsIgnored() throws IOException {
+		byte[] bytes = completedLevelOne();
+		bytes[bytes.length - Short.BYTES - 1] ^= 0x01;
+
+		assertEmpty(write("damaged.dat", bytes));
+	}
+
+	/**
+	 * A file of another format version is ignored.
+	 */
+	@Test
+	void otherVersionIsIgnored() throws IOException {
+		byte[] bytes = completedLevelOne();
+		bytes[VERSION_OFFSET]++;
+
+		assertEmpty(write("version.dat", bytes));
+	}
+
+	/**
+	 * A file cut off in its payload is ignored.
+	 */
+	@Test
+	void truncatedFileIsIgnored() throws IOException {
+		byte[] bytes = completedLevelOne();
+
+		assertEmpty(write("truncated.dat", Arrays.copyOf(bytes, bytes.length - 2)));
+	}
+
+	/**
+	 * A missing file is an empty store.
+	 */
+	@Test
+	void missingFileIsEmpty() {
+		assertEmpty(directory.resolve("missing.dat"));
+	}
+
+	/**
+	 * Encodes a store in which LevelOne is completed.
+	 *
+	 * @return The bytes of the save file.
+	 */
+	private byte[] completedLevelOne() {
+		SaveStore store = SaveStore.load(directory.resolve("unused.dat"));
+		store.recordGame("LevelOne", true, 5);
+		store.flush(SaveStore.EXIT_TIMEOUT_MILLIS);
+		return store.encode();
+	}
+
+	/**
+	 * Writes bytes to a file in the test directory.
+	 *
+	 * @param name  The name of the file.
+	 * @param bytes The contents.
+	 * @return The file.
+	 * @throws IOException If the file cannot be written.
+	 */
+	private Path write(String name, byte[] bytes) throws IOException {
+		return Files.write(directory.resolve(name), bytes);
+	}
+
+	/**
+	 * Checks that a file loads as a store without progress.
+	 *
+	 * @param file The save file.
+	 */
+	private static void assertEmpty(Path file) {
+		SaveStore store = SaveStore.load(file);
+		assertFalse(store.isCompleted("LevelOne"));
+		assertEquals(0, store.getBestScore("LevelOne"));
+	}
+}
@@ -0,0 +1,118 @@
+package com.example.demo.Level;
+
+import com.example.demo.Actor.Enemy.EnemyType;
+import com.example.demo.Engine.GameRandom;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the schedule of {@link SpawnTable}: scheduled enemies are released in the order of their
+ * ticks, and the drawn delays have the same distribution as a roll of the wave's chance per tick.
+ */
+class SpawnTableTest {
+
+	private static final long SEED = 42;
+	private static final int SAMPLES = 20_000;
+
+	/**
+	 * Enemies scheduled in two batches, the second while the first is being released, come out
+	 * of the heap in the order of their ticks, and none is lost.
+	 */
+	@Test
+	void enemiesAreReleasedInTickOrder() throws IOException {
+		SpawnTable table = table(0.05, 0);
+		GameRandom random = new GameRandom(SEED);
+		table.schedule(500, 0, 0.05, random);
+
+		List<Long> released = new ArrayList<>();
+		for (long tick = 0; table.getScheduled() > 0 || tick <= 20; tick++) {
+			if (tick == 20) {
+				table.schedule(500, tick, 0.05, random);
+			}
+			assertFalse(table.isDue(tick - 1), "an earlier enemy is still scheduled at tick " + tick);
+			while (table.isDue(tick)) {
+				table.release();
+				released.add(tick);
+			}
+		}
+
+		assertEquals(1000, released.size());
+	}
+
+	/**
+	 * The delay until an enemy appears follows the geometric distribution of the number of failed
+	 * rolls before the first success: it is 0 with the wave's chance p, and (1 - p) / p on average.
+	 */
+	@Test
+	void delaysMatchOneRollPerTick() throws IOException {
+		for (double chance : new double[] {0.5, 0.1, 0.01}) {
+			SpawnTable table = table(chance, 0);
+			table.schedule(SAMPLES, 0, chance, new GameRandom(SEED));
+
+			long total = 0;
+			int immediate = 0;
+			for (long tick = 0; table.getScheduled() > 0; tick++) {
+				while (table.isDue(tick)) {
+					table.release();
+					total += tick;
+					immediate += tick == 0 ? 1 : 0;
+				}
+			}
+
+			double expectedMean = (1 - chance) / chance;
+			assertEquals(expectedMean, (double) total / SAMPLES, expectedMean * 0.03 + 0.01, "mean delay for chance " + chance);
+			assertEquals(chance, (double) immediate / SAMPLES, 0.01, "share of enemies without delay for chance " + chance);
+		}
+	}
+
+	/**
+	 * A wave with a chance of 1 schedules its enemies for the current tick, and a wave with a
+	 * count never schedules more enemies than it has left to send.
+	 */
+	@Test
+	void certainWaveAndCountAreRespected() throws IOException {
+		SpawnTable table = table(1, 3);
+		table.schedule(10, 7, 1, new GameRandom(SEED));
+
+		assertEquals(3, table.getScheduled());
+		assertFalse(table.isDue(6));
+		assertTrue(table.isDue(7));
+		for (int i = 0; i < 3; i++) {
+			table.release();
+			table.spawned();
+		}
+		table.schedule(10, 8, 1, new GameRandom(SEED));
+		assertEquals(0, table.getScheduled());
+		assertTrue(table.isFinished());
+	}
+
+	/**
+	 * Compiles the table of a one-type wave, of the plane type of a level file.
+	 *
+	 * @param chance The chance per tick of the wave.
+	 * @param count  The number of enemies the wave sends, or 0 if it never ends.
+	 * @return The table.
+	 * @throws IOException If the level text cannot be read.
+	 */
+	private static SpawnTable table(double chance, int count) throws IOException {
+		String text = """
+				background /com/example/demo/images/background1.png
+				player health=5
+				goal kills=10
+				enemy plane kind=plane
+				wave enemies=1 chance=1 mix=plane
+				""";
+		EnemyType plane = LevelDefinition.parse("Test", "Test.level", new BufferedReader(new StringReader(text)))
+				.enemyTypes().getFirst();
+		return new SpawnTable(new LevelDefinition.Wave(1, chance, List.of(plane), List.of(1.0), count));
+	}
+}